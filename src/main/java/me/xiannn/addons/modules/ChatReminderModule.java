@@ -3,6 +3,12 @@ package me.xiannn.addons.modules;
 import me.xiannn.addons.AddonLogger;
 import me.xiannn.addons.AddonModule;
 import me.xiannn.addons.XiannnAddons;
+import me.xiannn.addons.modules.reminder.AudienceSegments;
+import me.xiannn.addons.modules.reminder.SeenTips;
+import me.xiannn.addons.modules.reminder.TipLocales;
+import me.xiannn.addons.modules.reminder.TipPlaceholders;
+import me.xiannn.addons.modules.reminder.TipScheduler;
+import me.xiannn.addons.modules.staff.util.TimeUtil;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.sound.Sound;
 import net.kyori.adventure.text.Component;
@@ -17,7 +23,10 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerCommandSendEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerLocaleChangeEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scheduler.BukkitTask;
@@ -37,7 +46,6 @@ import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
 
@@ -55,6 +63,22 @@ import java.util.UUID;
  *   <li><b>Lazy save with dirty flag</b> — {@code players.yml} is
  *       only written to disk when a toggle actually changes, not on
  *       every join or broadcast.</li>
+ *   <li><b>Precomputed audience segments</b> — tip audience
+ *       conditions are compiled at load; each player's membership
+ *       is a small bitset updated on join, world change and
+ *       permission change. A broadcast tests one bit per player.</li>
+ *   <li><b>Seen-tip bitmaps</b> — each online player has a
+ *       {@code long[]} of tips already sent, so every player gets a
+ *       tip they have not seen. Read on join and written on a
+ *       background thread; offline players cost no memory.</li>
+ *   <li><b>Pre-parsed translations</b> — locale variants are parsed
+ *       at load like the default text, with fallbacks resolved per
+ *       locale. Each player's locale is mapped to an id on join and
+ *       on language change, so a broadcast does one list lookup.</li>
+ *   <li><b>Placeholder templates</b> — tips using {@code {slot}}
+ *       placeholders are flagged at load; only those are filled in
+ *       per recipient, by text replacement on the pre-built lines.
+ *       The formatting pipeline never runs again.</li>
  * </ol>
  *
  * <h3>File layout</h3>
@@ -62,8 +86,11 @@ import java.util.UUID;
  * plugins/XiannnAddons/ChatReminder/
  * ├── config.yml          — delay, order, sound settings
  * ├── players.yml         — per-player toggle persistence
+ * ├── rotation.yml        — tip rotation state (cursor, bag, cooldowns)
+ * ├── seen/               — per-player seen tips, {@code <uuid>.txt}
  * └── messages/           — one .yml file per tip
  *     ├── tip_1.yml
+ *     ├── tip_1.es_es.yml — optional translation of tip_1
  *     ├── tip_2.yml
  *     └── ...
  * </pre>
@@ -79,12 +106,14 @@ public final class ChatReminderModule implements AddonModule, Listener {
     /* ================================================================== */
 
     private int     delaySeconds   = 300;
-    private boolean randomOrder    = false;
+    private TipScheduler.Order order = TipScheduler.Order.LINEAR;
     private boolean soundEnabled   = true;
     private Key     soundKey       = Key.key("block.note_block.chime");
     private float   soundVolume    = 0.5F;
     private float   soundPitch     = 1.2F;
     private boolean defaultEnabled = true;
+    private long    newPlayerMinutes = 60;
+    private boolean unseenFirst    = true;
 
     /* ================================================================== */
     /*  Pre-parsed messages                                                 */
@@ -103,6 +132,71 @@ public final class ChatReminderModule implements AddonModule, Listener {
      */
     private List<List<String>> rawMessagesDebug = new ArrayList<>();
 
+    /**
+     * Audience segment of each tip, parallel to {@link #parsedMessages};
+     * {@link AudienceSegments#EVERYONE} for tips without conditions.
+     */
+    private final List<Integer> tipSegments = new ArrayList<>();
+
+    /** Tip file names — stable ids for saved rotation state. */
+    private final List<String> tipIds = new ArrayList<>();
+
+    /**
+     * Each tip's lines per locale id, parallel to
+     * {@link #parsedMessages}. Fallbacks are already resolved, so
+     * every entry is sendable as-is.
+     */
+    private final List<List<List<Component>>> localizedMessages =
+            new ArrayList<>();
+
+    private final TipLocales locales = new TipLocales();
+
+    /**
+     * Whether each tip (or any translation of it) has {@code {slot}}
+     * placeholders, parallel to {@link #parsedMessages}. Static tips
+     * are sent as-is.
+     */
+    private final List<Boolean> tipTemplates = new ArrayList<>();
+
+    /** Slot providers; see {@link #getPlaceholders()}. */
+    private final TipPlaceholders placeholders;
+
+    /** Tips translated per locale id, for reload feedback. */
+    private int[] localeCoverage = new int[0];
+
+    /**
+     * Locale id of each online player, {@link TipLocales#DEFAULT}
+     * if untranslated. Updated on join and language change.
+     */
+    private final Map<UUID, Integer> playerLocales = new HashMap<>();
+
+    /* ================================================================== */
+    /*  Audience segments                                                   */
+    /*  Optimization #4: membership worked out on events, not per tip.     */
+    /* ================================================================== */
+
+    private final AudienceSegments segments = new AudienceSegments();
+
+    /**
+     * Segment bits of each online player. Updated by:
+     * {@link #onPlayerJoin}, {@link #onWorldChange},
+     * {@link #onCommandsSent} (permission changes), the playtime
+     * refresh task and {@link #rebuildEligibleCache}.
+     */
+    private final Map<UUID, long[]> playerSegments = new HashMap<>();
+
+    /** Tips of each segment, by bit; built in {@link #loadMessages}. */
+    private long[][] segmentTips  = new long[0][];
+    /** Tips without audience conditions, by bit. */
+    private long[]   everyoneTips = new long[0];
+
+    /* ================================================================== */
+    /*  Seen tips                                                           */
+    /*  Optimization #5: per-player bitmaps, online players only.          */
+    /* ================================================================== */
+
+    private SeenTips seenTips;
+
     /* ================================================================== */
     /*  Cached eligible players                                             */
     /*  Optimization #2: maintained on join/quit/toggle only.              */
@@ -132,10 +226,13 @@ public final class ChatReminderModule implements AddonModule, Listener {
     /*  Runtime state                                                       */
     /* ================================================================== */
 
-    private int        currentIndex = 0;
     private BukkitTask reminderTask;
     private BukkitTask autoSaveTask;
-    private final Random random = new Random();
+    private BukkitTask segmentTask;
+
+    /** Next-tip choice; state persisted in {@code rotation.yml}. */
+    private final TipScheduler scheduler = new TipScheduler(
+            Comparator.comparing(ChatReminderModule::naturalSortKey));
 
     /** Pre-built immutable Sound object — reused every broadcast. */
     private Sound cachedSound;
@@ -147,6 +244,7 @@ public final class ChatReminderModule implements AddonModule, Listener {
     private File moduleFolder;
     private File configFile;
     private File playersFile;
+    private File rotationFile;
     private File messagesDir;
 
     /* ================================================================== */
@@ -188,6 +286,7 @@ public final class ChatReminderModule implements AddonModule, Listener {
     public ChatReminderModule(XiannnAddons plugin) {
         this.plugin = plugin;
         this.log    = new AddonLogger(plugin, getModuleName());
+        this.placeholders = new TipPlaceholders(log);
     }
 
     /* ================================================================== */
@@ -199,6 +298,15 @@ public final class ChatReminderModule implements AddonModule, Listener {
         return "ChatReminder";
     }
 
+    /**
+     * Placeholder providers for tips. Other modules and plugins may
+     * register their own slots here; tips already loaded pick them
+     * up on the next broadcast.
+     */
+    public TipPlaceholders getPlaceholders() {
+        return placeholders;
+    }
+
     /* ================================================================== */
     /*  AddonModule — command declaration                                   */
     /* ================================================================== */
@@ -269,8 +377,13 @@ public final class ChatReminderModule implements AddonModule, Listener {
         moduleFolder = plugin.getModuleFolder(this);
         configFile   = new File(moduleFolder, "config.yml");
         playersFile  = new File(moduleFolder, "players.yml");
+        rotationFile = new File(moduleFolder, "rotation.yml");
         messagesDir  = new File(moduleFolder, "messages");
 
+        seenTips = new SeenTips(plugin, log,
+                new File(moduleFolder, "seen"));
+        seenTips.start();
+
         log.debug("Module folder: " + moduleFolder.getPath());
 
         if (!messagesDir.exists()) {
@@ -290,6 +403,7 @@ public final class ChatReminderModule implements AddonModule, Listener {
 
         loadConfig();
         loadMessages();     // Optimization #1: pre-parses all messages
+        loadRotation();     // resume where the last run left off
         loadPlayerToggles();// Optimization #3: loads once, never on join
 
         rebuildEligibleCache(); // Optimization #2: initial cache build
@@ -305,16 +419,27 @@ public final class ChatReminderModule implements AddonModule, Listener {
         log.info("Disabling...");
         stopReminderTask();
         stopAutoSaveTask();
+        stopSegmentTask();
 
         // Final save — only if dirty
         if (togglesDirty) {
             savePlayerToggles();
         }
+        if (scheduler.isDirty()) {
+            saveRotation();
+        }
+        seenTips.stop(); // flushes unsaved bitmaps
 
         playerToggles.clear();
         eligiblePlayers.clear();
+        playerSegments.clear();
+        playerLocales.clear();
         parsedMessages.clear();
         rawMessagesDebug.clear();
+        tipSegments.clear();
+        tipIds.clear();
+        tipTemplates.clear();
+        localizedMessages.clear();
 
         log.info("Disabled. All state cleaned up.");
     }
@@ -403,6 +528,11 @@ public final class ChatReminderModule implements AddonModule, Listener {
                         .append(Component.text(
                                 parsedMessages.size() + " tip(s)",
                                 NamedTextColor.AQUA))
+                        .append(Component.text(", ",
+                                NamedTextColor.GRAY))
+                        .append(Component.text(
+                                segments.size() + " audience(s)",
+                                NamedTextColor.AQUA))
                         .append(Component.text(", interval ",
                                 NamedTextColor.GRAY))
                         .append(Component.text(
@@ -411,10 +541,17 @@ public final class ChatReminderModule implements AddonModule, Listener {
                         .append(Component.text(", order ",
                                 NamedTextColor.GRAY))
                         .append(Component.text(
-                                randomOrder ? "random" : "linear",
+                                order.name().toLowerCase(),
                                 NamedTextColor.AQUA))
                         .append(Component.text(".",
                                 NamedTextColor.GRAY)));
+
+        if (locales.size() > 0) {
+            sender.sendMessage(
+                    Component.text("  Locales: ", NamedTextColor.GRAY)
+                            .append(Component.text(coverageSummary(),
+                                    NamedTextColor.AQUA)));
+        }
     }
 
     private void sendUsage(CommandSender sender) {
@@ -444,8 +581,32 @@ public final class ChatReminderModule implements AddonModule, Listener {
                 "                   - 'line 1'",
                 "                   - 'line 2'",
                 "",
+                "Optional scheduling keys in a tip file:",
+                "  weight: 3        # drawn 3x as often (random, shuffle)",
+                "  cooldown: 30m    # not broadcast again for 30 minutes",
+                "                   # after anyone is sent it",
+                "",
+                "Translations: add a 'locales' section to a tip file,",
+                "  locales:",
+                "    es_es: '&6Hola!'",
+                "    de_de: ['line 1', 'line 2']",
+                "or a sibling file such as tip_1.es_es.yml. Players",
+                "whose language has no translation get 'message'.",
+                "",
+                "Placeholders, filled in per player:",
+                "  {player} {displayname} {world} {online} {playtime}",
+                "",
                 "If YAML parsing fails, a fallback parser handles it.",
-                "Edit tip files freely — then run /tips reload."
+                "Edit tip files freely — then run /tips reload.",
+                "",
+                "Optional 'audience' section in a tip file (all must match):",
+                "  audience:",
+                "    worlds: [world, world_nether]",
+                "    permission: group.vip        # any of (or a list)",
+                "    not-permission: group.staff  # none of",
+                "    min-playtime: 10h",
+                "    max-playtime: 2h",
+                "    new-players: true            # max-playtime = new-player-playtime"
         ));
 
         cfg.setComments("delay", List.of(
@@ -453,14 +614,28 @@ public final class ChatReminderModule implements AddonModule, Listener {
         cfg.set("delay", 300);
 
         cfg.setComments("order", List.of(
-                "\"linear\" = cycle in file-name order",
-                "\"random\" = random pick"));
+                "\"linear\"  = cycle in file-name order",
+                "\"random\"  = weighted random pick (may repeat)",
+                "\"shuffle\" = weighted shuffle bag: no repeats until",
+                "            every tip has been shown",
+                "Rotation state survives restarts (rotation.yml)."));
         cfg.set("order", "linear");
 
+        cfg.setComments("unseen-first", List.of(
+                "Remember which tips each player has seen and send",
+                "every player one they haven't, instead of the same",
+                "tip to everyone. Starts over once all are seen."));
+        cfg.set("unseen-first", true);
+
         cfg.setComments("default-enabled", List.of(
                 "Should tips be ON by default for new players?"));
         cfg.set("default-enabled", true);
 
+        cfg.setComments("new-player-playtime", List.of(
+                "Playtime (minutes, or e.g. 2h) under which a player",
+                "counts as new for 'audience: new-players: true'"));
+        cfg.set("new-player-playtime", 60);
+
         cfg.setComments("sound", List.of(
                 "Sound played alongside each tip"));
         cfg.set("sound.enabled", true);
@@ -561,9 +736,17 @@ public final class ChatReminderModule implements AddonModule, Listener {
                 YamlConfiguration.loadConfiguration(configFile);
 
         delaySeconds   = Math.max(10, cfg.getInt("delay", 300));
-        randomOrder    = "random".equalsIgnoreCase(
-                cfg.getString("order", "linear"));
+        order = switch (cfg.getString("order", "linear")
+                .toLowerCase()) {
+            case "random"  -> TipScheduler.Order.RANDOM;
+            case "shuffle" -> TipScheduler.Order.SHUFFLE;
+            default        -> TipScheduler.Order.LINEAR;
+        };
+        scheduler.setOrder(order);
         defaultEnabled = cfg.getBoolean("default-enabled", true);
+        unseenFirst    = cfg.getBoolean("unseen-first", true);
+        newPlayerMinutes = AudienceSegments.minutes(
+                cfg.getString("new-player-playtime", "60"));
 
         soundEnabled = cfg.getBoolean("sound.enabled", true);
         soundVolume  = (float) cfg.getDouble("sound.volume", 0.5);
@@ -582,7 +765,8 @@ public final class ChatReminderModule implements AddonModule, Listener {
                 : null;
 
         log.info("Config loaded: delay=" + delaySeconds
-                + "s, order=" + (randomOrder ? "random" : "linear")
+                + "s, order=" + order.name().toLowerCase()
+                + ", unseen-first=" + unseenFirst
                 + ", sound=" + (soundEnabled ? soundType : "off"));
         log.debug("Sound: key=" + soundKey
                 + " vol=" + soundVolume
@@ -603,12 +787,25 @@ public final class ChatReminderModule implements AddonModule, Listener {
     private void loadMessages() {
         parsedMessages.clear();
         rawMessagesDebug.clear();
-        currentIndex = 0;
+        tipSegments.clear();
+        tipIds.clear();
+        tipTemplates.clear();
+        localizedMessages.clear();
+        locales.clear();
+        segments.clear(newPlayerMinutes);
+        List<Map<Integer, List<Component>>> variants = new ArrayList<>();
+        List<Integer> weights   = new ArrayList<>();
+        List<Long>    cooldowns = new ArrayList<>();
 
         File[] files = messagesDir.listFiles(
                 (dir, name) -> name.endsWith(".yml"));
         if (files == null || files.length == 0) {
             log.warn("No .yml files in " + messagesDir.getPath());
+            scheduler.setTips(List.of(), new int[0], new long[0]);
+            seenTips.setTips(List.of());
+            localeCoverage = new int[0];
+            segmentTips  = new long[0][];
+            everyoneTips = new long[0];
             return;
         }
 
@@ -617,11 +814,30 @@ public final class ChatReminderModule implements AddonModule, Listener {
         Arrays.sort(files, Comparator.comparing(
                 f -> naturalSortKey(f.getName())));
 
+        // ── Split off translation files (tip_3.es_es.yml) ───────────
+        Set<String> names = new HashSet<>();
+        for (File file : files) names.add(file.getName());
+        Map<String, List<File>> variantFiles = new HashMap<>();
+        List<File> tipFiles = new ArrayList<>(files.length);
+        for (File file : files) {
+            String base = variantBase(file.getName(), names);
+            if (base != null) {
+                log.info("Treating " + file.getName() + " as a "
+                        + "translation of " + base + ".");
+                variantFiles.computeIfAbsent(base, b -> new ArrayList<>())
+                        .add(file);
+            } else {
+                tipFiles.add(file);
+            }
+        }
+
         int totalLines = 0;
 
-        for (File file : files) {
+        for (File file : tipFiles) {
             log.debug("Processing: " + file.getName());
-            List<String> rawLines = loadTipFile(file);
+            YamlConfiguration tipCfg =
+                    YamlConfiguration.loadConfiguration(file);
+            List<String> rawLines = loadTipFile(file, tipCfg);
 
             if (rawLines == null || rawLines.isEmpty()) {
                 log.warn("No content in " + file.getName()
@@ -630,43 +846,196 @@ public final class ChatReminderModule implements AddonModule, Listener {
             }
 
             // ── Pre-parse every line into Component ─────────────────
-            List<Component> parsed = new ArrayList<>(rawLines.size());
-            for (String rawLine : rawLines) {
-                if (rawLine == null || rawLine.isBlank()) {
-                    parsed.add(Component.empty());
-                    log.debug("  Pre-parsed: (empty line)");
-                } else {
-                    Component comp = parseFormatted(rawLine);
-                    parsed.add(comp);
-                    log.debug("  Pre-parsed: "
-                            + truncate(rawLine, 50) + " → OK");
+            List<Component> parsed = preParse(rawLines);
+
+            // ── Pre-parse translations ──────────────────────────────
+            List<String> allRaw = new ArrayList<>(rawLines);
+            Map<Integer, List<Component>> translated =
+                    loadVariants(file, tipCfg,
+                            variantFiles.getOrDefault(file.getName(),
+                                    List.of()), allRaw);
+
+            // ── Flag placeholder templates ──────────────────────────
+            List<String> slots = TipPlaceholders.slotsIn(allRaw);
+            for (String slot : slots) {
+                if (!placeholders.isKnown(slot)) {
+                    log.debug(file.getName() + ": no provider for {"
+                            + slot + "} (yet) — left as written.");
                 }
             }
 
+            // ── Compile audience conditions ─────────────────────────
+            int segment = segments.compile(
+                    tipCfg.getConfigurationSection("audience"),
+                    file.getName(), log);
+
             parsedMessages.add(parsed);
             rawMessagesDebug.add(rawLines);
+            tipSegments.add(segment);
+            tipIds.add(file.getName());
+            tipTemplates.add(!slots.isEmpty());
+            variants.add(translated);
+            weights.add(Math.max(1, tipCfg.getInt("weight", 1)));
+            cooldowns.add(parseSeconds(tipCfg.getString("cooldown")));
             totalLines += parsed.size();
 
             log.info("Loaded " + file.getName() + " ("
                     + rawLines.size() + " line"
                     + (rawLines.size() == 1 ? "" : "s")
-                    + ", pre-parsed)");
+                    + ", pre-parsed"
+                    + (segment == AudienceSegments.EVERYONE
+                            ? "" : ", audience #" + segment)
+                    + (translated.isEmpty()
+                            ? "" : ", " + translated.size()
+                                    + " translation(s)")
+                    + (slots.isEmpty()
+                            ? "" : ", placeholders " + slots)
+                    + ")");
+        }
+
+        // Every locale seen in any tip is now known — resolve each
+        // tip's fallbacks so broadcast never has to
+        localeCoverage = new int[locales.size()];
+        for (int i = 0; i < variants.size(); i++) {
+            Map<Integer, List<Component>> translated = variants.get(i);
+            localizedMessages.add(locales.resolveAll(translated,
+                    parsedMessages.get(i)));
+            for (int id = 0; id < locales.size(); id++) {
+                if (locales.covers(translated, id)) localeCoverage[id]++;
+            }
+        }
+
+        // Hand the tips to the scheduler — rotation state is kept
+        // for tips that still exist
+        int[]  weightArr   = new int[weights.size()];
+        long[] cooldownArr = new long[cooldowns.size()];
+        for (int i = 0; i < weightArr.length; i++) {
+            weightArr[i]   = weights.get(i);
+            cooldownArr[i] = cooldowns.get(i);
+        }
+        scheduler.setTips(tipIds, weightArr, cooldownArr);
+        seenTips.setTips(tipIds);
+
+        // Tip masks per segment, so a player's allowed tips are a
+        // few ORs over their segment bits
+        int words = (tipIds.size() + 63) >>> 6;
+        segmentTips  = new long[segments.size()][words];
+        everyoneTips = new long[words];
+        for (int i = 0; i < tipSegments.size(); i++) {
+            int segment = tipSegments.get(i);
+            long[] mask = segment == AudienceSegments.EVERYONE
+                    ? everyoneTips : segmentTips[segment];
+            mask[i >>> 6] |= 1L << i;
         }
 
         log.info("Total: " + parsedMessages.size() + " tip(s), "
-                + totalLines + " line(s) pre-parsed.");
+                + totalLines + " line(s) pre-parsed, "
+                + segments.size() + " audience segment(s).");
+        if (locales.size() > 0) {
+            log.info("Locales: " + coverageSummary());
+        }
+    }
+
+    /** Pre-parses raw lines into Components. */
+    private List<Component> preParse(List<String> rawLines) {
+        List<Component> parsed = new ArrayList<>(rawLines.size());
+        for (String rawLine : rawLines) {
+            if (rawLine == null || rawLine.isBlank()) {
+                parsed.add(Component.empty());
+                log.debug("  Pre-parsed: (empty line)");
+            } else {
+                Component comp = parseFormatted(rawLine);
+                parsed.add(comp);
+                log.debug("  Pre-parsed: "
+                        + truncate(rawLine, 50) + " → OK");
+            }
+        }
+        return parsed;
+    }
+
+    /**
+     * Loads a tip's translations from its {@code locales} section and
+     * its sibling files. A sibling file wins over the section.
+     *
+     * @param allRaw receives every translation's raw lines
+     * @return pre-parsed lines by locale id
+     */
+    private Map<Integer, List<Component>> loadVariants(
+            File file, YamlConfiguration tipCfg, List<File> siblings,
+            List<String> allRaw) {
+        Map<Integer, List<Component>> out = new HashMap<>();
+
+        ConfigurationSection sec =
+                tipCfg.getConfigurationSection("locales");
+        if (sec != null) {
+            for (String key : sec.getKeys(false)) {
+                int id = locales.register(key);
+                List<String> lines = extractLinesFromYaml(sec.get(key));
+                if (id == TipLocales.DEFAULT || lines == null) {
+                    log.warn(file.getName() + ": skipping locale '"
+                            + key + "' (bad key or no text).");
+                    continue;
+                }
+                log.debug("  Locale " + locales.key(id) + ":");
+                out.put(id, preParse(lines));
+                allRaw.addAll(lines);
+            }
+        }
+
+        for (File sibling : siblings) {
+            String name = sibling.getName();
+            String key = name.substring(
+                    file.getName().length() - 3, name.length() - 4);
+            List<String> lines = loadTipFile(sibling,
+                    YamlConfiguration.loadConfiguration(sibling));
+            if (lines == null || lines.isEmpty()) {
+                log.warn("No content in " + name + " — skipping.");
+                continue;
+            }
+            int id = locales.register(key);
+            log.debug("  Locale " + locales.key(id) + " (" + name + "):");
+            out.put(id, preParse(lines));
+            allRaw.addAll(lines);
+        }
+        return out;
+    }
+
+    /**
+     * @return {@code tip_3.yml} for {@code tip_3.es_es.yml} if that
+     *         tip exists and the suffix's language is an ISO code
+     *         (so {@code rules.old.yml} stays a tip), else null
+     */
+    private static String variantBase(String name, Set<String> names) {
+        String stem = name.substring(0, name.length() - 4);
+        int dot = stem.lastIndexOf('.');
+        if (dot <= 0) return null;
+        String key = TipLocales.normalize(stem.substring(dot + 1));
+        if (key == null || !TipLocales.isIsoLanguage(key)) return null;
+        String base = stem.substring(0, dot) + ".yml";
+        return names.contains(base) ? base : null;
+    }
+
+    /** "es_es 12/15, de_de 15/15" */
+    private String coverageSummary() {
+        StringBuilder sb = new StringBuilder();
+        for (int id = 0; id < locales.size(); id++) {
+            if (id > 0) sb.append(", ");
+            sb.append(locales.key(id)).append(' ')
+                    .append(localeCoverage[id]).append('/')
+                    .append(parsedMessages.size());
+        }
+        return sb.toString();
     }
 
     /**
      * Loads raw lines from a tip file. Tries YAML, falls back
      * to manual parser.
      */
-    private List<String> loadTipFile(File file) {
+    private List<String> loadTipFile(File file,
+                                     YamlConfiguration tipCfg) {
 
         log.debug("Trying YAML parser for: " + file.getName());
 
-        YamlConfiguration tipCfg =
-                YamlConfiguration.loadConfiguration(file);
         Object raw = tipCfg.get("message");
 
         if (raw != null) {
@@ -887,6 +1256,41 @@ public final class ChatReminderModule implements AddonModule, Listener {
         }
     }
 
+    /* ================================================================== */
+    /*  Rotation state persistence                                          */
+    /* ================================================================== */
+
+    /**
+     * Restores the scheduler's cursor, bag and cooldowns. Called on
+     * enable only — reloads keep the in-memory state.
+     */
+    private void loadRotation() {
+        if (!rotationFile.exists()) {
+            log.debug("No rotation.yml — starting a fresh rotation.");
+            return;
+        }
+
+        scheduler.load(YamlConfiguration.loadConfiguration(rotationFile));
+        log.debug("Rotation restored (" + order.name().toLowerCase()
+                + ", " + scheduler.bagSize() + " in bag).");
+    }
+
+    /** Saves rotation state. Only called when the scheduler is dirty. */
+    private void saveRotation() {
+        YamlConfiguration cfg = new YamlConfiguration();
+        cfg.options().setHeader(List.of(
+                "XiannnAddons — ChatReminder rotation state.",
+                "Auto-managed. Delete to restart the rotation."));
+        scheduler.save(cfg);
+
+        try {
+            cfg.save(rotationFile);
+            log.debug("Rotation state saved.");
+        } catch (IOException e) {
+            log.error("Could not save rotation.yml!", e);
+        }
+    }
+
     /* ================================================================== */
     /*  Eligible player cache                                               */
     /*  OPTIMIZATION #2: Set updated on events, not every broadcast.       */
@@ -898,9 +1302,18 @@ public final class ChatReminderModule implements AddonModule, Listener {
      */
     private void rebuildEligibleCache() {
         eligiblePlayers.clear();
+        playerSegments.clear();
+        if (!unseenFirst) {
+            seenTips.unloadAll();
+        }
 
         for (Player player : Bukkit.getOnlinePlayers()) {
             UUID uuid = player.getUniqueId();
+            playerSegments.put(uuid, segments.evaluate(player));
+            playerLocales.put(uuid, locales.resolve(player.locale()));
+            if (unseenFirst) {
+                seenTips.load(uuid); // no-op if already loaded
+            }
 
             // Ensure toggle exists for all online players
             playerToggles.putIfAbsent(uuid, defaultEnabled);
@@ -910,6 +1323,8 @@ public final class ChatReminderModule implements AddonModule, Listener {
             }
         }
 
+        startSegmentTask();
+
         log.info("Eligible player cache built: "
                 + eligiblePlayers.size() + " player(s) with tips on.");
         log.debug("Total online: "
@@ -966,6 +1381,10 @@ public final class ChatReminderModule implements AddonModule, Listener {
                     log.debug("Auto-save: dirty flag set, saving...");
                     savePlayerToggles();
                 }
+                if (scheduler.isDirty()) {
+                    saveRotation();
+                }
+                seenTips.saveDirty(); // written off-thread
             }
         }.runTaskTimer(plugin, 6000L, 6000L);
 
@@ -980,43 +1399,82 @@ public final class ChatReminderModule implements AddonModule, Listener {
         }
     }
 
+    /**
+     * Re-checks playtime segments once a minute — the only
+     * conditions that change without an event. Only runs when some
+     * tip has a playtime condition.
+     */
+    private void startSegmentTask() {
+        stopSegmentTask();
+        if (!segments.hasTimed()) return;
+
+        segmentTask = new BukkitRunnable() {
+            @Override
+            public void run() {
+                for (Player player : Bukkit.getOnlinePlayers()) {
+                    long[] bits = playerSegments.get(
+                            player.getUniqueId());
+                    if (bits != null) {
+                        segments.refreshTimed(player, bits);
+                    }
+                }
+            }
+        }.runTaskTimer(plugin, 1200L, 1200L);
+
+        log.debug("Playtime segment refresh started (every 60s).");
+    }
+
+    private void stopSegmentTask() {
+        if (segmentTask != null) {
+            segmentTask.cancel();
+            segmentTask = null;
+        }
+    }
+
     /**
      * Picks the next pre-parsed tip and sends it to all
      * <b>eligible</b> players. Zero parsing happens here.
      *
      * <h4>Performance path</h4>
      * <pre>
-     *   1. Pick tip (index or random)   → O(1)
+     *   1. Pick tip (scheduler)         → O(1), O(tips) for random
      *   2. Grab pre-parsed Components   → O(1)
      *   3. Loop eligible UUIDs          → O(eligible), not O(total)
-     *   4. Get Player from UUID         → O(1) Bukkit lookup
-     *   5. Send pre-built Components    → O(lines)
-     *   6. Play cached Sound object     → O(1)
+     *   4. Test audience segment bit    → O(1), no permission checks
+     *      (unseen-first: pick from the → O(segments + tips/64)
+     *       player's seen bitmap)
+     *   5. Get Player from UUID         → O(1) Bukkit lookup
+     *   6. Pick locale variant          → O(1), id cached on join
+     *   7. Fill placeholders            → templates only, no parsing
+     *   8. Send pre-built Components    → O(lines)
+     *   9. Play cached Sound object     → O(1)
      * </pre>
      * Total: O(eligible × lines) with zero parsing.
      */
     private void broadcastNextTip() {
         if (parsedMessages.isEmpty()) return;
 
+        // ── Quick exit if nobody eligible ────────────────────────────
+        // Before picking, so an empty server doesn't use up the
+        // rotation or start cooldowns
+        if (eligiblePlayers.isEmpty()) {
+            log.debug("No eligible players, skipping.");
+            return;
+        }
+
         // ── Pick tip ────────────────────────────────────────────────
-        int tipIndex;
-        if (randomOrder) {
-            tipIndex = random.nextInt(parsedMessages.size());
-        } else {
-            tipIndex = currentIndex;
-            currentIndex = (currentIndex + 1)
-                    % parsedMessages.size();
+        // Availability first — picking starts the tip's cooldown
+        long now = System.currentTimeMillis() / 1000L;
+        long[] available = unseenFirst ? scheduler.available(now) : null;
+        int tipIndex = scheduler.next(now);
+        if (tipIndex < 0) {
+            log.debug("Every tip is on cooldown, skipping.");
+            return;
         }
 
         // ── Grab pre-parsed components (no parsing!) ────────────────
         List<Component> tipLines = parsedMessages.get(tipIndex);
-
-        // ── Quick exit if nobody eligible ────────────────────────────
-        if (eligiblePlayers.isEmpty()) {
-            log.debug("Tip #" + (tipIndex + 1)
-                    + " — no eligible players, skipping.");
-            return;
-        }
+        int segment = tipSegments.get(tipIndex);
 
         log.debug("Broadcasting tip #" + (tipIndex + 1)
                 + " (" + tipLines.size() + " pre-parsed lines)"
@@ -1024,15 +1482,45 @@ public final class ChatReminderModule implements AddonModule, Listener {
                 + " eligible player(s).");
 
         // ── Send to eligible players only ───────────────────────────
+        long[] allowed = new long[available == null ? 0 : available.length];
+        long[] extra = new long[allowed.length];
         int sent = 0;
+        int unseen = 0;
         for (UUID uuid : eligiblePlayers) {
+            long[] bits = playerSegments.get(uuid);
+            int pick = tipIndex;
+
+            if (unseenFirst) {
+                // The rotation's tip if this player hasn't seen it,
+                // otherwise the next one they haven't
+                allowedTips(bits, available, allowed);
+                pick = seenTips.pick(uuid, allowed, tipIndex);
+                if (pick < 0) continue;
+                if (pick != tipIndex) unseen++;
+            } else if (!AudienceSegments.contains(bits, segment)) {
+                // Audience — one bit test, worked out ahead of time
+                continue;
+            }
+
             Player player = Bukkit.getPlayer(uuid);
 
             // Player may have disconnected between cache update
             // and broadcast tick — skip silently
             if (player == null || !player.isOnline()) continue;
 
-            for (Component line : tipLines) {
+            // Translation — locale id worked out on join
+            int locale = playerLocales.getOrDefault(uuid,
+                    TipLocales.DEFAULT);
+            List<Component> lines = locale == TipLocales.DEFAULT
+                    ? parsedMessages.get(pick)
+                    : localizedMessages.get(pick).get(locale);
+
+            // Placeholders — only tips flagged at load
+            if (tipTemplates.get(pick)) {
+                lines = placeholders.render(lines, player);
+            }
+
+            for (Component line : lines) {
                 player.sendMessage(line);
             }
 
@@ -1040,11 +1528,39 @@ public final class ChatReminderModule implements AddonModule, Listener {
                 player.playSound(cachedSound);
             }
 
+            if (pick != tipIndex) extra[pick >>> 6] |= 1L << pick;
             sent++;
         }
 
+        // Unseen tips sent in place of the pick start their cooldown
+        // too — after the loop, so the rest of this broadcast can
+        // still be given them
+        for (int w = 0; w < extra.length; w++) {
+            for (long word = extra[w]; word != 0; word &= word - 1) {
+                scheduler.markShown(
+                        (w << 6) + Long.numberOfTrailingZeros(word), now);
+            }
+        }
+
         log.debug("Broadcast complete: sent to " + sent
-                + " player(s).");
+                + " player(s)"
+                + (unseen > 0 ? ", " + unseen + " got an unseen tip "
+                        + "instead" : "") + ".");
+    }
+
+    /**
+     * Tips a player may receive: those for everyone plus those of
+     * each segment they are in, limited to {@code available}.
+     */
+    private void allowedTips(long[] playerBits, long[] available,
+                             long[] out) {
+        System.arraycopy(everyoneTips, 0, out, 0, out.length);
+        for (int s = 0; s < segmentTips.length; s++) {
+            if (!AudienceSegments.contains(playerBits, s)) continue;
+            long[] mask = segmentTips[s];
+            for (int w = 0; w < out.length; w++) out[w] |= mask[w];
+        }
+        for (int w = 0; w < out.length; w++) out[w] &= available[w];
     }
 
     /* ================================================================== */
@@ -1119,6 +1635,12 @@ public final class ChatReminderModule implements AddonModule, Listener {
         if (isReminderEnabled(uuid)) {
             eligiblePlayers.add(uuid);
         }
+        playerSegments.put(uuid, segments.evaluate(event.getPlayer()));
+        playerLocales.put(uuid,
+                locales.resolve(event.getPlayer().locale()));
+        if (unseenFirst) {
+            seenTips.load(uuid); // read off-thread
+        }
 
         log.debug("Player joined: " + event.getPlayer().getName()
                 + " — eligible cache: " + eligiblePlayers.size());
@@ -1126,17 +1648,55 @@ public final class ChatReminderModule implements AddonModule, Listener {
 
     /**
      * On quit: remove from eligible cache.
-     * Toggle state stays in memory — no file I/O.
+     * Toggle state stays in memory; seen tips are written on the
+     * background thread.
      */
     @EventHandler(priority = EventPriority.MONITOR)
     public void onPlayerQuit(PlayerQuitEvent event) {
         UUID uuid = event.getPlayer().getUniqueId();
         eligiblePlayers.remove(uuid);
+        playerSegments.remove(uuid);
+        playerLocales.remove(uuid);
+        seenTips.unload(uuid); // saved off-thread if changed
 
         log.debug("Player quit: " + event.getPlayer().getName()
                 + " — eligible cache: " + eligiblePlayers.size());
     }
 
+    /**
+     * Clients send their language shortly after joining, and again
+     * whenever it is changed in the options menu.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onLocaleChange(PlayerLocaleChangeEvent event) {
+        UUID uuid = event.getPlayer().getUniqueId();
+        if (!playerSegments.containsKey(uuid)) return;
+        playerLocales.put(uuid, locales.resolve(event.locale()));
+    }
+
+    /** World conditions may have changed. */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldChange(PlayerChangedWorldEvent event) {
+        reevaluateSegments(event.getPlayer());
+    }
+
+    /**
+     * Permission plugins resend the command tree after a player's
+     * permissions change, so this is the closest thing to a
+     * permission-change event.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onCommandsSent(PlayerCommandSendEvent event) {
+        reevaluateSegments(event.getPlayer());
+    }
+
+    private void reevaluateSegments(Player player) {
+        if (segments.size() == 0) return;
+        if (!playerSegments.containsKey(player.getUniqueId())) return;
+        playerSegments.put(player.getUniqueId(),
+                segments.evaluate(player));
+    }
+
     /* ================================================================== */
     /*  Helpers                                                             */
     /* ================================================================== */
@@ -1145,6 +1705,16 @@ public final class ChatReminderModule implements AddonModule, Listener {
         return playerToggles.getOrDefault(uuid, defaultEnabled);
     }
 
+    /** "45" (seconds), "30m", "1h30m" → seconds; 0 if unset. */
+    private static long parseSeconds(String raw) {
+        if (raw == null || raw.isBlank()) return 0;
+        try {
+            return Math.max(0, Long.parseLong(raw.trim()));
+        } catch (NumberFormatException e) {
+            return TimeUtil.parseDuration(raw) / 1000L;
+        }
+    }
+
     private static String truncate(String str, int maxLen) {
         if (str == null) return "null";
         if (str.length() <= maxLen) return str;
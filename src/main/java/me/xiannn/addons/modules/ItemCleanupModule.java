@@ -1,31 +1,77 @@
 package me.xiannn.addons.modules;
 
+import com.destroystokyo.paper.event.entity.EntityAddToWorldEvent;
+import com.destroystokyo.paper.event.entity.EntityRemoveFromWorldEvent;
 import me.xiannn.addons.AddonLogger;
 import me.xiannn.addons.AddonModule;
 import me.xiannn.addons.XiannnAddons;
+import me.xiannn.addons.modules.cleanup.AdaptiveScheduler;
+import me.xiannn.addons.modules.cleanup.CleanupHistory;
+import me.xiannn.addons.modules.cleanup.CleanupSweep;
+import me.xiannn.addons.modules.cleanup.CleanupZones;
+import me.xiannn.addons.modules.cleanup.CountdownFrames;
+import me.xiannn.addons.modules.cleanup.DensityLimiter;
+import me.xiannn.addons.modules.cleanup.DropRateLimiter;
+import me.xiannn.addons.modules.cleanup.EntityPolicies;
+import me.xiannn.addons.modules.cleanup.ExpiryRules;
+import me.xiannn.addons.modules.cleanup.ExpiryWheel;
+import me.xiannn.addons.modules.cleanup.GroundItemIndex;
+import me.xiannn.addons.modules.cleanup.Hotspots;
+import me.xiannn.addons.modules.cleanup.ItemOwners;
+import me.xiannn.addons.modules.cleanup.LostAndFound;
+import me.xiannn.addons.modules.cleanup.LostAndFoundMenu;
+import me.xiannn.addons.modules.cleanup.PlayerProximity;
+import me.xiannn.addons.modules.cleanup.StackConsolidator;
+import me.xiannn.addons.modules.cleanup.SweepSimulation;
+import me.xiannn.addons.modules.cleanup.WhitelistRules;
+import me.xiannn.addons.modules.cleanup.WorldSchedule;
+import me.xiannn.addons.modules.cleanup.event.CleanupCandidates;
+import me.xiannn.addons.modules.cleanup.event.ItemCleanupPostEvent;
+import me.xiannn.addons.modules.cleanup.event.ItemCleanupPreEvent;
 import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.sound.Sound;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextDecoration;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.NamespacedKey;
 import org.bukkit.World;
+import org.bukkit.block.Block;
 import org.bukkit.command.CommandSender;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Entity;
+import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Item;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockDispenseEvent;
+import org.bukkit.event.entity.ItemMergeEvent;
+import org.bukkit.event.entity.ItemSpawnEvent;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.EntitiesLoadEvent;
+import org.bukkit.event.world.EntitiesUnloadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
@@ -34,27 +80,85 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.TreeSet;
 import java.util.UUID;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
  * Periodically removes dropped items from loaded chunks.
  * Features boss bar, action bar, sound effects, countdown
  * warnings, whitelist system, and per-player display toggles.
+ * <p>
+ * Cleanups run as a {@link CleanupSweep}: in {@code incremental}
+ * mode the chunk walk is spread over several ticks under a fixed
+ * per-tick time budget; in {@code instant} mode it runs in one go.
+ * <p>
+ * Ground items are tracked in a {@link GroundItemIndex} kept up to
+ * date from entity events, so neither the sweep nor
+ * {@code /cleanup status} ever walks the full entity list.
+ * <p>
+ * With {@code expiry.enabled}, each item instead expires on its own
+ * once its age passes a per-world / per-material TTL. Deadlines sit
+ * in an {@link ExpiryWheel}, so every tick only touches items that
+ * are due.
+ * <p>
+ * A {@link DensityLimiter} caps items per chunk at spawn time,
+ * evicting the oldest or cancelling the spawn when a farm or lag
+ * machine floods a single chunk between cleanups, and a
+ * {@link DropRateLimiter} token-buckets drops per player and per
+ * chunk.
+ * <p>
+ * An {@link AdaptiveScheduler} stretches or shortens the interval
+ * from MSPT and item growth. Worlds listed under {@code schedules}
+ * run their own staggered {@link WorldSchedule}; the rest share the
+ * global countdown. Between sweeps a {@link StackConsolidator}
+ * folds identical partial stacks (same thrower only) in crowded
+ * chunks.
+ * <p>
+ * What a sweep keeps: {@link WhitelistRules} (materials, data
+ * components, PDC keys, custom model data, thrown items), regions
+ * in {@link CleanupZones}, and chunks near online players
+ * ({@link PlayerProximity}). Other plugins can veto candidates or
+ * cancel the sweep through {@code ItemCleanupPreEvent} and observe
+ * the result through {@code ItemCleanupPostEvent}. Non-item
+ * entities follow per-type {@link EntityPolicies}.
+ * <p>
+ * Items carry their spawn game time in their PDC, so age keeps
+ * counting while a chunk is unloaded; items past their lifetime
+ * are removed as their chunk loads or unloads. Removed items go to
+ * the {@link LostAndFound} vault, claimable with
+ * {@code /cleanup vault}.
+ * <p>
+ * Countdown displays are pre-rendered per second
+ * ({@link CountdownFrames}); with {@code countdown.targeted}, chat
+ * warnings go only to players whose items are at risk, counted by
+ * {@link ItemOwners}. Boss bar viewers are added and removed from
+ * join, quit, world-change and toggle events, not a per-second
+ * scan. Each sweep is recorded in {@link CleanupHistory} for
+ * {@code /cleanup history} and {@code /cleanup hotspots};
+ * {@code /cleanup simulate} dry-runs the selection pipeline and
+ * times each stage.
  *
  * <h3>File layout</h3>
  * <pre>
  * plugins/XiannnAddons/ItemCleanup/
- * ├── config.yml    — timing, sounds, bossbar, actionbar, whitelist, worlds
- * └── players.yml   — per-player bossbar/actionbar toggle persistence
+ * ├── config.yml       — timing, sounds, bossbar, actionbar, whitelist,
+ * │                      worlds, schedules, expiry, lifecycle, zones,
+ * │                      density, drop-limit, proximity, adaptive,
+ * │                      consolidate, entities, vault, history
+ * ├── players.yml      — per-player bossbar/actionbar toggle persistence
+ * └── lostandfound/
+ *     └── &lt;world&gt;.bin  — vault journal of removed items, per world
  * </pre>
  */
 public final class ItemCleanupModule implements AddonModule, Listener {
@@ -103,9 +207,63 @@ public final class ItemCleanupModule implements AddonModule, Listener {
     private boolean       countdownEnabled    = true;
     private List<Integer> countdownTimes      = new ArrayList<>();
 
+    // Sweep
+    private boolean sweepIncremental    = true;
+    private int     sweepBudgetMicros   = 2000;
+    private int     sweepChunksPerBatch = 16;
+
+    // Rolling expiry
+    private boolean     expiryEnabled    = false;
+    private boolean     expiryKeepSweep  = false;
+    private int         expiryMaxPerTick = 200;
+    private ExpiryRules expiryRules;
+
+    // Chunk lifecycle: items judged by stored age when their
+    // entities load or unload, not only by the sweep
+    private boolean lifecycleOnLoad   = false;
+    private boolean lifecycleOnUnload = false;
+    private int     lifecycleMaxAge   = 300 * 20;
+    private final NamespacedKey spawnTickKey;
+
+    // Worlds on their own cycle; everything else follows the global
+    // countdown. Sweeps are kept stagger-gap seconds apart.
+    private List<WorldSchedule>        schedules        = List.of();
+    private Map<String, WorldSchedule> schedulesByWorld = Map.of();
+    private final Map<String, WhitelistRules> worldWhitelists =
+            new HashMap<>();
+    private int           staggerGap    = 10;
+    private WorldSchedule sweepSchedule;
+
+    // Regions with no cleanup or their own TTL, by chunk grid
+    private CleanupZones zones = CleanupZones.compile(null, null);
+
+    // Chunks near players, re-marked at the start of each sweep
+    private final PlayerProximity proximity = new PlayerProximity();
+    // Its own copy for /cleanup simulate, so a dry run never re-marks
+    // the set a live sweep is still reading
+    private final PlayerProximity simProximity = new PlayerProximity();
+
+    // Non-item entity policies (arrows, XP orbs, ...)
+    private EntityPolicies entityPolicies =
+            EntityPolicies.compile(null, null);
+
     // Messages
     private String rawCountdownMsg = "";
     private String rawCleanupMsg   = "";
+    private String rawEntitiesMsg  = "";
+    private String rawPersonalMsg  = "";
+
+    // Countdown chat/sound only to players with items at risk
+    private boolean countdownTargeted = false;
+    private final ItemOwners owners = new ItemOwners();
+
+    // Pre-rendered countdown display, indexed by seconds left
+    private final CountdownFrames bossbarFrames   = new CountdownFrames();
+    private final CountdownFrames actionbarFrames = new CountdownFrames();
+    private final CountdownFrames chatFrames      = new CountdownFrames();
+    // Personal warnings by count, refilled each warning second
+    private final Map<Integer, Component> personalRendered =
+            new HashMap<>();
 
     // Sound — countdown
     private boolean countdownSoundEnabled = true;
@@ -136,9 +294,13 @@ public final class ItemCleanupModule implements AddonModule, Listener {
     private boolean actionbarDefaultOn = true;
 
     // Whitelist
-    private final Set<Material> whitelistedMats = new TreeSet<>();
+    private final Set<Material> whitelistedMats =
+            EnumSet.noneOf(Material.class);
     private boolean preserveEnchanted = true;
     private boolean preserveNamed     = true;
+    private ConfigurationSection whitelistSection;
+    private WhitelistRules whitelistRules =
+            WhitelistRules.compile(null, Set.of(), null);
 
     // Worlds
     private boolean worldDefaultEnabled = true;
@@ -154,12 +316,60 @@ public final class ItemCleanupModule implements AddonModule, Listener {
     private BukkitTask tickTask;
     private int        countdown;
 
+    // Load-adaptive interval: what the countdown currently targets
+    // and why (equals the configured interval when adaptive is off)
+    private final AdaptiveScheduler adaptive = new AdaptiveScheduler();
+    private int    effectiveInterval = 300;
+    private String intervalReason    = "configured";
+    private int    adaptiveCheckIn   = 0;
+    // Seconds since the global cycle began — the countdown alone
+    // can't tell, once an early cleanup has cut it
+    private int    cycleElapsed      = 0;
+
+    // Live index of ground items (world → chunk → items)
+    private final GroundItemIndex itemIndex = new GroundItemIndex();
+
+    // Per-chunk item cap, checked on spawn
+    private final DensityLimiter densityLimiter;
+
+    // Token buckets on drop rate, per player and per chunk
+    private final DropRateLimiter dropLimiter;
+
+    // Rolling expiry: item UUIDs by deadline tick, plus the current
+    // deadline of each so rescheduled (merged) items skip stale slots
+    private ExpiryWheel<UUID>     expiryWheel;
+    private final Map<UUID, Long> expiryDeadlines = new HashMap<>();
+    private BukkitTask            expiryTask;
+
+    // Periodic stack consolidation (separate from the sweep)
+    private final StackConsolidator consolidator =
+            new StackConsolidator();
+    private BukkitTask consolidateTask;
+
+    // Recent cleanups with their hotspot chunks
+    private final CleanupHistory history = new CleanupHistory();
+
+    // Lost-and-found vault for removed stacks (created on enable)
+    private LostAndFound vault;
+
+    // Sweep in progress (null when idle)
+    private CleanupSweep  activeSweep;
+    private BukkitTask    sweepTask;
+    private CommandSender sweepRequester;
+
+    // Dry run in progress, one run per tick (null when idle)
+    private BukkitTask simulateTask;
+
     // Adventure boss bar instance (shared, add/remove viewers)
     private BossBar bossBar;
 
     // Currently showing boss bar (for cleanup on hide)
     private final Set<UUID> bossbarViewers = new HashSet<>();
 
+    // Countdown is inside the boss bar window; viewers are only
+    // changed on window enter/leave, join/quit and toggles
+    private boolean bossbarShowing = false;
+
     /* ── Per-player display toggles ── */
     private final Map<UUID, Boolean> playerBossbar   = new HashMap<>();
     private final Map<UUID, Boolean> playerActionbar  = new HashMap<>();
@@ -171,6 +381,19 @@ public final class ItemCleanupModule implements AddonModule, Listener {
     private long totalItemsRemoved = 0;
     private int  lastCleanupCount  = 0;
     private long lastCleanupTime   = 0;
+    private int  lastSweepTicks    = 0;
+    private int  lastNearPlayers   = 0;
+    private long lastSweepNanos    = 0;
+    private long lastSweepMaxNanos = 0;
+    private Map<EntityType, Integer> lastRemovedByType = Map.of();
+    private final Map<EntityType, Long> totalRemovedByType =
+            new EnumMap<>(EntityType.class);
+    private long totalExpired      = 0;
+    private long totalLifecycleRemoved = 0;
+    private long totalMerges       = 0;
+    private long totalConsolidated = 0;
+    private int  lastConsolidated  = 0;
+    private long lastConsolidateTime = 0;
 
     /* ================================================================== */
     /*  Constructor                                                         */
@@ -179,6 +402,10 @@ public final class ItemCleanupModule implements AddonModule, Listener {
     public ItemCleanupModule(XiannnAddons plugin) {
         this.plugin = plugin;
         this.log    = new AddonLogger(plugin, getModuleName());
+        this.densityLimiter = new DensityLimiter(log);
+        this.dropLimiter    = new DropRateLimiter(this::alertStaff);
+        this.spawnTickKey   = new NamespacedKey(plugin,
+                "cleanup_spawn_tick");
     }
 
     /* ================================================================== */
@@ -198,7 +425,7 @@ public final class ItemCleanupModule implements AddonModule, Listener {
     public Map<String, String> getCommands() {
         Map<String, String> commands = new LinkedHashMap<>();
         commands.put("cleanup",
-                "Manage item cleanup (now/status/whitelist/reload/bossbar/actionbar)");
+                "Manage item cleanup (now/status/history/hotspots/tp/whitelist/reload/bossbar/actionbar/index/vault)");
         return commands;
     }
 
@@ -215,12 +442,19 @@ public final class ItemCleanupModule implements AddonModule, Listener {
         }
 
         switch (args[0].toLowerCase()) {
-            case "now", "force"      -> handleNow(sender);
+            case "now", "force"      -> handleNow(sender, args);
             case "status", "stats"   -> handleStatus(sender);
+            case "history"           -> handleHistory(sender, args);
+            case "simulate"          -> handleSimulate(sender, args);
+            case "hotspots"          -> handleHotspots(sender);
+            case "tp"                -> handleTeleport(sender, args);
+            case "zone", "zones"     -> handleZone(sender, args);
             case "whitelist", "wl"   -> handleWhitelist(sender, args);
             case "reload"            -> handleReload(sender);
             case "bossbar", "bb"     -> handleToggleBossbar(sender);
             case "actionbar", "ab"   -> handleToggleActionbar(sender);
+            case "index"             -> handleIndex(sender, args);
+            case "vault", "lost"     -> handleVault(sender, args);
             default                  -> sendUsage(sender);
         }
 
@@ -236,8 +470,18 @@ public final class ItemCleanupModule implements AddonModule, Listener {
 
             if (sender.hasPermission("xiannnaddons.cleanup.now"))
                 completions.add("now");
-            if (sender.hasPermission("xiannnaddons.cleanup.status"))
+            if (sender.hasPermission("xiannnaddons.cleanup.status")) {
                 completions.add("status");
+                completions.add("history");
+            }
+            if (sender.hasPermission("xiannnaddons.cleanup.hotspots")) {
+                completions.add("hotspots");
+                completions.add("tp");
+            }
+            if (sender.hasPermission("xiannnaddons.cleanup.simulate"))
+                completions.add("simulate");
+            if (sender.hasPermission("xiannnaddons.cleanup.zone"))
+                completions.add("zone");
             if (sender.hasPermission("xiannnaddons.cleanup.whitelist"))
                 completions.add("whitelist");
             if (sender.hasPermission("xiannnaddons.cleanup.reload"))
@@ -246,6 +490,10 @@ public final class ItemCleanupModule implements AddonModule, Listener {
                 completions.add("bossbar");
                 completions.add("actionbar");
             }
+            if (sender.hasPermission("xiannnaddons.cleanup.debug"))
+                completions.add("index");
+            if (sender.hasPermission("xiannnaddons.cleanup.vault"))
+                completions.add("vault");
 
             String partial = args[0].toLowerCase();
             completions.removeIf(s -> !s.startsWith(partial));
@@ -259,7 +507,92 @@ public final class ItemCleanupModule implements AddonModule, Listener {
                 return Collections.emptyList();
 
             List<String> subs = new ArrayList<>(
-                    List.of("add", "remove", "list"));
+                    List.of("add", "remove", "list", "test"));
+            String partial = args[1].toLowerCase();
+            subs.removeIf(s -> !s.startsWith(partial));
+            return subs;
+        }
+
+        if (args.length == 2 && args[0].equalsIgnoreCase("vault")) {
+            if (!sender.hasPermission("xiannnaddons.cleanup.vault.others"))
+                return Collections.emptyList();
+
+            List<String> names = new ArrayList<>(List.of("all"));
+            for (Player p : Bukkit.getOnlinePlayers()) {
+                names.add(p.getName());
+            }
+            String partial = args[1].toLowerCase();
+            names.removeIf(s -> !s.toLowerCase().startsWith(partial));
+            return names;
+        }
+
+        if (args.length == 2 && args[0].equalsIgnoreCase("now")) {
+            if (!sender.hasPermission("xiannnaddons.cleanup.now"))
+                return Collections.emptyList();
+
+            List<String> worlds = new ArrayList<>(
+                    schedulesByWorld.keySet());
+            String partial = args[1].toLowerCase();
+            worlds.removeIf(s -> !s.toLowerCase().startsWith(partial));
+            return worlds;
+        }
+
+        if (args.length == 2 && args[0].equalsIgnoreCase("tp")) {
+            if (!sender.hasPermission("xiannnaddons.cleanup.hotspots"))
+                return Collections.emptyList();
+
+            List<String> worlds = new ArrayList<>();
+            for (World world : Bukkit.getWorlds()) {
+                worlds.add(world.getName());
+            }
+            String partial = args[1].toLowerCase();
+            worlds.removeIf(s -> !s.toLowerCase().startsWith(partial));
+            return worlds;
+        }
+
+        if (args.length == 2 && args[0].equalsIgnoreCase("zone")) {
+            if (!sender.hasPermission("xiannnaddons.cleanup.zone"))
+                return Collections.emptyList();
+
+            List<String> subs = new ArrayList<>(
+                    List.of("list", "add", "remove", "check"));
+            String partial = args[1].toLowerCase();
+            subs.removeIf(s -> !s.startsWith(partial));
+            return subs;
+        }
+
+        if (args.length == 3 && args[0].equalsIgnoreCase("zone")
+                && args[1].equalsIgnoreCase("remove")) {
+            if (!sender.hasPermission("xiannnaddons.cleanup.zone"))
+                return Collections.emptyList();
+
+            List<String> names = new ArrayList<>();
+            for (CleanupZones.Zone zone : zones.zones()) {
+                names.add(zone.name());
+            }
+            String partial = args[2].toLowerCase();
+            names.removeIf(s -> !s.toLowerCase().startsWith(partial));
+            return names;
+        }
+
+        if (args.length == 4 && args[0].equalsIgnoreCase("zone")
+                && args[1].equalsIgnoreCase("add")) {
+            if (!sender.hasPermission("xiannnaddons.cleanup.zone"))
+                return Collections.emptyList();
+
+            List<String> shapes = new ArrayList<>(
+                    List.of("radius", "cuboid"));
+            String partial = args[3].toLowerCase();
+            shapes.removeIf(s -> !s.startsWith(partial));
+            return shapes;
+        }
+
+        if (args.length == 2 && args[0].equalsIgnoreCase("index")) {
+            if (!sender.hasPermission("xiannnaddons.cleanup.debug"))
+                return Collections.emptyList();
+
+            List<String> subs = new ArrayList<>(
+                    List.of("verify", "rebuild"));
             String partial = args[1].toLowerCase();
             subs.removeIf(s -> !s.startsWith(partial));
             return subs;
@@ -308,6 +641,8 @@ public final class ItemCleanupModule implements AddonModule, Listener {
         log.info("Enabling...");
 
         moduleFolder = plugin.getModuleFolder(this);
+        vault = new LostAndFound(plugin, log,
+                new File(moduleFolder, "lostandfound"));
         configFile   = new File(moduleFolder, "config.yml");
         playersFile  = new File(moduleFolder, "players.yml");
 
@@ -317,12 +652,17 @@ public final class ItemCleanupModule implements AddonModule, Listener {
 
         loadConfig();
         loadPlayerToggles();
+        rebuildItemIndex();
+        startExpiryTask();
+        startConsolidateTask();
+        startVault();
         createBossBar();
         startTickTask();
         startAutoSaveTask();
 
         log.info("Enabled. interval=" + intervalSeconds
-                + "s, whitelist=" + whitelistedMats.size()
+                + "s, indexed=" + itemIndex.size()
+                + ", whitelist=" + whitelistedMats.size()
                 + ", bossbar=" + (bossbarEnabled ? "ON" : "OFF")
                 + ", actionbar=" + (actionbarEnabled ? "ON" : "OFF"));
     }
@@ -331,8 +671,17 @@ public final class ItemCleanupModule implements AddonModule, Listener {
     public void onDisable() {
         log.info("Disabling...");
         stopTickTask();
+        stopExpiryTask();
+        stopConsolidateTask();
+        abortSweep();
+        if (simulateTask != null) {
+            simulateTask.cancel();
+            simulateTask = null;
+        }
+        vault.stop();
         stopAutoSaveTask();
         hideBossBarFromAll();
+        schedules.forEach(this::hideScheduleBar);
 
         if (playersDirty) {
             savePlayerToggles();
@@ -341,6 +690,8 @@ public final class ItemCleanupModule implements AddonModule, Listener {
         playerBossbar.clear();
         playerActionbar.clear();
         bossbarViewers.clear();
+        itemIndex.clear();
+        owners.clear();
 
         log.info("Disabled.");
     }
@@ -348,9 +699,13 @@ public final class ItemCleanupModule implements AddonModule, Listener {
     @Override
     public void onReload() {
         log.info("Reloading...");
+        abortSweep();
         hideBossBarFromAll();
         loadConfig();
         loadPlayerToggles();
+        startExpiryTask();
+        startConsolidateTask();
+        startVault();
         createBossBar();
         startTickTask();
         log.info("Reloaded.");
@@ -377,6 +732,209 @@ public final class ItemCleanupModule implements AddonModule, Listener {
                 "Seconds between each cleanup cycle (minimum: 30)"));
         cfg.set("interval", 300);
 
+        // Sweep
+        cfg.setComments("sweep", List.of(
+                "How the cleanup pass walks loaded chunks.",
+                "mode: 'instant'     = all worlds in a single tick",
+                "      'incremental' = spread over several ticks",
+                "budget-micros: max time spent per tick (incremental)",
+                "chunks-per-batch: chunks scanned between budget checks"));
+        cfg.set("sweep.mode", "incremental");
+        cfg.set("sweep.budget-micros", 2000);
+        cfg.set("sweep.chunks-per-batch", 16);
+
+        // Rolling expiry
+        cfg.setComments("expiry", List.of(
+                "Rolling expiry: each item is removed once its age",
+                "passes its TTL, instead of everything at once.",
+                "TTLs are in seconds; -1 = never expire.",
+                "Lookup: world group > group > world default > default",
+                "keep-sweep: also keep the periodic countdown sweep",
+                "max-per-tick: cap on removals per tick"));
+        cfg.set("expiry.enabled", false);
+        cfg.set("expiry.keep-sweep", false);
+        cfg.set("expiry.max-per-tick", 200);
+        cfg.set("expiry.default-ttl", 300);
+        cfg.set("expiry.groups.junk.ttl", 60);
+        cfg.set("expiry.groups.junk.materials", List.of(
+                "COBBLESTONE", "COBBLED_DEEPSLATE", "DIRT",
+                "NETHERRACK", "ROTTEN_FLESH", "BONE", "STRING",
+                "SPIDER_EYE", "ARROW"));
+        cfg.set("expiry.groups.valuables.ttl", 900);
+        cfg.set("expiry.groups.valuables.materials", List.of(
+                "DIAMOND", "EMERALD", "NETHERITE_INGOT",
+                "NETHERITE_SCRAP", "ANCIENT_DEBRIS"));
+        cfg.set("expiry.worlds.world_nether.default-ttl", 180);
+
+        // Chunk lifecycle
+        cfg.setComments("lifecycle", List.of(
+                "Items in chunks that unload before a sweep are never",
+                "swept. Each item's spawn tick is stored on the entity, so",
+                "its age keeps counting while the chunk is unloaded.",
+                "remove-on-load:   drop expired items as their chunk loads",
+                "remove-on-unload: drop expired items as their chunk unloads",
+                "max-age: lifetime in seconds when rolling expiry is off",
+                "(with expiry on, its TTLs apply; zone TTLs always win)"));
+        cfg.set("lifecycle.remove-on-load", false);
+        cfg.set("lifecycle.remove-on-unload", false);
+        cfg.set("lifecycle.max-age", 300);
+
+        // Density cap
+        cfg.setComments("density", List.of(
+                "Per-chunk ground item cap, enforced on spawn.",
+                "action: 'evict-oldest' = remove the oldest",
+                "                         non-whitelisted item",
+                "        'cancel-spawn' = block the new item",
+                "log-interval: seconds between reports per chunk"));
+        cfg.set("density.enabled", false);
+        cfg.set("density.max-per-chunk", 400);
+        cfg.set("density.action", "evict-oldest");
+        cfg.set("density.log-interval", 30);
+
+        // Drop rate limit
+        cfg.setComments("drop-limit", List.of(
+                "Token buckets on how fast items are dropped. rate =",
+                "items per second refilled, burst = bucket size.",
+                "player: drops by one player (Q, inventory throws)",
+                "chunk:  all player drops plus dispensers/droppers",
+                "        in one chunk (if 'dispensers' is on)",
+                "An empty bucket cancels the drop; the item stays in",
+                "the inventory or dispenser. Whitelisted items are",
+                "never limited. Staff with xiannnaddons.cleanup.alerts",
+                "are told, at most once per alert-cooldown seconds per",
+                "player or chunk."));
+        cfg.set("drop-limit.enabled", false);
+        cfg.set("drop-limit.player.rate", 10);
+        cfg.set("drop-limit.player.burst", 40);
+        cfg.set("drop-limit.chunk.rate", 40);
+        cfg.set("drop-limit.chunk.burst", 160);
+        cfg.set("drop-limit.dispensers", true);
+        cfg.set("drop-limit.alert-cooldown", 30);
+
+        // Stack consolidation
+        cfg.setComments("consolidate", List.of(
+                "Periodically merges partial stacks of identical items",
+                "in the same chunk into full stacks. Nothing is",
+                "deleted; only the emptied entities are removed.",
+                "interval: seconds between passes",
+                "min-items: skip chunks holding fewer items"));
+        cfg.set("consolidate.enabled", false);
+        cfg.set("consolidate.interval", 60);
+        cfg.set("consolidate.min-items", 4);
+
+        // Entity policies
+        cfg.setComments("entities", List.of(
+                "Cleanup of non-item entities, in the same pass.",
+                "Type keys: entity type names, or 'boats' /",
+                "'minecarts' for every boat / minecart type.",
+                "min-age: seconds an entity must have lived",
+                "max-per-chunk: -1 = remove every old-enough one;",
+                "               N  = keep the N youngest per chunk",
+                "Named, ridden, riding and storage entities are",
+                "never removed.",
+                "worlds.<world>.<type>: override single fields"));
+        cfg.set("entities.enabled", false);
+        cfg.set("entities.types.arrow.enabled", true);
+        cfg.set("entities.types.arrow.min-age", 60);
+        cfg.set("entities.types.arrow.max-per-chunk", -1);
+        cfg.set("entities.types.spectral_arrow.enabled", true);
+        cfg.set("entities.types.spectral_arrow.min-age", 60);
+        cfg.set("entities.types.spectral_arrow.max-per-chunk", -1);
+        cfg.set("entities.types.experience_orb.enabled", true);
+        cfg.set("entities.types.experience_orb.min-age", 120);
+        cfg.set("entities.types.experience_orb.max-per-chunk", -1);
+        cfg.set("entities.types.falling_block.enabled", true);
+        cfg.set("entities.types.falling_block.min-age", 30);
+        cfg.set("entities.types.falling_block.max-per-chunk", -1);
+        cfg.set("entities.types.minecarts.enabled", false);
+        cfg.set("entities.types.minecarts.min-age", 600);
+        cfg.set("entities.types.minecarts.max-per-chunk", 8);
+        cfg.set("entities.types.boats.enabled", false);
+        cfg.set("entities.types.boats.min-age", 600);
+        cfg.set("entities.types.boats.max-per-chunk", 8);
+        cfg.set("entities.worlds.world_nether.experience_orb.min-age", 30);
+
+        // Lost-and-found vault
+        cfg.setComments("vault", List.of(
+                "Keeps a copy of removed stacks so they can be",
+                "claimed back with /cleanup vault.",
+                "owned-only: only keep items a player dropped",
+                "max-kb-per-world: journal cap; oldest go first"));
+        cfg.set("vault.enabled", false);
+        cfg.set("vault.owned-only", true);
+        cfg.set("vault.max-kb-per-world", 2048);
+
+        // Per-world schedules
+        cfg.setComments("schedules", List.of(
+                "Worlds with their own cleanup cycle, independent of",
+                "'interval'. Display thresholds default to the global ones;",
+                "'whitelist' replaces the global whitelist for that world.",
+                "Boss bar, action bar and warnings only reach players in",
+                "the world counting down. stagger-gap: minimum seconds",
+                "between any two scheduled sweeps.",
+                "  worlds:",
+                "    world_resource:",
+                "      interval: 120",
+                "      bossbar-show-at: 30",
+                "      countdown-times: [30, 10, 5, 3, 2, 1]",
+                "      whitelist: { materials: [SHULKER_BOX] }"));
+        cfg.set("schedules.stagger-gap", 10);
+        cfg.createSection("schedules.worlds");
+
+        // Zones
+        cfg.setComments("zones", List.of(
+                "Regions where items are never removed (ttl: protect) or",
+                "live for their own TTL in seconds, both in sweeps and in",
+                "rolling expiry. Also editable with /cleanup zone.",
+                "  spawn:  { world: world, type: radius, x: 0, z: 0,",
+                "            radius: 48, ttl: protect }",
+                "  arena:  { world: world, type: cuboid, pos1: [100, 60, 100],",
+                "            pos2: [180, 120, 180], ttl: 900 }"));
+        cfg.createSection("zones");
+
+        // Player proximity
+        cfg.setComments("proximity", List.of(
+                "Leave items alone in chunks within 'radius' blocks of",
+                "an online player - they are likely being picked up.",
+                "Checked per chunk, so items up to a chunk further out",
+                "may also be spared. Sweeps only; rolling expiry and",
+                "the chunk lifecycle still apply. radius is capped at",
+                "the server view distance."));
+        cfg.set("proximity.enabled", false);
+        cfg.set("proximity.radius", 8);
+        cfg.set("proximity.include-spectators", false);
+
+        // History
+        cfg.setComments("history", List.of(
+                "Recent cleanups kept for /cleanup history, and how many",
+                "of each cleanup's busiest chunks are remembered for",
+                "/cleanup hotspots."));
+        cfg.set("history.size", 20);
+        cfg.set("history.hotspots-per-cleanup", 5);
+
+        // Adaptive interval
+        cfg.setComments("adaptive", List.of(
+                "Adjusts the interval to server load (MSPT/TPS) and",
+                "how fast ground items pile up.",
+                "high-mspt: above this the interval shrinks in",
+                "           proportion (interval x high / mspt)",
+                "high-growth: items/min above which it also shrinks",
+                "low-mspt + clean-items: below both (and no growth)",
+                "           the interval stretches to max-interval",
+                "pressure-threshold: items x mspt at which a cleanup",
+                "           is pulled forward to early-warning seconds",
+                "check-every: seconds between evaluations"));
+        cfg.set("adaptive.enabled", false);
+        cfg.set("adaptive.min-interval", 60);
+        cfg.set("adaptive.max-interval", 900);
+        cfg.set("adaptive.high-mspt", 40.0);
+        cfg.set("adaptive.low-mspt", 20.0);
+        cfg.set("adaptive.clean-items", 200);
+        cfg.set("adaptive.high-growth", 600);
+        cfg.set("adaptive.pressure-threshold", 100000);
+        cfg.set("adaptive.early-warning", 30);
+        cfg.set("adaptive.check-every", 5);
+
         // Countdown
         cfg.setComments("countdown", List.of(
                 "Chat warnings before each cleanup.",
@@ -384,6 +942,11 @@ public final class ItemCleanupModule implements AddonModule, Listener {
         cfg.set("countdown.enabled", true);
         cfg.set("countdown.times",
                 List.of(60, 30, 10, 5, 4, 3, 2, 1));
+        cfg.setComments("countdown.targeted", List.of(
+                "Only warn (and play the countdown sound to) players",
+                "who dropped items that the cleanup would remove, using",
+                "messages.countdown-personal. Death drops count too."));
+        cfg.set("countdown.targeted", false);
 
         // Sound
         cfg.setComments("sound", List.of(
@@ -436,6 +999,19 @@ public final class ItemCleanupModule implements AddonModule, Listener {
                 "<color:#2ECC71>✔</color> <white>Cleaned up "
                 + "<color:#FFD700>{count}</color> "
                 + "item(s) from the ground.</white>");
+        cfg.setComments("messages.countdown-personal", List.of(
+                "Used instead of messages.countdown when",
+                "countdown.targeted is on. {count} = the player's items"));
+        cfg.set("messages.countdown-personal",
+                "<color:#FF6347>⚠</color> <white>Item cleanup in "
+                + "<color:#FFD700>{time}</color>! You have "
+                + "<color:#FFD700>{count}</color> item(s) on the "
+                + "ground.</white>");
+        cfg.setComments("messages.cleanup-entities", List.of(
+                "Sent after messages.cleanup when entity policies",
+                "removed anything. {details} = per-type counts"));
+        cfg.set("messages.cleanup-entities",
+                "<gray>Also removed: <white>{details}</white></gray>");
 
         // Whitelist
         cfg.setComments("whitelist", List.of(
@@ -455,6 +1031,23 @@ public final class ItemCleanupModule implements AddonModule, Listener {
                 "ENCHANTED_GOLDEN_APPLE"));
         cfg.set("whitelist.preserve-enchanted", true);
         cfg.set("whitelist.preserve-named", true);
+        cfg.setComments("whitelist.preserve-thrown-by-player", List.of(
+                "Keep anything a player dropped by hand"));
+        cfg.set("whitelist.preserve-thrown-by-player", false);
+        cfg.setComments("whitelist.rarities", List.of(
+                "COMMON, UNCOMMON, RARE, EPIC"));
+        cfg.set("whitelist.rarities", List.of("EPIC"));
+        cfg.setComments("whitelist.custom-model-data", List.of(
+                "Model data values (number or string); '*' = any"));
+        cfg.set("whitelist.custom-model-data", List.of());
+        cfg.setComments("whitelist.pdc-keys", List.of(
+                "Keep items carrying any of these PDC keys",
+                "(e.g. myplugin:soulbound)"));
+        cfg.set("whitelist.pdc-keys", List.of());
+        cfg.setComments("whitelist.lore-patterns", List.of(
+                "Regex matched against each plain-text lore line",
+                "(e.g. '(?i)soulbound')"));
+        cfg.set("whitelist.lore-patterns", List.of());
 
         // Worlds
         cfg.setComments("worlds", List.of(
@@ -481,17 +1074,79 @@ public final class ItemCleanupModule implements AddonModule, Listener {
         // Timing
         intervalSeconds = Math.max(30, cfg.getInt("interval", 300));
         countdown = intervalSeconds;
+        effectiveInterval = intervalSeconds;
+        intervalReason = "configured";
+        cycleElapsed = 0;
+
+        // Sweep
+        sweepIncremental = !"instant".equalsIgnoreCase(
+                cfg.getString("sweep.mode", "incremental"));
+        sweepBudgetMicros = Math.max(100,
+                cfg.getInt("sweep.budget-micros", 2000));
+        sweepChunksPerBatch = Math.max(1,
+                cfg.getInt("sweep.chunks-per-batch", 16));
+
+        // Rolling expiry
+        expiryEnabled = cfg.getBoolean("expiry.enabled", false);
+        expiryKeepSweep = cfg.getBoolean("expiry.keep-sweep", false);
+        expiryMaxPerTick = Math.max(1,
+                cfg.getInt("expiry.max-per-tick", 200));
+        expiryRules = ExpiryRules.compile(
+                cfg.getConfigurationSection("expiry"), log);
+
+        // Chunk lifecycle
+        lifecycleOnLoad = cfg.getBoolean(
+                "lifecycle.remove-on-load", false);
+        lifecycleOnUnload = cfg.getBoolean(
+                "lifecycle.remove-on-unload", false);
+        lifecycleMaxAge = Math.max(1,
+                cfg.getInt("lifecycle.max-age", 300)) * 20;
+
+        // Density cap
+        densityLimiter.load(cfg.getConfigurationSection("density"));
+
+        // Drop rate limit
+        dropLimiter.load(cfg.getConfigurationSection("drop-limit"));
+
+        // Exclusion zones
+        zones = CleanupZones.compile(
+                cfg.getConfigurationSection("zones"), log);
+
+        // Player proximity
+        proximity.load(cfg.getConfigurationSection("proximity"), log);
+
+        // Entity policies
+        entityPolicies = EntityPolicies.compile(
+                cfg.getConfigurationSection("entities"), log);
+
+        // Lost-and-found vault
+        vault.load(cfg.getConfigurationSection("vault"));
+
+        // Stack consolidation
+        consolidator.load(cfg.getConfigurationSection("consolidate"));
+
+        // History
+        history.load(cfg.getConfigurationSection("history"));
+
+        // Adaptive interval
+        adaptive.load(cfg.getConfigurationSection("adaptive"));
+        adaptiveCheckIn = 0;
 
         // Countdown
         countdownEnabled = cfg.getBoolean("countdown.enabled", true);
         countdownTimes = cfg.getIntegerList("countdown.times");
         countdownTimes.sort(Collections.reverseOrder());
+        countdownTargeted = cfg.getBoolean("countdown.targeted", false);
 
         // Messages
         rawCountdownMsg = cfg.getString("messages.countdown",
                 "⚠ Cleanup in {time}!");
         rawCleanupMsg = cfg.getString("messages.cleanup",
                 "✔ Cleaned {count} item(s).");
+        rawEntitiesMsg = cfg.getString("messages.cleanup-entities",
+                "Also removed: {details}");
+        rawPersonalMsg = cfg.getString("messages.countdown-personal",
+                "⚠ Cleanup in {time}! You have {count} item(s) down.");
 
         // Sound — countdown
         countdownSoundEnabled = cfg.getBoolean(
@@ -575,6 +1230,7 @@ public final class ItemCleanupModule implements AddonModule, Listener {
                 "whitelist.preserve-enchanted", true);
         preserveNamed = cfg.getBoolean(
                 "whitelist.preserve-named", true);
+        whitelistSection = cfg.getConfigurationSection("whitelist");
 
         // Worlds
         worldToggles.clear();
@@ -590,8 +1246,50 @@ public final class ItemCleanupModule implements AddonModule, Listener {
             }
         }
 
+        // Per-world schedules (old bars go before the list is swapped)
+        for (WorldSchedule schedule : schedules) {
+            hideScheduleBar(schedule);
+        }
+        staggerGap = Math.max(0, cfg.getInt("schedules.stagger-gap", 10));
+        schedules = WorldSchedule.load(
+                cfg.getConfigurationSection("schedules.worlds"),
+                bossbarShowAt, actionbarShowAt, countdownTimes, log);
+        Map<String, WorldSchedule> byWorld = new HashMap<>();
+        for (WorldSchedule schedule : schedules) {
+            byWorld.put(schedule.getWorld(), schedule);
+        }
+        schedulesByWorld = byWorld;
+
+        // Global whitelist plus per-schedule overrides
+        compileWhitelist();
+        recountOwners();
+
+        buildCountdownFrames();
+
         log.info("Config: interval=" + intervalSeconds
-                + "s, whitelist=" + whitelistedMats.size()
+                + "s, sweep=" + (sweepIncremental
+                        ? "incremental@" + sweepBudgetMicros + "us"
+                        : "instant")
+                + ", expiry=" + (expiryEnabled
+                        ? expiryRules.groupCount() + " group(s)"
+                        : "OFF")
+                + ", density=" + (densityLimiter.isEnabled()
+                        ? densityLimiter.getMaxPerChunk() + "/chunk"
+                        : "OFF")
+                + ", entities=" + (entityPolicies.isEnabled()
+                        ? entityPolicies.typeCount() + " type(s)"
+                        : "OFF")
+                + ", vault=" + (vault.isEnabled()
+                        ? (vault.getMaxBytesPerWorld() / 1024) + "KB/world"
+                        : "OFF")
+                + ", consolidate=" + (consolidator.isEnabled()
+                        ? "every " + consolidator.getIntervalSeconds() + "s"
+                        : "OFF")
+                + ", adaptive=" + (adaptive.isEnabled()
+                        ? adaptive.getMinInterval() + "-"
+                                + adaptive.getMaxInterval() + "s"
+                        : "OFF")
+                + ", whitelist=" + whitelistedMats.size()
                 + ", bossbar=" + (bossbarEnabled
                         ? "ON@" + bossbarShowAt + "s" : "OFF")
                 + ", actionbar=" + (actionbarEnabled
@@ -602,6 +1300,69 @@ public final class ItemCleanupModule implements AddonModule, Listener {
                         ? clType : "OFF"));
     }
 
+    /**
+     * Renders every countdown display second once, so the tick only
+     * looks components up. Chat frames exist only for the configured
+     * warning times, which also makes them the warning lookup.
+     */
+    private void buildCountdownFrames() {
+        bossbarFrames.build(bossbarEnabled ? bossbarShowAt : 0,
+                s -> true,
+                s -> parseFormatted(rawBossbarTitle.replace(
+                        "{time}", formatTime(s))));
+
+        actionbarFrames.build(actionbarEnabled ? actionbarShowAt : 0,
+                s -> true,
+                s -> parseFormatted(rawActionbarMsg.replace(
+                        "{time}", formatTime(s))));
+
+        Set<Integer> times = new HashSet<>(countdownTimes);
+        chatFrames.build(countdownEnabled && !countdownTimes.isEmpty()
+                        ? countdownTimes.get(0) : 0,
+                times::contains,
+                s -> parseFormatted(rawCountdownMsg.replace(
+                        "{time}", formatTime(s))));
+
+        for (WorldSchedule schedule : schedules) {
+            schedule.getBossbarFrames().build(
+                    bossbarEnabled ? schedule.getBossbarShowAt() : 0,
+                    s -> true,
+                    s -> parseFormatted(rawBossbarTitle.replace(
+                            "{time}", formatTime(s))));
+            schedule.getActionbarFrames().build(
+                    actionbarEnabled ? schedule.getActionbarShowAt() : 0,
+                    s -> true,
+                    s -> parseFormatted(rawActionbarMsg.replace(
+                            "{time}", formatTime(s))));
+            Set<Integer> own = new HashSet<>(schedule.getCountdownTimes());
+            schedule.getChatFrames().build(countdownEnabled
+                            && !own.isEmpty()
+                            ? schedule.getCountdownTimes().get(0) : 0,
+                    own::contains,
+                    s -> parseFormatted(rawCountdownMsg.replace(
+                            "{time}", formatTime(s))));
+        }
+
+        log.debug("Countdown frames: bossbar=" + bossbarFrames.size()
+                + ", actionbar=" + actionbarFrames.size()
+                + ", chat=" + chatFrames.size());
+    }
+
+    private void saveZones() {
+        YamlConfiguration cfg =
+                YamlConfiguration.loadConfiguration(configFile);
+        ConfigurationSection sec = cfg.createSection("zones");
+        for (CleanupZones.Zone zone : zones.zones()) {
+            zone.writeTo(sec);
+        }
+        try {
+            cfg.save(configFile);
+            log.debug("Zones saved.");
+        } catch (IOException e) {
+            log.error("Could not save zones!", e);
+        }
+    }
+
     private void saveWhitelist() {
         YamlConfiguration cfg =
                 YamlConfiguration.loadConfiguration(configFile);
@@ -714,58 +1475,144 @@ public final class ItemCleanupModule implements AddonModule, Listener {
                 bossbarColor,
                 bossbarStyle
         );
+        for (WorldSchedule schedule : schedules) {
+            hideScheduleBar(schedule);
+            schedule.setBossBar(BossBar.bossBar(
+                    Component.text("Item Cleanup"),
+                    1.0F,
+                    bossbarColor,
+                    bossbarStyle));
+        }
 
         log.debug("BossBar created: color=" + bossbarColor
                 + " style=" + bossbarStyle);
     }
 
     /**
-     * Updates the boss bar title, progress, and viewer list.
+     * Updates the shared boss bar title and progress. Viewers are
+     * only added when the countdown enters the window; after that,
+     * join/quit and toggles keep the set current.
      */
     private void updateBossBar(int secondsLeft) {
         if (!bossbarEnabled || bossBar == null) return;
 
+        if (!bossbarShowing) showBossBarToAll();
+
+        styleBossBar(bossBar, bossbarFrames, secondsLeft, bossbarShowAt);
+    }
+
+    private void styleBossBar(BossBar bar, CountdownFrames frames,
+                              int secondsLeft, int showAt) {
         // Progress: 1.0 at showAt, 0.0 at 0
         float progress = Math.max(0F, Math.min(1F,
-                (float) secondsLeft / (float) bossbarShowAt));
-
-        // Title with {time} replaced
-        String timeStr = formatTime(secondsLeft);
-        String filled = rawBossbarTitle.replace("{time}", timeStr);
-        Component title = parseFormatted(filled);
+                (float) secondsLeft / (float) showAt));
 
-        bossBar.name(title);
-        bossBar.progress(progress);
+        Component title = frames.get(secondsLeft);
+        if (title != null) bar.name(title);
+        bar.progress(progress);
 
         // Change color when getting close
         if (secondsLeft <= 5) {
-            bossBar.color(BossBar.Color.RED);
+            bar.color(BossBar.Color.RED);
         } else if (secondsLeft <= 15) {
-            bossBar.color(BossBar.Color.YELLOW);
+            bar.color(BossBar.Color.YELLOW);
         } else {
-            bossBar.color(bossbarColor);
+            bar.color(bossbarColor);
         }
+    }
+
+    /**
+     * Window entered: shows the bar to every opted-in player. The
+     * only online-player scan per countdown cycle.
+     */
+    private void showBossBarToAll() {
+        bossbarShowing = true;
 
-        // Show to eligible players
         for (Player player : Bukkit.getOnlinePlayers()) {
             UUID uuid = player.getUniqueId();
+            if (isBossbarOn(uuid) && isOnGlobalSchedule(player)
+                    && bossbarViewers.add(uuid)) {
+                player.showBossBar(bossBar);
+            }
+        }
 
-            if (isBossbarOn(uuid)) {
-                if (!bossbarViewers.contains(uuid)) {
-                    player.showBossBar(bossBar);
-                    bossbarViewers.add(uuid);
-                    log.debug("BossBar shown to: "
-                            + player.getName());
+        log.debug("BossBar shown to " + bossbarViewers.size()
+                + " viewer(s).");
+    }
+
+    /**
+     * Shows a world schedule's bar to the opted-in players of that
+     * world (window entered), then styles it for this second.
+     */
+    private void updateScheduleBar(WorldSchedule schedule, World world,
+                                   int secondsLeft) {
+        BossBar bar = schedule.getBossBar();
+        if (bar == null) return;
+
+        if (!schedule.isShowing()) {
+            schedule.setShowing(true);
+            for (Player player : world.getPlayers()) {
+                UUID uuid = player.getUniqueId();
+                if (isBossbarOn(uuid)
+                        && schedule.getViewers().add(uuid)) {
+                    player.showBossBar(bar);
                 }
-            } else {
-                if (bossbarViewers.contains(uuid)) {
-                    player.hideBossBar(bossBar);
-                    bossbarViewers.remove(uuid);
+            }
+        }
+
+        styleBossBar(bar, schedule.getBossbarFrames(), secondsLeft,
+                schedule.getBossbarShowAt());
+    }
+
+    private void hideScheduleBar(WorldSchedule schedule) {
+        BossBar bar = schedule.getBossBar();
+        if (bar != null) {
+            for (UUID uuid : schedule.getViewers()) {
+                Player player = Bukkit.getPlayer(uuid);
+                if (player != null) player.hideBossBar(bar);
+            }
+        }
+        schedule.getViewers().clear();
+        schedule.setShowing(false);
+    }
+
+    /**
+     * Puts a player on the one bar that applies to them — their
+     * world's schedule, else the global one — if it is showing and
+     * they have bars on. Called on join, quit, world change and
+     * toggle.
+     */
+    private void refreshBossBar(Player player, boolean online) {
+        UUID uuid = player.getUniqueId();
+        WorldSchedule own = online
+                ? schedulesByWorld.get(player.getWorld().getName())
+                : null;
+        boolean wanted = online && isBossbarOn(uuid);
+
+        if (wanted && own == null && bossbarShowing) {
+            if (bossbarViewers.add(uuid)) player.showBossBar(bossBar);
+        } else if (bossbarViewers.remove(uuid)) {
+            player.hideBossBar(bossBar);
+        }
+
+        for (WorldSchedule schedule : schedules) {
+            BossBar bar = schedule.getBossBar();
+            if (wanted && schedule == own && schedule.isShowing()) {
+                if (schedule.getViewers().add(uuid)) {
+                    player.showBossBar(bar);
                 }
+            } else if (schedule.getViewers().remove(uuid)) {
+                player.hideBossBar(bar);
             }
         }
     }
 
+    /** @return true if the player's world follows the global countdown */
+    private boolean isOnGlobalSchedule(Player player) {
+        return schedulesByWorld.isEmpty() || !schedulesByWorld
+                .containsKey(player.getWorld().getName());
+    }
+
     /**
      * Hides the boss bar from all current viewers.
      */
@@ -779,6 +1626,7 @@ public final class ItemCleanupModule implements AddonModule, Listener {
             }
         }
         bossbarViewers.clear();
+        bossbarShowing = false;
 
         log.debug("BossBar hidden from all viewers.");
     }
@@ -789,7 +1637,26 @@ public final class ItemCleanupModule implements AddonModule, Listener {
 
     private void startTickTask() {
         stopTickTask();
-        countdown = intervalSeconds;
+        countdown = effectiveInterval;
+        cycleElapsed = 0;
+
+        // Phase the world cycles apart from the global one and each
+        // other (unset schedules are parked far away meanwhile)
+        for (WorldSchedule schedule : schedules) {
+            schedule.setCountdown(Integer.MIN_VALUE / 2);
+        }
+        for (WorldSchedule schedule : schedules) {
+            schedule.setCountdown(staggered(
+                    schedule.getIntervalSeconds(), schedule));
+        }
+
+        // World schedules keep their own cycles even when rolling
+        // expiry replaces the global sweep
+        if (!isSweepScheduled() && schedules.isEmpty()) {
+            log.debug("Tick task not started — rolling expiry "
+                    + "replaces the periodic sweep.");
+            return;
+        }
 
         tickTask = new BukkitRunnable() {
             @Override
@@ -798,8 +1665,10 @@ public final class ItemCleanupModule implements AddonModule, Listener {
             }
         }.runTaskTimer(plugin, 20L, 20L);
 
-        log.debug("Tick task started. Cleanup in "
-                + intervalSeconds + "s.");
+        log.debug("Tick task started. "
+                + (isSweepScheduled()
+                        ? "Cleanup in " + effectiveInterval + "s."
+                        : "World schedules only."));
     }
 
     private void stopTickTask() {
@@ -809,6 +1678,11 @@ public final class ItemCleanupModule implements AddonModule, Listener {
         }
     }
 
+    /** @return true if the countdown sweep runs on a timer */
+    private boolean isSweepScheduled() {
+        return !expiryEnabled || expiryKeepSweep;
+    }
+
     private void startAutoSaveTask() {
         if (autoSaveTask != null) {
             autoSaveTask.cancel();
@@ -835,7 +1709,27 @@ public final class ItemCleanupModule implements AddonModule, Listener {
      * Called every second.
      */
     private void tick() {
+        if (isSweepScheduled()) {
+            tickGlobal();
+        }
+
+        // ── Per-world schedules ─────────────────────────────────────
+        for (WorldSchedule schedule : schedules) {
+            tickSchedule(schedule);
+        }
+    }
+
+    /** One second of the global countdown. */
+    private void tickGlobal() {
         countdown--;
+        cycleElapsed++;
+
+        // ── Adaptive interval ───────────────────────────────────────
+        if (adaptive.isEnabled() && activeSweep == null
+                && --adaptiveCheckIn <= 0) {
+            adaptiveCheckIn = adaptive.getCheckEvery();
+            applyAdaptiveInterval();
+        }
 
         // ── Boss bar ────────────────────────────────────────────────
         if (bossbarEnabled && countdown > 0
@@ -843,7 +1737,7 @@ public final class ItemCleanupModule implements AddonModule, Listener {
             updateBossBar(countdown);
         } else if (bossbarEnabled && countdown > bossbarShowAt) {
             // Outside range — hide if showing
-            if (!bossbarViewers.isEmpty()) {
+            if (bossbarShowing) {
                 hideBossBarFromAll();
             }
         }
@@ -856,27 +1750,212 @@ public final class ItemCleanupModule implements AddonModule, Listener {
 
         // ── Chat countdown warnings ─────────────────────────────────
         if (countdownEnabled && countdown > 0
-                && countdownTimes.contains(countdown)) {
+                && chatFrames.has(countdown)) {
             broadcastCountdown(countdown);
         }
 
         // ── Cleanup ─────────────────────────────────────────────────
+        // Busy with a world's sweep: retry next second
         if (countdown <= 0) {
-            performCleanup(false);
-            countdown = intervalSeconds;
+            if (performCleanup(false, null)) {
+                countdown = staggered(effectiveInterval, null);
+                cycleElapsed = 0;
+            } else {
+                countdown = 0;
+            }
+        }
+    }
+
+    /**
+     * One second of a world's own cycle: same display steps as the
+     * global countdown, but only for players in that world.
+     */
+    private void tickSchedule(WorldSchedule schedule) {
+        int left = schedule.tick();
+        World world = Bukkit.getWorld(schedule.getWorld());
+
+        if (world == null) {
+            if (left <= 0) {
+                schedule.setCountdown(staggered(
+                        schedule.getIntervalSeconds(), schedule));
+            }
+            return;
+        }
+
+        // Boss bar
+        if (bossbarEnabled && left > 0
+                && left <= schedule.getBossbarShowAt()) {
+            updateScheduleBar(schedule, world, left);
+        } else if (schedule.isShowing()) {
+            hideScheduleBar(schedule);
+        }
+
+        // Action bar
+        if (actionbarEnabled && left > 0
+                && left <= schedule.getActionbarShowAt()) {
+            Component message = schedule.getActionbarFrames().get(left);
+            if (message != null) {
+                for (Player player : world.getPlayers()) {
+                    if (isActionbarOn(player.getUniqueId())) {
+                        player.sendActionBar(message);
+                    }
+                }
+            }
+        }
+
+        // Chat warnings
+        if (countdownEnabled && countdownTargeted && left > 0
+                && schedule.getChatFrames().has(left)) {
+            UUID worldId = world.getUID();
+            warnOwners(Bukkit.getOnlinePlayers(), left,
+                    worldId::equals);
+        } else if (countdownEnabled && left > 0
+                && schedule.getChatFrames().has(left)) {
+            Component message = schedule.getChatFrames().get(left);
+            for (Player player : world.getPlayers()) {
+                player.sendMessage(message);
+                if (cachedCountdownSound != null) {
+                    player.playSound(cachedCountdownSound);
+                }
+            }
+        }
+
+        // Sweep — retry next second if another sweep is running
+        if (left <= 0) {
+            schedule.setCountdown(performCleanup(false, schedule)
+                    ? staggered(schedule.getIntervalSeconds(), schedule)
+                    : 0);
+        }
+    }
+
+    /**
+     * Pushes a proposed countdown back until it is at least
+     * {@code stagger-gap} seconds from every other cycle's next
+     * sweep, so no two sweeps start in the same tick.
+     *
+     * @param self the schedule being reset, or null for the global one
+     */
+    private int staggered(int proposed, WorldSchedule self) {
+        if (schedules.isEmpty() || staggerGap == 0) return proposed;
+
+        int value = proposed;
+        boolean moved = true;
+        while (moved && value < proposed + 3600) {
+            moved = false;
+            if (self != null && isSweepScheduled()
+                    && Math.abs(countdown - value) < staggerGap) {
+                value = countdown + staggerGap;
+                moved = true;
+            }
+            for (WorldSchedule other : schedules) {
+                if (other == self) continue;
+                int next = other.getCountdown();
+                if (Math.abs(next - value) < staggerGap) {
+                    value = next + staggerGap;
+                    moved = true;
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Re-evaluates load and moves the countdown to the new target.
+     * Time already elapsed in the cycle is kept, so a shorter
+     * interval brings the cleanup forward and a longer one pushes it
+     * back — except once warnings have started, which are never
+     * postponed.
+     */
+    private void applyAdaptiveInterval() {
+        int items = 0;
+        for (World world : Bukkit.getWorlds()) {
+            if (isWorldEnabled(world.getName())
+                    && !schedulesByWorld.containsKey(world.getName())) {
+                items += itemIndex.size(world.getUID());
+            }
+        }
+
+        double mspt = Bukkit.getAverageTickTime();
+        double tps  = Bukkit.getTPS()[0];
+        AdaptiveScheduler.Decision decision = adaptive.evaluate(
+                intervalSeconds, items, mspt, tps,
+                System.currentTimeMillis());
+
+        int elapsed = cycleElapsed;
+
+        if (decision.intervalSeconds() != effectiveInterval) {
+            int retargeted = Math.max(1,
+                    decision.intervalSeconds() - elapsed);
+            if (retargeted < countdown || countdown > warningLead()) {
+                countdown = staggered(retargeted, null);
+            }
+            log.debug("Adaptive interval " + effectiveInterval + "s → "
+                    + decision.intervalSeconds() + "s ("
+                    + decision.reason() + "), next cleanup in "
+                    + countdown + "s.");
+            effectiveInterval = decision.intervalSeconds();
         }
+        intervalReason = decision.reason();
+
+        // Pull the cleanup forward, but never closer than
+        // min-interval to the previous one
+        if (decision.earlyCleanup()) {
+            int early = Math.max(adaptive.getEarlyWarning(),
+                    adaptive.getMinInterval() - elapsed);
+            if (early < countdown) {
+                countdown = staggered(early, null);
+                log.info("Early cleanup in " + early + "s: "
+                        + decision.reason());
+            }
+        }
+    }
+
+    /** @return seconds before a cleanup at which warnings begin */
+    private int warningLead() {
+        int lead = 0;
+        if (bossbarEnabled)   lead = Math.max(lead, bossbarShowAt);
+        if (actionbarEnabled) lead = Math.max(lead, actionbarShowAt);
+        if (countdownEnabled && !countdownTimes.isEmpty()) {
+            lead = Math.max(lead, countdownTimes.get(0));
+        }
+        return lead;
     }
 
     /* ================================================================== */
     /*  Cleanup execution                                                    */
     /* ================================================================== */
 
-    private void performCleanup(boolean forced) {
-        long startTime = System.currentTimeMillis();
-        log.debug("Cleanup starting (forced=" + forced + ")...");
+    /**
+     * Starts a cleanup pass. In incremental mode the pass continues
+     * on following ticks and {@link #finishCleanup} runs when the
+     * last chunk has been scanned; in instant mode it completes here.
+     *
+     * @param schedule sweep only this world's schedule, or null for
+     *                 the global cycle (every world when forced)
+     * @return false if a sweep was already running
+     */
+    private boolean performCleanup(boolean forced,
+                                   WorldSchedule schedule) {
+        if (activeSweep != null) {
+            log.debug("Cleanup skipped — sweep already running ("
+                    + activeSweep.getTicks() + " tick(s) so far).");
+            return false;
+        }
+
+        log.debug("Cleanup starting (forced=" + forced
+                + ", mode=" + (sweepIncremental
+                        ? "incremental" : "instant") + ")...");
+
+        // Hide boss bar — countdown is over
+        if (schedule != null) {
+            hideScheduleBar(schedule);
+        } else {
+            hideBossBarFromAll();
+            if (forced) schedules.forEach(this::hideScheduleBar);
+        }
 
-        int removedCount = 0;
-        int skippedCount = 0;
+        List<GroundItemIndex.ChunkBucket> buckets = new ArrayList<>();
+        List<Chunk> chunks = new ArrayList<>();
         int worldsScanned = 0;
 
         for (World world : Bukkit.getWorlds()) {
@@ -884,72 +1963,290 @@ public final class ItemCleanupModule implements AddonModule, Listener {
                 log.debug("Skipping world: " + world.getName());
                 continue;
             }
+            WorldSchedule own = schedulesByWorld.get(world.getName());
+            if (schedule != null ? own != schedule
+                    : own != null && !forced) {
+                continue;
+            }
 
             worldsScanned++;
+            buckets.addAll(itemIndex.buckets(world.getUID()));
+            if (entityPolicies.isActive(world.getName())) {
+                chunks.addAll(Arrays.asList(world.getLoadedChunks()));
+            }
+        }
+
+        // One event per sweep; the candidate array is only built
+        // when some plugin listens
+        CleanupCandidates candidates = null;
+        if (ItemCleanupPreEvent.hasListeners()) {
+            candidates = CleanupCandidates.of(buckets);
+            ItemCleanupPreEvent event =
+                    new ItemCleanupPreEvent(candidates, forced);
+            Bukkit.getPluginManager().callEvent(event);
+
+            if (event.isCancelled()) {
+                log.debug("Cleanup cancelled by ItemCleanupPreEvent.");
+                if (sweepRequester != null) {
+                    sweepRequester.sendMessage(
+                            Component.text("Cleanup was cancelled "
+                                    + "by another plugin.",
+                                    NamedTextColor.YELLOW));
+                    sweepRequester = null;
+                }
+                return true;
+            }
+            if (candidates.vetoedCount() > 0) {
+                log.debug("Pre-cleanup listeners vetoed "
+                        + candidates.vetoedCount() + " of "
+                        + candidates.size() + " item(s).");
+            }
+        }
 
-            for (Entity entity : world.getEntities()) {
-                if (!(entity instanceof Item item)) continue;
+        sweepSchedule = schedule;
+        activeSweep = new CleanupSweep(itemIndex, buckets, chunks,
+                sweepChunksPerBatch, forced, this::processItem,
+                (chunk, remover) -> entityPolicies.apply(chunk,
+                        chunk.getWorld().getName(), remover),
+                history.getTopChunks());
+        if (candidates != null) activeSweep.useCandidates(candidates);
+        if (proximity.isEnabled()) {
+            proximity.rebuild();
+            activeSweep.useGuard(proximity);
+        }
 
-                ItemStack stack = item.getItemStack();
+        log.debug("Sweep snapshot: " + buckets.size()
+                + " chunk(s) with items, " + chunks.size()
+                + " chunk(s) for entity policies, in "
+                + worldsScanned + " world(s).");
 
-                if (isWhitelisted(stack)) {
-                    skippedCount++;
-                    continue;
-                }
+        if (!sweepIncremental) {
+            activeSweep.step(0L);
+            finishCleanup();
+            return true;
+        }
+
+        long budgetNanos = sweepBudgetMicros * 1000L;
+
+        if (activeSweep.step(budgetNanos)) {
+            finishCleanup();
+            return true;
+        }
 
-                item.remove();
-                removedCount++;
+        sweepTask = new BukkitRunnable() {
+            @Override
+            public void run() {
+                if (activeSweep == null) {
+                    cancel();
+                    return;
+                }
+                if (activeSweep.step(budgetNanos)) {
+                    finishCleanup();
+                }
             }
+        }.runTaskTimer(plugin, 1L, 1L);
+
+        return true;
+    }
+
+    /**
+     * Visits one item during a sweep.
+     *
+     * @return true if the item was removed
+     */
+    private boolean processItem(Item item) {
+        if (isWhitelisted(item) || isZoneKept(item)) {
+            // Keep buckets honest for items that drifted
+            itemIndex.relocate(item);
+            return false;
         }
 
-        long elapsed = System.currentTimeMillis() - startTime;
+        vault.record(item);
+        item.remove();
+        untrackItem(item.getUniqueId());
+        return true;
+    }
+
+    /**
+     * Records stats and announces the result once the whole
+     * pass is done.
+     */
+    private void finishCleanup() {
+        CleanupSweep sweep = activeSweep;
+        WorldSchedule schedule = sweepSchedule;
+        activeSweep = null;
+        sweepSchedule = null;
+        if (sweepTask != null) {
+            sweepTask.cancel();
+            sweepTask = null;
+        }
+
+        int removedCount  = sweep.getRemoved();
+        int entityCount   = sweep.getEntitiesRemoved();
 
         // Stats
         totalCleanups++;
         totalItemsRemoved += removedCount;
         lastCleanupCount = removedCount;
+        lastRemovedByType = new EnumMap<>(EntityType.class);
+        lastRemovedByType.putAll(sweep.getRemovedByType());
+        for (Map.Entry<EntityType, Integer> e :
+                lastRemovedByType.entrySet()) {
+            totalRemovedByType.merge(e.getKey(),
+                    (long) e.getValue(), Long::sum);
+        }
         lastCleanupTime = System.currentTimeMillis();
+        lastSweepTicks = sweep.getTicks();
+        lastSweepNanos = sweep.getTotalNanos();
+        lastSweepMaxNanos = sweep.getMaxTickNanos();
+        lastNearPlayers = sweep.getGuarded();
+        CleanupHistory.Record record = new CleanupHistory.Record(
+                lastCleanupTime, sweep.isForced(), lastSweepNanos,
+                lastSweepMaxNanos, lastSweepTicks, removedCount,
+                sweep.getPreserved(), entityCount,
+                sweep.getWorldCounts(), sweep.getHotspots());
+        history.add(record);
+        Bukkit.getPluginManager().callEvent(new ItemCleanupPostEvent(
+                record, sweep.getRemovedByType(), sweep.getVetoed()));
 
         log.info("Cleanup: removed=" + removedCount
-                + ", preserved=" + skippedCount
-                + ", worlds=" + worldsScanned
-                + ", " + elapsed + "ms"
-                + (forced ? " (forced)" : ""));
-
-        // Hide boss bar
-        hideBossBarFromAll();
-
-        // Broadcast + sound only if items removed
-        if (removedCount > 0) {
-            broadcastCleanup(removedCount);
+                + ", preserved=" + sweep.getPreserved()
+                + (lastNearPlayers > 0
+                        ? " (" + lastNearPlayers + " near players)" : "")
+                + (entityCount > 0
+                        ? ", entities=" + formatByType(lastRemovedByType)
+                        : "")
+                + ", chunks=" + sweep.getChunkCount()
+                + ", " + formatNanos(lastSweepNanos)
+                + " over " + lastSweepTicks + " tick(s)"
+                + (sweep.isForced() ? " (forced)" : ""));
+
+        // Broadcast + sound only if anything was removed
+        if (removedCount > 0 || entityCount > 0) {
+            Collection<? extends Player> audience =
+                    cleanupAudience(schedule, sweep.isForced());
+            broadcastCleanup(audience, removedCount, entityCount > 0
+                    ? formatByType(lastRemovedByType) : null);
 
             // Cleanup sound
             if (cachedCleanupSound != null) {
-                for (Player p : Bukkit.getOnlinePlayers()) {
+                for (Player p : audience) {
                     p.playSound(cachedCleanupSound);
                 }
             }
         }
+
+        // Report back to whoever forced it
+        if (sweepRequester != null) {
+            sweepRequester.sendMessage(
+                    Component.text("✔ ", NamedTextColor.GREEN)
+                            .append(Component.text(
+                                    "Cleanup finished. Removed ",
+                                    NamedTextColor.GRAY))
+                            .append(Component.text(
+                                    removedCount + " item(s)"
+                                            + (entityCount > 0
+                                            ? " + " + entityCount
+                                                    + " entit(ies)"
+                                            : ""),
+                                    NamedTextColor.AQUA))
+                            .append(Component.text(
+                                    " in " + lastSweepTicks
+                                            + " tick(s).",
+                                    NamedTextColor.GRAY)));
+            sweepRequester = null;
+        }
+    }
+
+    /**
+     * @return players in the swept world(s): the schedule's world,
+     *         everyone for a forced sweep, else the global worlds
+     */
+    private Collection<? extends Player> cleanupAudience(
+            WorldSchedule schedule, boolean forced) {
+        if (schedule != null) {
+            World world = Bukkit.getWorld(schedule.getWorld());
+            return world != null ? world.getPlayers() : List.of();
+        }
+        if (forced || schedules.isEmpty()) {
+            return Bukkit.getOnlinePlayers();
+        }
+        List<Player> out = new ArrayList<>();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            if (isOnGlobalSchedule(player)) out.add(player);
+        }
+        return out;
+    }
+
+    /**
+     * Cancels a running sweep without announcing it.
+     * Items already removed stay removed.
+     */
+    private void abortSweep() {
+        if (sweepTask != null) {
+            sweepTask.cancel();
+            sweepTask = null;
+        }
+        if (activeSweep != null) {
+            log.debug("Sweep aborted after "
+                    + activeSweep.getTicks() + " tick(s), "
+                    + activeSweep.getRemoved() + " removed.");
+            activeSweep = null;
+        }
+        sweepSchedule = null;
+        sweepRequester = null;
     }
 
     /* ================================================================== */
     /*  Whitelist                                                            */
     /* ================================================================== */
 
-    private boolean isWhitelisted(ItemStack stack) {
-        if (stack == null) return false;
-
-        if (whitelistedMats.contains(stack.getType())) return true;
+    private boolean isWhitelisted(Item item) {
+        return whitelistFor(item.getWorld().getName()).test(
+                item.getItemStack(), item.getThrower());
+    }
 
-        if (preserveEnchanted
-                && !stack.getEnchantments().isEmpty()) return true;
+    /** @return the world's override, or the global whitelist */
+    private WhitelistRules whitelistFor(String worldName) {
+        if (worldWhitelists.isEmpty()) return whitelistRules;
+        WhitelistRules rules = worldWhitelists.get(worldName);
+        return rules != null ? rules : whitelistRules;
+    }
 
-        if (preserveNamed && stack.hasItemMeta()) {
-            ItemMeta meta = stack.getItemMeta();
-            if (meta != null && meta.hasDisplayName()) return true;
+    /** Recompiles the rule chain (config load, whitelist edits). */
+    private void compileWhitelist() {
+        whitelistRules = WhitelistRules.compile(
+                whitelistSection, whitelistedMats, log);
+        log.debug("Whitelist compiled: "
+                + whitelistRules.ruleCount() + " rule(s).");
+
+        worldWhitelists.clear();
+        for (WorldSchedule schedule : schedules) {
+            ConfigurationSection sec = schedule.getWhitelistSection();
+            if (sec == null) continue;
+
+            List<Material> mats = new ArrayList<>();
+            for (String name : sec.getStringList("materials")) {
+                try {
+                    mats.add(Material.valueOf(name.toUpperCase().trim()));
+                } catch (IllegalArgumentException e) {
+                    log.warn("schedules.worlds." + schedule.getWorld()
+                            + ".whitelist: unknown material " + name);
+                }
+            }
+            worldWhitelists.put(schedule.getWorld(),
+                    WhitelistRules.compile(sec, mats, log));
         }
+    }
 
-        return false;
+    /**
+     * @return true if a zone protects the item, or its zone TTL has
+     *         not run out yet
+     */
+    private boolean isZoneKept(Item item) {
+        CleanupZones.Zone zone = zones.at(item);
+        return zone != null && (zone.protects()
+                || itemAge(item) < zone.ttlTicks());
     }
 
     private boolean isWorldEnabled(String worldName) {
@@ -958,15 +2255,420 @@ public final class ItemCleanupModule implements AddonModule, Listener {
     }
 
     /* ================================================================== */
-    /*  Broadcasting                                                        */
+    /*  Ground item index                                                   */
     /* ================================================================== */
 
-    private void broadcastCountdown(int secondsLeft) {
-        String timeStr = formatTime(secondsLeft);
-        String filled = rawCountdownMsg.replace("{time}", timeStr);
-        Component message = parseFormatted(filled);
-
-        for (Player player : Bukkit.getOnlinePlayers()) {
+    /**
+     * Seeds the index from a full scan. Only needed on enable —
+     * events keep it current afterwards.
+     */
+    private void rebuildItemIndex() {
+        itemIndex.clear();
+        for (World world : Bukkit.getWorlds()) {
+            itemIndex.rebuild(world);
+        }
+        log.debug("Item index built: " + itemIndex.size()
+                + " item(s).");
+        recountOwners();
+    }
+
+    /** Indexes an item and schedules its expiry if enabled. */
+    private void trackItem(Item item) {
+        if (!itemIndex.add(item)) return;
+
+        if (lifecycleOnLoad || lifecycleOnUnload) stampSpawnTick(item);
+        if (expiryWheel != null) scheduleExpiry(item);
+        if (countdownTargeted) claimOwner(item);
+    }
+
+    private void untrackItem(UUID itemId) {
+        itemIndex.remove(itemId);
+        expiryDeadlines.remove(itemId);
+        owners.remove(itemId);
+    }
+
+    /* ── Item owners ── */
+
+    /** Records the item's owner, if it has one. */
+    private void claimOwner(Item item) {
+        UUID owner = owners.ownerOf(item, Bukkit.getCurrentTick());
+        if (owner == null) return;
+        owners.add(item.getUniqueId(), owner, item.getWorld().getUID(),
+                isAtRisk(item));
+    }
+
+    /**
+     * @return false for items a sweep would keep regardless of age
+     *         (whitelisted, protecting zone)
+     */
+    private boolean isAtRisk(Item item) {
+        if (isWhitelisted(item)) return false;
+        CleanupZones.Zone zone = zones.at(item);
+        return zone == null || !zone.protects();
+    }
+
+    /**
+     * Re-evaluates every indexed item's owner and risk — after the
+     * index is rebuilt or the whitelist or zones change.
+     */
+    private void recountOwners() {
+        if (!countdownTargeted) {
+            owners.clear();
+            return;
+        }
+
+        for (World world : Bukkit.getWorlds()) {
+            for (GroundItemIndex.ChunkBucket bucket :
+                    itemIndex.buckets(world.getUID())) {
+                for (Item item : bucket.items()) {
+                    if (owners.isOwned(item.getUniqueId())) {
+                        owners.setAtRisk(item.getUniqueId(),
+                                isAtRisk(item));
+                    } else {
+                        claimOwner(item);
+                    }
+                }
+            }
+        }
+        log.debug("Item owners: " + owners.size() + " owned item(s), "
+                + owners.ownerCount() + " player(s) with items at risk.");
+    }
+
+    /** Removes an item pushed out by the density cap. */
+    private void evictItem(Item item) {
+        vault.record(item);
+        item.remove();
+        untrackItem(item.getUniqueId());
+        totalItemsRemoved++;
+    }
+
+    /* ================================================================== */
+    /*  Rolling expiry                                                      */
+    /* ================================================================== */
+
+    /**
+     * (Re)builds the expiry wheel from the current index and starts
+     * the per-tick drain. Stops everything if expiry is disabled.
+     */
+    private void startExpiryTask() {
+        stopExpiryTask();
+        if (!expiryEnabled) return;
+
+        // 1 s slots, ~8.5 min per rotation
+        expiryWheel = new ExpiryWheel<>(20, 512,
+                Bukkit.getCurrentTick());
+
+        int scheduled = 0;
+        for (World world : Bukkit.getWorlds()) {
+            for (GroundItemIndex.ChunkBucket bucket :
+                    itemIndex.buckets(world.getUID())) {
+                for (Item item : bucket.items()) {
+                    if (scheduleExpiry(item)) scheduled++;
+                }
+            }
+        }
+
+        expiryTask = new BukkitRunnable() {
+            @Override
+            public void run() {
+                expireDue();
+            }
+        }.runTaskTimer(plugin, 1L, 1L);
+
+        log.debug("Expiry wheel started: " + scheduled
+                + " item(s) scheduled.");
+    }
+
+    private void stopExpiryTask() {
+        if (expiryTask != null) {
+            expiryTask.cancel();
+            expiryTask = null;
+        }
+        if (expiryWheel != null) {
+            expiryWheel.clear();
+            expiryWheel = null;
+        }
+        expiryDeadlines.clear();
+    }
+
+    /**
+     * Puts an item on the wheel at spawn-time + TTL.
+     *
+     * @return false if it never expires (whitelisted, TTL -1,
+     *         world disabled)
+     */
+    private boolean scheduleExpiry(Item item) {
+        if (!isWorldEnabled(item.getWorld().getName())) return false;
+
+        if (isWhitelisted(item)) return false;
+
+        int ttl = lifetimeTicks(item, item.getItemStack());
+        if (ttl == ExpiryRules.NEVER) return false;
+
+        // Never at or before now: a reschedule from expireItem would
+        // land in the slot advance() is iterating and fire again
+        long now = Bukkit.getCurrentTick();
+        long deadline = Math.max(now + 1, now + ttl - itemAge(item));
+        expiryDeadlines.put(item.getUniqueId(), deadline);
+        expiryWheel.schedule(item.getUniqueId(), deadline);
+        return true;
+    }
+
+    /** Runs every tick — removes only items whose deadline passed. */
+    private void expireDue() {
+        if (expiryWheel == null) return;
+
+        long now = Bukkit.getCurrentTick();
+        int fired = expiryWheel.advance(now, expiryMaxPerTick,
+                id -> expireItem(id, now));
+
+        if (fired > 0) {
+            log.debug("Expiry: " + fired + " due this tick, "
+                    + expiryWheel.size() + " pending.");
+        }
+    }
+
+    private void expireItem(UUID itemId, long now) {
+        // Stale: picked up / merged away, or rescheduled later
+        Long deadline = expiryDeadlines.get(itemId);
+        if (deadline == null || deadline > now) return;
+
+        Item item = itemIndex.get(itemId);
+        if (item == null || !item.isValid()) {
+            untrackItem(itemId);
+            return;
+        }
+
+        // Whitelist may have changed since scheduling
+        if (isWhitelisted(item)) {
+            expiryDeadlines.remove(itemId);
+            return;
+        }
+
+        // Drifted into a zone, or zones changed — go by its TTL
+        if (isZoneKept(item)) {
+            expiryDeadlines.remove(itemId);
+            scheduleExpiry(item);
+            return;
+        }
+
+        vault.record(item);
+        item.remove();
+        untrackItem(itemId);
+        totalExpired++;
+        totalItemsRemoved++;
+    }
+
+    /**
+     * Untracks a stack folded into another. The target inherits the
+     * younger age, so it must not expire before the source would
+     * have.
+     */
+    private void absorbItem(Item source, Item target) {
+        inheritAge(source, target);
+        untrackItem(source.getUniqueId());
+    }
+
+    /**
+     * Consolidation moved some or all of {@code source} into
+     * {@code target}.
+     */
+    private void onConsolidated(Item source, Item target,
+                                boolean emptied) {
+        if (emptied) absorbItem(source, target);
+        else inheritAge(source, target);
+    }
+
+    /**
+     * Gives the target the later spawn stamp and expiry deadline of
+     * the two, now that it holds the source's items.
+     */
+    private void inheritAge(Item source, Item target) {
+        inheritSpawnTick(source, target);
+
+        Long sourceDeadline = expiryDeadlines.get(source.getUniqueId());
+        if (expiryWheel != null && sourceDeadline != null) {
+            UUID targetId = target.getUniqueId();
+            Long targetDeadline = expiryDeadlines.get(targetId);
+            if (targetDeadline != null
+                    && sourceDeadline > targetDeadline) {
+                expiryDeadlines.put(targetId, sourceDeadline);
+                expiryWheel.schedule(targetId, sourceDeadline);
+            }
+        }
+    }
+
+    /**
+     * @return the item's lifetime in ticks: zone TTL, else expiry
+     *         TTL (or {@code lifecycle.max-age} with expiry off)
+     */
+    private int lifetimeTicks(Item item, ItemStack stack) {
+        CleanupZones.Zone zone = zones.at(item);
+        if (zone != null) return zone.ttlTicks();
+        return expiryEnabled
+                ? expiryRules.ttlTicks(item.getWorld().getName(),
+                        stack.getType())
+                : lifecycleMaxAge;
+    }
+
+    /* ================================================================== */
+    /*  Chunk lifecycle                                                     */
+    /* ================================================================== */
+
+    /**
+     * Records the world game time the item spawned at, once. Game
+     * time keeps running while the item's chunk is unloaded, unlike
+     * {@link Item#getTicksLived()}.
+     */
+    private void stampSpawnTick(Item item) {
+        PersistentDataContainer pdc = item.getPersistentDataContainer();
+        if (pdc.has(spawnTickKey, PersistentDataType.LONG)) return;
+
+        pdc.set(spawnTickKey, PersistentDataType.LONG,
+                item.getWorld().getGameTime() - item.getTicksLived());
+    }
+
+    /**
+     * Moves the source's spawn stamp to the target if the source is
+     * younger. Vanilla gives a merge target the younger
+     * {@code ticksLived}, but {@link #itemAge} would still read the
+     * target's older stamp.
+     */
+    private void inheritSpawnTick(Item source, Item target) {
+        long sourceSpawn = spawnTick(source);
+        if (sourceSpawn <= spawnTick(target)) return;
+
+        target.getPersistentDataContainer().set(spawnTickKey,
+                PersistentDataType.LONG, sourceSpawn);
+    }
+
+    /** @return the stamped spawn game time, else one from its age */
+    private long spawnTick(Item item) {
+        Long spawned = item.getPersistentDataContainer()
+                .get(spawnTickKey, PersistentDataType.LONG);
+        return spawned != null ? spawned
+                : item.getWorld().getGameTime() - item.getTicksLived();
+    }
+
+    /**
+     * @return ticks since spawn, including time spent unloaded if
+     *         the item was stamped
+     */
+    private long itemAge(Item item) {
+        Long spawned = item.getPersistentDataContainer()
+                .get(spawnTickKey, PersistentDataType.LONG);
+        if (spawned == null) return item.getTicksLived();
+        return Math.max(item.getTicksLived(),
+                item.getWorld().getGameTime() - spawned);
+    }
+
+    /**
+     * Removes an item whose chunk is loading or unloading if its
+     * age has passed its lifetime.
+     *
+     * @return true if removed
+     */
+    private boolean removeIfExpired(Item item) {
+        if (!item.isValid()) return false;
+        if (!isWorldEnabled(item.getWorld().getName())) return false;
+
+        if (isWhitelisted(item)) return false;
+
+        int ttl = lifetimeTicks(item, item.getItemStack());
+        if (ttl == ExpiryRules.NEVER || itemAge(item) < ttl) return false;
+
+        vault.record(item);
+        item.remove();
+        untrackItem(item.getUniqueId());
+        totalItemsRemoved++;
+        totalLifecycleRemoved++;
+        return true;
+    }
+
+    /* ================================================================== */
+    /*  Stack consolidation                                                 */
+    /* ================================================================== */
+
+    private void startConsolidateTask() {
+        stopConsolidateTask();
+        if (!consolidator.isEnabled()) return;
+
+        long period = consolidator.getIntervalSeconds() * 20L;
+        consolidateTask = new BukkitRunnable() {
+            @Override
+            public void run() {
+                consolidateStacks();
+            }
+        }.runTaskTimer(plugin, period, period);
+
+        log.debug("Consolidation task started (every "
+                + consolidator.getIntervalSeconds() + "s).");
+    }
+
+    /** Starts or stops the vault to match the current config. */
+    private void startVault() {
+        if (vault.isEnabled()) {
+            vault.start();
+        } else {
+            vault.stop();
+        }
+    }
+
+    private void stopConsolidateTask() {
+        if (consolidateTask != null) {
+            consolidateTask.cancel();
+            consolidateTask = null;
+        }
+    }
+
+    /**
+     * Runs one consolidation pass over enabled worlds. Skipped while
+     * a sweep holds a snapshot of the same buckets.
+     */
+    private void consolidateStacks() {
+        if (activeSweep != null) return;
+
+        List<GroundItemIndex.ChunkBucket> buckets = new ArrayList<>();
+        for (World world : Bukkit.getWorlds()) {
+            if (isWorldEnabled(world.getName())) {
+                buckets.addAll(itemIndex.buckets(world.getUID()));
+            }
+        }
+        if (buckets.isEmpty()) return;
+
+        StackConsolidator.Result result =
+                consolidator.run(buckets, this::onConsolidated);
+
+        totalMerges       += result.merges();
+        totalConsolidated += result.removed();
+        lastConsolidated   = result.removed();
+        lastConsolidateTime = System.currentTimeMillis();
+
+        if (result.merges() > 0) {
+            log.debug("Consolidated: merges=" + result.merges()
+                    + ", entities removed=" + result.removed()
+                    + ", chunks=" + result.chunks()
+                    + ", " + formatNanos(result.nanos()));
+        }
+    }
+
+    /* ================================================================== */
+    /*  Broadcasting                                                        */
+    /* ================================================================== */
+
+    private void broadcastCountdown(int secondsLeft) {
+        if (countdownTargeted) {
+            // Items in worlds on their own cycle aren't in this sweep
+            warnOwners(Bukkit.getOnlinePlayers(), secondsLeft,
+                    this::isGlobalSweepWorld);
+            return;
+        }
+
+        Component message = chatFrames.get(secondsLeft);
+        if (message == null) return;
+
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            if (!isOnGlobalSchedule(player)) continue;
             player.sendMessage(message);
 
             if (cachedCountdownSound != null) {
@@ -975,23 +2677,76 @@ public final class ItemCleanupModule implements AddonModule, Listener {
         }
     }
 
-    private void broadcastCleanup(int count) {
+    /**
+     * Personal countdown warning, only to players with items at risk
+     * in the swept worlds.
+     * <p>
+     * The one exception to the pre-rendered countdown: {count} is
+     * per player, so each distinct count is parsed here, once per
+     * warning second (not every second). The cache map is reused.
+     */
+    private void warnOwners(Collection<? extends Player> audience,
+                            int secondsLeft, Predicate<UUID> worlds) {
+        String time = formatTime(secondsLeft);
+        Map<Integer, Component> rendered = personalRendered;
+        rendered.clear();
+
+        for (Player player : audience) {
+            int count = owners.count(player.getUniqueId(), worlds);
+            if (count <= 0) continue;
+
+            player.sendMessage(rendered.computeIfAbsent(count,
+                    n -> parseFormatted(rawPersonalMsg
+                            .replace("{time}", time)
+                            .replace("{count}", String.valueOf(n)))));
+            if (cachedCountdownSound != null) {
+                player.playSound(cachedCountdownSound);
+            }
+        }
+    }
+
+    /** @return true if the global countdown sweeps this world */
+    private boolean isGlobalSweepWorld(UUID worldId) {
+        World world = Bukkit.getWorld(worldId);
+        return world != null && isWorldEnabled(world.getName())
+                && !schedulesByWorld.containsKey(world.getName());
+    }
+
+    /**
+     * @param details per-type entity counts, or null if only items
+     *                were removed
+     */
+    private void broadcastCleanup(Collection<? extends Player> audience,
+                                  int count, String details) {
         String filled = rawCleanupMsg.replace("{count}",
                 String.valueOf(count));
         Component message = parseFormatted(filled);
+        Component extra = details != null && !rawEntitiesMsg.isEmpty()
+                ? parseFormatted(rawEntitiesMsg.replace(
+                        "{details}", details))
+                : null;
 
-        for (Player player : Bukkit.getOnlinePlayers()) {
+        for (Player player : audience) {
             player.sendMessage(message);
+            if (extra != null) player.sendMessage(extra);
         }
     }
 
+    /** "arrow 40, experience orb 12" */
+    private String formatByType(Map<EntityType, ? extends Number> counts) {
+        return counts.entrySet().stream()
+                .map(e -> e.getKey().name().toLowerCase()
+                        .replace('_', ' ') + " " + e.getValue())
+                .collect(Collectors.joining(", "));
+    }
+
     private void sendActionBar(int secondsLeft) {
-        String timeStr = formatTime(secondsLeft);
-        String filled = rawActionbarMsg.replace("{time}", timeStr);
-        Component message = parseFormatted(filled);
+        Component message = actionbarFrames.get(secondsLeft);
+        if (message == null) return;
 
         for (Player player : Bukkit.getOnlinePlayers()) {
-            if (isActionbarOn(player.getUniqueId())) {
+            if (isActionbarOn(player.getUniqueId())
+                    && isOnGlobalSchedule(player)) {
                 player.sendActionBar(message);
             }
         }
@@ -1016,104 +2771,315 @@ public final class ItemCleanupModule implements AddonModule, Listener {
                     + event.getPlayer().getName());
         }
 
-        // If bossbar is currently in range, show immediately
-        if (bossbarEnabled && countdown > 0
-                && countdown <= bossbarShowAt
-                && isBossbarOn(uuid)) {
-            event.getPlayer().showBossBar(bossBar);
-            bossbarViewers.add(uuid);
-        }
+        // If a bar for their world is in range, show immediately
+        refreshBossBar(event.getPlayer(), true);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldChange(PlayerChangedWorldEvent event) {
+        if (schedules.isEmpty()) return;
+        refreshBossBar(event.getPlayer(), true);
     }
 
     @EventHandler(priority = EventPriority.MONITOR)
     public void onPlayerQuit(PlayerQuitEvent event) {
-        UUID uuid = event.getPlayer().getUniqueId();
+        refreshBossBar(event.getPlayer(), false);
+        dropLimiter.forgetPlayer(event.getPlayer().getUniqueId());
+    }
 
-        if (bossbarViewers.remove(uuid)) {
-            event.getPlayer().hideBossBar(bossBar);
+    /* ── Drop rate limit ── */
+
+    @EventHandler(priority = EventPriority.HIGH,
+            ignoreCancelled = true)
+    public void onPlayerDrop(PlayerDropItemEvent event) {
+        if (!dropLimiter.isEnabled()) return;
+
+        Player player = event.getPlayer();
+        Item item = event.getItemDrop();
+        World world = item.getWorld();
+        if (!isWorldEnabled(world.getName())
+                || player.hasPermission(
+                        "xiannnaddons.cleanup.droplimit.bypass")
+                || whitelistFor(world.getName())
+                        .test(item.getItemStack(), null)) {
+            return;
         }
-    }
 
-    /* ================================================================== */
-    /*  Command handlers                                                    */
-    /* ================================================================== */
+        int blockX = item.getLocation().getBlockX();
+        int blockZ = item.getLocation().getBlockZ();
+        if (dropLimiter.onPlayerDrop(player.getUniqueId(),
+                player.getName(), world.getName(), world.getUID(),
+                blockX >> 4, blockZ >> 4)) {
+            event.setCancelled(true);
+        }
+    }
 
-    // ── /cleanup now ──
+    @EventHandler(priority = EventPriority.HIGH,
+            ignoreCancelled = true)
+    public void onBlockDispense(BlockDispenseEvent event) {
+        if (!dropLimiter.isEnabled()) return;
 
-    private void handleNow(CommandSender sender) {
-        if (!sender.hasPermission("xiannnaddons.cleanup.now")) {
-            sender.sendMessage(
-                    Component.text("No permission.",
-                            NamedTextColor.RED));
+        Block block = event.getBlock();
+        World world = block.getWorld();
+        if (!isWorldEnabled(world.getName())
+                || whitelistFor(world.getName())
+                        .test(event.getItem(), null)) {
             return;
         }
 
-        log.info("Force cleanup by " + sender.getName());
-        performCleanup(true);
-        countdown = intervalSeconds;
+        if (dropLimiter.onDispense(world.getName(), world.getUID(),
+                block.getX(), block.getY(), block.getZ())) {
+            event.setCancelled(true);
+        }
+    }
 
-        sender.sendMessage(
-                Component.text("✔ ", NamedTextColor.GREEN)
-                        .append(Component.text(
-                                "Cleanup forced. Removed ",
-                                NamedTextColor.GRAY))
-                        .append(Component.text(
-                                lastCleanupCount + " item(s)",
-                                NamedTextColor.AQUA))
-                        .append(Component.text(
-                                ". Timer reset.",
-                                NamedTextColor.GRAY)));
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        if (!dropLimiter.isEnabled()) return;
+        dropLimiter.forgetChunk(event.getWorld().getUID(),
+                event.getChunk().getX(), event.getChunk().getZ());
     }
 
-    // ── /cleanup bossbar ──
+    /** Drop-limit alert: console plus online staff. */
+    private void alertStaff(String message) {
+        log.warn(message);
 
-    private void handleToggleBossbar(CommandSender sender) {
-        if (!(sender instanceof Player player)) {
-            sender.sendMessage(
-                    Component.text("Only players can toggle.",
-                            NamedTextColor.RED));
-            return;
+        Component line = Component.text("⚠ ", NamedTextColor.RED)
+                .append(Component.text("[Cleanup] ",
+                        NamedTextColor.GOLD))
+                .append(Component.text(message, NamedTextColor.YELLOW));
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            if (player.hasPermission("xiannnaddons.cleanup.alerts")) {
+                player.sendMessage(line);
+            }
         }
+    }
 
-        if (!player.hasPermission("xiannnaddons.cleanup.toggle")) {
-            sender.sendMessage(
-                    Component.text("No permission.",
-                            NamedTextColor.RED));
-            return;
+    /* ── Lost-and-found menu ── */
+
+    @EventHandler
+    public void onInventoryClick(InventoryClickEvent event) {
+        if (event.getInventory().getHolder(false)
+                instanceof LostAndFoundMenu menu) {
+            menu.handleClick(event);
         }
+    }
 
-        if (!bossbarEnabled) {
-            sender.sendMessage(
-                    Component.text("Boss bar is disabled in config.",
-                            NamedTextColor.RED));
-            return;
+    @EventHandler
+    public void onInventoryDrag(InventoryDragEvent event) {
+        if (event.getInventory().getHolder(false)
+                instanceof LostAndFoundMenu) {
+            event.setCancelled(true);
         }
+    }
 
-        UUID uuid = player.getUniqueId();
-        boolean newState = !isBossbarOn(uuid);
-        playerBossbar.put(uuid, newState);
-        playersDirty = true;
+    /* ── Ground item index ── */
 
-        // Immediate visual update
-        if (!newState && bossbarViewers.contains(uuid)) {
-            player.hideBossBar(bossBar);
-            bossbarViewers.remove(uuid);
-        } else if (newState && countdown > 0
-                && countdown <= bossbarShowAt
-                && !bossbarViewers.contains(uuid)) {
-            player.showBossBar(bossBar);
-            bossbarViewers.add(uuid);
+    /**
+     * Density cap — runs before MONITOR so the spawn can still be
+     * cancelled. Count comes from the index bucket: O(1).
+     */
+    @EventHandler(priority = EventPriority.HIGH,
+            ignoreCancelled = true)
+    public void onItemSpawnDensity(ItemSpawnEvent event) {
+        if (!densityLimiter.isEnabled()) return;
+
+        Item item = event.getEntity();
+        if (!isWorldEnabled(item.getWorld().getName())) return;
+
+        if (densityLimiter.onSpawn(item, itemIndex,
+                this::isWhitelisted, this::evictItem)) {
+            event.setCancelled(true);
         }
+    }
 
-        log.debug(player.getName() + " bossbar: " + newState);
+    @EventHandler(priority = EventPriority.MONITOR,
+            ignoreCancelled = true)
+    public void onItemSpawn(ItemSpawnEvent event) {
+        trackItem(event.getEntity());
+    }
 
-        Component status = newState
-                ? Component.text("enabled", NamedTextColor.GREEN)
-                        .decorate(TextDecoration.BOLD)
-                : Component.text("disabled", NamedTextColor.RED)
-                        .decorate(TextDecoration.BOLD);
+    /** Catches items arriving by other routes (portals, plugins). */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityAdd(EntityAddToWorldEvent event) {
+        if (event.getEntity() instanceof Item item) {
+            trackItem(item);
+        }
+    }
 
-        player.sendMessage(
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityRemove(EntityRemoveFromWorldEvent event) {
+        if (event.getEntity() instanceof Item item) {
+            untrackItem(item.getUniqueId());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR,
+            ignoreCancelled = true)
+    public void onItemMerge(ItemMergeEvent event) {
+        absorbItem(event.getEntity(), event.getTarget());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesLoad(EntitiesLoadEvent event) {
+        int removed = 0;
+        for (Entity entity : event.getEntities()) {
+            if (!(entity instanceof Item item)) continue;
+
+            if (lifecycleOnLoad && removeIfExpired(item)) {
+                removed++;
+                continue;
+            }
+            trackItem(item);
+        }
+
+        if (removed > 0) {
+            log.debug("Chunk load " + event.getChunk().getX() + ","
+                    + event.getChunk().getZ() + ": removed "
+                    + removed + " expired item(s).");
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesUnload(EntitiesUnloadEvent event) {
+        for (Entity entity : event.getEntities()) {
+            if (!(entity instanceof Item item)) continue;
+
+            if (!lifecycleOnUnload || !removeIfExpired(item)) {
+                untrackItem(item.getUniqueId());
+            }
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        // Wheel entries for the world go stale and are skipped
+        for (GroundItemIndex.ChunkBucket bucket :
+                itemIndex.buckets(event.getWorld().getUID())) {
+            for (Item item : bucket.items()) {
+                expiryDeadlines.remove(item.getUniqueId());
+            }
+        }
+        itemIndex.clearWorld(event.getWorld().getUID());
+        owners.clearWorld(event.getWorld().getUID());
+        dropLimiter.forgetWorld(event.getWorld().getUID());
+    }
+
+    /** Death drops have no thrower — match them to the body. */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerDeath(PlayerDeathEvent event) {
+        if (!countdownTargeted || event.getDrops().isEmpty()) return;
+        Player player = event.getPlayer();
+        owners.expectDeathDrops(player.getUniqueId(),
+                player.getLocation(), Bukkit.getCurrentTick());
+    }
+
+    /* ================================================================== */
+    /*  Command handlers                                                    */
+    /* ================================================================== */
+
+    // ── /cleanup now ──
+
+    private void handleNow(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("xiannnaddons.cleanup.now")) {
+            sender.sendMessage(
+                    Component.text("No permission.",
+                            NamedTextColor.RED));
+            return;
+        }
+
+        if (activeSweep != null) {
+            sender.sendMessage(
+                    Component.text("A cleanup is already running.",
+                            NamedTextColor.YELLOW));
+            return;
+        }
+
+        // Optional world: sweep only that world's own schedule
+        WorldSchedule schedule = null;
+        if (args.length >= 2) {
+            schedule = schedulesByWorld.get(args[1]);
+            if (schedule == null) {
+                sender.sendMessage(
+                        Component.text(args[1] + " has no schedule "
+                                + "of its own.", NamedTextColor.RED));
+                return;
+            }
+        }
+
+        log.info("Force cleanup by " + sender.getName()
+                + (schedule != null ? " in " + schedule.getWorld() : ""));
+        sweepRequester = sender;
+        performCleanup(true, schedule);
+        if (schedule != null) {
+            schedule.setCountdown(staggered(
+                    schedule.getIntervalSeconds(), schedule));
+        } else {
+            countdown = staggered(effectiveInterval, null);
+            cycleElapsed = 0;
+            for (WorldSchedule s : schedules) {
+                s.setCountdown(staggered(s.getIntervalSeconds(), s));
+            }
+        }
+
+        // Incremental sweeps report back from finishCleanup()
+        if (activeSweep != null) {
+            sender.sendMessage(
+                    Component.text("✔ ", NamedTextColor.GREEN)
+                            .append(Component.text(
+                                    "Cleanup started over ",
+                                    NamedTextColor.GRAY))
+                            .append(Component.text(
+                                    activeSweep.getChunkCount()
+                                            + " chunk(s)",
+                                    NamedTextColor.AQUA))
+                            .append(Component.text(
+                                    ". Timer reset.",
+                                    NamedTextColor.GRAY)));
+        }
+    }
+
+    // ── /cleanup bossbar ──
+
+    private void handleToggleBossbar(CommandSender sender) {
+        if (!(sender instanceof Player player)) {
+            sender.sendMessage(
+                    Component.text("Only players can toggle.",
+                            NamedTextColor.RED));
+            return;
+        }
+
+        if (!player.hasPermission("xiannnaddons.cleanup.toggle")) {
+            sender.sendMessage(
+                    Component.text("No permission.",
+                            NamedTextColor.RED));
+            return;
+        }
+
+        if (!bossbarEnabled) {
+            sender.sendMessage(
+                    Component.text("Boss bar is disabled in config.",
+                            NamedTextColor.RED));
+            return;
+        }
+
+        UUID uuid = player.getUniqueId();
+        boolean newState = !isBossbarOn(uuid);
+        playerBossbar.put(uuid, newState);
+        playersDirty = true;
+
+        // Immediate visual update
+        refreshBossBar(player, true);
+
+        log.debug(player.getName() + " bossbar: " + newState);
+
+        Component status = newState
+                ? Component.text("enabled", NamedTextColor.GREEN)
+                        .decorate(TextDecoration.BOLD)
+                : Component.text("disabled", NamedTextColor.RED)
+                        .decorate(TextDecoration.BOLD);
+
+        player.sendMessage(
                 Component.text("Cleanup boss bar has been ",
                         NamedTextColor.GRAY)
                         .append(status)
@@ -1182,9 +3148,7 @@ public final class ItemCleanupModule implements AddonModule, Listener {
         for (World world : Bukkit.getWorlds()) {
             if (!isWorldEnabled(world.getName())) continue;
             activeWorlds++;
-            for (Entity entity : world.getEntities()) {
-                if (entity instanceof Item) currentItems++;
-            }
+            currentItems += itemIndex.size(world.getUID());
         }
 
         sender.sendMessage(Component.empty());
@@ -1201,9 +3165,127 @@ public final class ItemCleanupModule implements AddonModule, Listener {
                 Component.text(intervalSeconds + "s ("
                         + formatTimeCompact(intervalSeconds) + ")",
                         NamedTextColor.WHITE));
+        statusLine(sender, "Effective interval",
+                adaptive.isEnabled()
+                        ? Component.text(effectiveInterval + "s ",
+                                NamedTextColor.AQUA)
+                                .append(Component.text("("
+                                        + intervalReason + ")",
+                                        NamedTextColor.GRAY))
+                        : Component.text("OFF (adaptive disabled)",
+                                NamedTextColor.RED));
+        if (adaptive.isEnabled()) {
+            statusLine(sender, "Server load",
+                    Component.text(String.format(
+                            "%.1f mspt, %.1f tps, +%.0f items/min",
+                            Bukkit.getAverageTickTime(),
+                            Bukkit.getTPS()[0],
+                            adaptive.getGrowthPerMin()),
+                            NamedTextColor.WHITE));
+        }
         statusLine(sender, "Next cleanup in",
-                Component.text(formatTimeCompact(countdown),
-                        NamedTextColor.YELLOW));
+                isSweepScheduled()
+                        ? Component.text(formatTimeCompact(countdown),
+                                NamedTextColor.YELLOW)
+                        : Component.text("— (rolling expiry)",
+                                NamedTextColor.GRAY));
+        for (WorldSchedule schedule : schedules) {
+            statusLine(sender, "  " + schedule.getWorld(),
+                    Component.text("every "
+                            + formatTimeCompact(
+                                    schedule.getIntervalSeconds())
+                            + ", next in "
+                            + formatTimeCompact(schedule.getCountdown())
+                            + (worldWhitelists.containsKey(
+                                    schedule.getWorld())
+                                    ? ", own whitelist" : ""),
+                            NamedTextColor.YELLOW));
+        }
+        statusLine(sender, "Rolling expiry",
+                expiryEnabled
+                        ? Component.text("ON (default "
+                                + formatTtl(expiryRules.defaultTtlTicks())
+                                + ", " + expiryRules.groupCount()
+                                + " group(s), "
+                                + expiryRules.worldOverrideCount()
+                                + " world override(s))",
+                                NamedTextColor.GREEN)
+                        : Component.text("OFF", NamedTextColor.RED));
+        statusLine(sender, "Chunk lifecycle",
+                lifecycleOnLoad || lifecycleOnUnload
+                        ? Component.text("ON ("
+                                + (lifecycleOnLoad ? "load" : "")
+                                + (lifecycleOnLoad && lifecycleOnUnload
+                                        ? " + " : "")
+                                + (lifecycleOnUnload ? "unload" : "")
+                                + (expiryEnabled ? ""
+                                        : ", max age "
+                                        + formatTtl(lifecycleMaxAge))
+                                + ")", NamedTextColor.GREEN)
+                        : Component.text("OFF", NamedTextColor.RED));
+        statusLine(sender, "Density cap",
+                densityLimiter.isEnabled()
+                        ? Component.text(densityLimiter.getMaxPerChunk()
+                                + "/chunk ("
+                                + (densityLimiter.getAction()
+                                        == DensityLimiter.Action.EVICT_OLDEST
+                                        ? "evict oldest" : "cancel spawn")
+                                + ")",
+                                NamedTextColor.GREEN)
+                        : Component.text("OFF", NamedTextColor.RED));
+        statusLine(sender, "Drop limit",
+                dropLimiter.isEnabled()
+                        ? Component.text(dropLimiter.getPlayerRate()
+                                + "/s per player, "
+                                + dropLimiter.getChunkRate()
+                                + "/s per chunk",
+                                NamedTextColor.GREEN)
+                        : Component.text("OFF", NamedTextColor.RED));
+        statusLine(sender, "Zones",
+                zones.size() > 0
+                        ? Component.text(zones.size() + " zone(s), "
+                                + zones.indexedCells() + " chunk(s)",
+                                NamedTextColor.GREEN)
+                        : Component.text("none", NamedTextColor.GRAY));
+        statusLine(sender, "Player proximity",
+                proximity.isEnabled()
+                        ? Component.text("ON (" + proximity.getRadius()
+                                + " blocks, " + proximity.getMarkedChunks()
+                                + " chunk(s) at last sweep)",
+                                NamedTextColor.GREEN)
+                        : Component.text("OFF", NamedTextColor.RED));
+        statusLine(sender, "Entity policies",
+                entityPolicies.isEnabled()
+                        ? Component.text(entityPolicies.typeCount()
+                                + " type(s)", NamedTextColor.GREEN)
+                        : Component.text("OFF", NamedTextColor.RED));
+        statusLine(sender, "Lost & found",
+                vault.isEnabled()
+                        ? Component.text(vault.size() + " stack(s) ("
+                                + (vault.getMaxBytesPerWorld() / 1024)
+                                + " KB/world cap)",
+                                NamedTextColor.GREEN)
+                        : Component.text("OFF", NamedTextColor.RED));
+        if (expiryWheel != null) {
+            statusLine(sender, "Pending expiries",
+                    Component.text(String.valueOf(
+                                    expiryDeadlines.size()),
+                            NamedTextColor.WHITE));
+        }
+        statusLine(sender, "Sweep mode",
+                Component.text(sweepIncremental
+                        ? "incremental (" + sweepBudgetMicros
+                                + "µs/tick, " + sweepChunksPerBatch
+                                + " chunks/batch)"
+                        : "instant",
+                        NamedTextColor.WHITE));
+        if (activeSweep != null) {
+            statusLine(sender, "Sweep running",
+                    Component.text(activeSweep.getTicks()
+                            + " tick(s), " + activeSweep.getRemoved()
+                            + " removed so far",
+                            NamedTextColor.YELLOW));
+        }
 
         NamedTextColor itemColor = currentItems > 100
                 ? NamedTextColor.RED
@@ -1254,6 +3336,13 @@ public final class ItemCleanupModule implements AddonModule, Listener {
                         countdownEnabled
                                 ? NamedTextColor.WHITE
                                 : NamedTextColor.RED));
+        if (countdownEnabled && countdownTargeted) {
+            statusLine(sender, "  Targeted",
+                    Component.text(owners.ownerCount()
+                            + " player(s) with items at risk, "
+                            + owners.size() + " owned item(s)",
+                            NamedTextColor.WHITE));
+        }
 
         // Last cleanup
         sender.sendMessage(Component.empty());
@@ -1264,14 +3353,41 @@ public final class ItemCleanupModule implements AddonModule, Listener {
             statusLine(sender, "  Removed",
                     Component.text(lastCleanupCount + " items",
                             NamedTextColor.WHITE));
+            if (lastNearPlayers > 0) {
+                statusLine(sender, "  Near players",
+                        Component.text(lastNearPlayers + " items kept",
+                                NamedTextColor.WHITE));
+            }
+            if (!lastRemovedByType.isEmpty()) {
+                statusLine(sender, "  Entities",
+                        Component.text(formatByType(lastRemovedByType),
+                                NamedTextColor.WHITE));
+            }
             statusLine(sender, "  Time",
                     Component.text(formatAgo(lastCleanupTime),
                             NamedTextColor.WHITE));
+            statusLine(sender, "  Sweep ticks",
+                    Component.text(String.valueOf(lastSweepTicks),
+                            NamedTextColor.WHITE));
+            statusLine(sender, "  Time per tick",
+                    Component.text("avg " + formatNanos(
+                                    lastSweepNanos
+                                            / Math.max(1, lastSweepTicks))
+                                    + ", max "
+                                    + formatNanos(lastSweepMaxNanos),
+                            NamedTextColor.WHITE));
         } else {
             statusLine(sender, "  Status",
                     Component.text("No cleanups yet",
                             NamedTextColor.GRAY));
         }
+        if (lastConsolidateTime > 0) {
+            statusLine(sender, "  Last consolidation",
+                    Component.text(lastConsolidated
+                            + " entities merged away, "
+                            + formatAgo(lastConsolidateTime),
+                            NamedTextColor.WHITE));
+        }
 
         // Lifetime
         sender.sendMessage(Component.empty());
@@ -1284,6 +3400,44 @@ public final class ItemCleanupModule implements AddonModule, Listener {
         statusLine(sender, "  Total removed",
                 Component.text(totalItemsRemoved + " items",
                         NamedTextColor.WHITE));
+        statusLine(sender, "  Total expired (TTL)",
+                Component.text(totalExpired + " items",
+                        NamedTextColor.WHITE));
+        if (lifecycleOnLoad || lifecycleOnUnload) {
+            statusLine(sender, "  Removed on chunk load/unload",
+                    Component.text(totalLifecycleRemoved + " items",
+                            NamedTextColor.WHITE));
+        }
+        if (!totalRemovedByType.isEmpty()) {
+            statusLine(sender, "  Entities removed",
+                    Component.text(formatByType(totalRemovedByType),
+                            NamedTextColor.WHITE));
+        }
+        if (consolidator.isEnabled() || totalMerges > 0) {
+            statusLine(sender, "  Stacks merged",
+                    Component.text(totalMerges + " ("
+                            + totalConsolidated
+                            + " entities removed)",
+                            NamedTextColor.WHITE));
+        }
+        if (dropLimiter.getTotalDenied() > 0) {
+            statusLine(sender, "  Drops blocked",
+                    Component.text(dropLimiter.getTotalDenied()
+                            + " (" + dropLimiter.getTrackedPlayers()
+                            + " player(s), "
+                            + dropLimiter.getTrackedChunks()
+                            + " chunk(s) tracked)",
+                            NamedTextColor.WHITE));
+        }
+        if (densityLimiter.getTotalTriggers() > 0) {
+            statusLine(sender, "  Density triggers",
+                    Component.text(densityLimiter.getTotalTriggers()
+                            + " (" + densityLimiter.getTotalEvicted()
+                            + " evicted, "
+                            + densityLimiter.getTotalCancelled()
+                            + " cancelled)",
+                            NamedTextColor.WHITE));
+        }
 
         // Config
         sender.sendMessage(Component.empty());
@@ -1292,7 +3446,8 @@ public final class ItemCleanupModule implements AddonModule, Listener {
                         NamedTextColor.GOLD));
         statusLine(sender, "  Whitelist",
                 Component.text(whitelistedMats.size()
-                        + " materials",
+                        + " materials, "
+                        + whitelistRules.ruleCount() + " rule(s)",
                         NamedTextColor.WHITE));
         statusLine(sender, "  Preserve enchanted",
                 Component.text(preserveEnchanted ? "Yes" : "No",
@@ -1332,200 +3487,1121 @@ public final class ItemCleanupModule implements AddonModule, Listener {
         sender.sendMessage(Component.empty());
     }
 
-    private void statusLine(CommandSender sender,
-                            String label, Component value) {
-        String padded = String.format("  %-22s", label + ":");
+    private void statusLine(CommandSender sender,
+                            String label, Component value) {
+        String padded = String.format("  %-22s", label + ":");
+        sender.sendMessage(
+                Component.text(padded, NamedTextColor.GRAY)
+                        .append(value));
+    }
+
+    // ── /cleanup whitelist ──
+
+    private void handleWhitelist(CommandSender sender,
+                                 String[] args) {
+        if (!sender.hasPermission(
+                "xiannnaddons.cleanup.whitelist")) {
+            sender.sendMessage(
+                    Component.text("No permission.",
+                            NamedTextColor.RED));
+            return;
+        }
+
+        if (args.length < 2) {
+            sender.sendMessage(
+                    Component.text("Usage: /cleanup whitelist "
+                            + "<add|remove|list|test>",
+                            NamedTextColor.YELLOW));
+            return;
+        }
+
+        switch (args[1].toLowerCase()) {
+            case "list"   -> whitelistList(sender);
+            case "add"    -> whitelistAdd(sender, args);
+            case "remove" -> whitelistRemove(sender, args);
+            case "test"   -> whitelistTest(sender);
+            default -> sender.sendMessage(
+                    Component.text("Usage: /cleanup whitelist "
+                            + "<add|remove|list|test>",
+                            NamedTextColor.YELLOW));
+        }
+    }
+
+    private void whitelistList(CommandSender sender) {
+        sender.sendMessage(Component.empty());
+        sender.sendMessage(
+                Component.text(" Cleanup Whitelist ",
+                        NamedTextColor.GOLD)
+                        .decorate(TextDecoration.BOLD)
+                        .append(Component.text(
+                                "(" + whitelistedMats.size() + ")",
+                                NamedTextColor.GRAY)
+                                .decoration(TextDecoration.BOLD,
+                                        false)));
+        sender.sendMessage(Component.empty());
+
+        if (whitelistedMats.isEmpty()) {
+            sender.sendMessage(
+                    Component.text("  (empty)",
+                            NamedTextColor.GRAY));
+        } else {
+            List<Material> sorted =
+                    new ArrayList<>(whitelistedMats);
+            StringBuilder line = new StringBuilder("  ");
+            int col = 0;
+            for (Material mat : sorted) {
+                if (col > 0) line.append(", ");
+                line.append(mat.name());
+                col++;
+                if (col >= 3) {
+                    sender.sendMessage(
+                            Component.text(line.toString(),
+                                    NamedTextColor.AQUA));
+                    line = new StringBuilder("  ");
+                    col = 0;
+                }
+            }
+            if (col > 0) {
+                sender.sendMessage(
+                        Component.text(line.toString(),
+                                NamedTextColor.AQUA));
+            }
+        }
+
+        sender.sendMessage(Component.empty());
+        sender.sendMessage(
+                Component.text("  Rules:",
+                        NamedTextColor.GOLD));
+        sender.sendMessage(
+                Component.text("    Preserve enchanted: ",
+                        NamedTextColor.GRAY)
+                        .append(Component.text(
+                                preserveEnchanted ? "Yes" : "No",
+                                preserveEnchanted
+                                        ? NamedTextColor.GREEN
+                                        : NamedTextColor.RED)));
+        sender.sendMessage(
+                Component.text("    Preserve named: ",
+                        NamedTextColor.GRAY)
+                        .append(Component.text(
+                                preserveNamed ? "Yes" : "No",
+                                preserveNamed
+                                        ? NamedTextColor.GREEN
+                                        : NamedTextColor.RED)));
+        sender.sendMessage(
+                Component.text("    Chain: ", NamedTextColor.GRAY)
+                        .append(Component.text(
+                                whitelistRules.rules().stream()
+                                        .map(WhitelistRules.Rule::name)
+                                        .collect(Collectors.joining(
+                                                " → ")),
+                                NamedTextColor.AQUA)));
+        sender.sendMessage(Component.empty());
+    }
+
+    private void whitelistAdd(CommandSender sender, String[] args) {
+        if (args.length < 3) {
+            sender.sendMessage(
+                    Component.text("Usage: /cleanup whitelist "
+                            + "add <MATERIAL>",
+                            NamedTextColor.YELLOW));
+            return;
+        }
+
+        String input = args[2].toUpperCase().trim();
+        Material mat;
+
+        try {
+            mat = Material.valueOf(input);
+        } catch (IllegalArgumentException e) {
+            sender.sendMessage(
+                    Component.text("Unknown material: ",
+                            NamedTextColor.RED)
+                            .append(Component.text(input,
+                                    NamedTextColor.YELLOW)));
+            return;
+        }
+
+        if (whitelistedMats.contains(mat)) {
+            sender.sendMessage(
+                    Component.text(mat.name()
+                            + " is already whitelisted.",
+                            NamedTextColor.YELLOW));
+            return;
+        }
+
+        whitelistedMats.add(mat);
+        compileWhitelist();
+        recountOwners();
+        saveWhitelist();
+        log.info(mat.name() + " added by " + sender.getName());
+
+        sender.sendMessage(
+                Component.text("✔ ", NamedTextColor.GREEN)
+                        .append(Component.text("Added ",
+                                NamedTextColor.GRAY))
+                        .append(Component.text(mat.name(),
+                                NamedTextColor.AQUA))
+                        .append(Component.text(
+                                " to the whitelist.",
+                                NamedTextColor.GRAY)));
+    }
+
+    private void whitelistRemove(CommandSender sender,
+                                 String[] args) {
+        if (args.length < 3) {
+            sender.sendMessage(
+                    Component.text("Usage: /cleanup whitelist "
+                            + "remove <MATERIAL>",
+                            NamedTextColor.YELLOW));
+            return;
+        }
+
+        String input = args[2].toUpperCase().trim();
+        Material mat;
+
+        try {
+            mat = Material.valueOf(input);
+        } catch (IllegalArgumentException e) {
+            sender.sendMessage(
+                    Component.text("Unknown material: ",
+                            NamedTextColor.RED)
+                            .append(Component.text(input,
+                                    NamedTextColor.YELLOW)));
+            return;
+        }
+
+        if (!whitelistedMats.contains(mat)) {
+            sender.sendMessage(
+                    Component.text(mat.name()
+                            + " is not whitelisted.",
+                            NamedTextColor.YELLOW));
+            return;
+        }
+
+        whitelistedMats.remove(mat);
+        compileWhitelist();
+        recountOwners();
+        saveWhitelist();
+        log.info(mat.name() + " removed by " + sender.getName());
+
+        sender.sendMessage(
+                Component.text("✔ ", NamedTextColor.GREEN)
+                        .append(Component.text("Removed ",
+                                NamedTextColor.GRAY))
+                        .append(Component.text(mat.name(),
+                                NamedTextColor.AQUA))
+                        .append(Component.text(
+                                " from the whitelist.",
+                                NamedTextColor.GRAY)));
+    }
+
+    /**
+     * Runs every whitelist rule against the ground item the player
+     * is looking at (or the item in hand) and shows which matched.
+     */
+    private void whitelistTest(CommandSender sender) {
+        if (!(sender instanceof Player player)) {
+            sender.sendMessage(
+                    Component.text("Only players can use this.",
+                            NamedTextColor.RED));
+            return;
+        }
+
+        ItemStack stack;
+        UUID      thrower = null;
+        String    source;
+
+        if (player.getTargetEntity(5) instanceof Item target) {
+            stack   = target.getItemStack();
+            thrower = target.getThrower();
+            source  = "ground item";
+        } else {
+            stack  = player.getInventory().getItemInMainHand();
+            source = "item in hand";
+        }
+
+        if (stack.getType().isAir()) {
+            sender.sendMessage(
+                    Component.text("Look at a dropped item or hold "
+                            + "one in your main hand.",
+                            NamedTextColor.YELLOW));
+            return;
+        }
+
+        WhitelistRules rules = whitelistFor(player.getWorld().getName());
+        WhitelistRules.Rule first = rules.match(stack, thrower);
+
+        sender.sendMessage(Component.empty());
+        sender.sendMessage(
+                Component.text(" Whitelist Test ",
+                        NamedTextColor.GOLD)
+                        .decorate(TextDecoration.BOLD)
+                        .append(Component.text(
+                                "(" + source + ": "
+                                        + stack.getType().name()
+                                        + (rules != whitelistRules
+                                        ? ", " + player.getWorld().getName()
+                                                + " whitelist" : "")
+                                        + ")",
+                                NamedTextColor.GRAY)
+                                .decoration(TextDecoration.BOLD,
+                                        false)));
+        sender.sendMessage(Component.empty());
+
+        for (WhitelistRules.Verdict v :
+                rules.explain(stack, thrower)) {
+            sender.sendMessage(
+                    Component.text(v.matched() ? "  ✔ " : "  ✘ ",
+                            v.matched()
+                                    ? NamedTextColor.GREEN
+                                    : NamedTextColor.DARK_GRAY)
+                            .append(Component.text(v.rule().name(),
+                                    NamedTextColor.WHITE))
+                            .append(Component.text(
+                                    " (" + v.rule().detail() + ")",
+                                    NamedTextColor.GRAY)));
+        }
+        if (rules.ruleCount() == 0) {
+            sender.sendMessage(
+                    Component.text("  (no rules configured)",
+                            NamedTextColor.GRAY));
+        }
+
+        sender.sendMessage(Component.empty());
+        sender.sendMessage(first != null
+                ? Component.text("  Preserved by ", NamedTextColor.GREEN)
+                        .append(Component.text(first.name(),
+                                NamedTextColor.AQUA))
+                : Component.text("  Not whitelisted — would be "
+                        + "removed.", NamedTextColor.RED));
+        sender.sendMessage(Component.empty());
+    }
+
+    // ── /cleanup vault ──
+
+    private void handleVault(CommandSender sender, String[] args) {
+        if (!(sender instanceof Player player)) {
+            sender.sendMessage(
+                    Component.text("Only players can use this.",
+                            NamedTextColor.RED));
+            return;
+        }
+        if (!sender.hasPermission("xiannnaddons.cleanup.vault")) {
+            sender.sendMessage(
+                    Component.text("No permission.",
+                            NamedTextColor.RED));
+            return;
+        }
+        if (!vault.isEnabled()) {
+            sender.sendMessage(
+                    Component.text("The lost-and-found vault is "
+                            + "disabled.", NamedTextColor.YELLOW));
+            return;
+        }
+        if (!vault.isLoaded()) {
+            sender.sendMessage(
+                    Component.text("The vault is still loading, "
+                            + "try again in a moment.",
+                            NamedTextColor.YELLOW));
+            return;
+        }
+
+        // Own items
+        if (args.length < 2) {
+            new LostAndFoundMenu(vault, player.getUniqueId(),
+                    "Your items", false).open(player);
+            return;
+        }
+
+        if (!sender.hasPermission(
+                "xiannnaddons.cleanup.vault.others")) {
+            sender.sendMessage(
+                    Component.text("No permission.",
+                            NamedTextColor.RED));
+            return;
+        }
+
+        if (args[1].equalsIgnoreCase("all")) {
+            new LostAndFoundMenu(vault, null, "All", true)
+                    .open(player);
+            return;
+        }
+
+        OfflinePlayer target = Bukkit.getOfflinePlayerIfCached(args[1]);
+        if (target == null) {
+            sender.sendMessage(
+                    Component.text("Unknown player: ",
+                            NamedTextColor.RED)
+                            .append(Component.text(args[1],
+                                    NamedTextColor.YELLOW)));
+            return;
+        }
+
+        new LostAndFoundMenu(vault, target.getUniqueId(),
+                target.getName() != null ? target.getName() : args[1],
+                true).open(player);
+    }
+
+    // ── /cleanup simulate ──
+
+    private void handleSimulate(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("xiannnaddons.cleanup.simulate")) {
+            sender.sendMessage(
+                    Component.text("No permission.",
+                            NamedTextColor.RED));
+            return;
+        }
+        if (simulateTask != null) {
+            sender.sendMessage(
+                    Component.text("A simulation is already running.",
+                            NamedTextColor.YELLOW));
+            return;
+        }
+
+        int runs = 1;
+        if (args.length >= 2) {
+            try {
+                runs = Math.max(1, Math.min(100,
+                        Integer.parseInt(args[1])));
+            } catch (NumberFormatException e) {
+                sender.sendMessage(
+                        Component.text("Usage: /cleanup simulate "
+                                + "[runs]", NamedTextColor.YELLOW));
+                return;
+            }
+        }
+
+        SweepSimulation sim = new SweepSimulation(runs);
+        simulateRun(sim);
+        if (sim.isComplete()) {
+            sendSimulation(sender, sim);
+            return;
+        }
+
+        // One run per tick so repeats never stall the server
+        sender.sendMessage(
+                Component.text("Simulating " + runs + " sweeps...",
+                        NamedTextColor.GRAY));
+        simulateTask = new BukkitRunnable() {
+            @Override
+            public void run() {
+                simulateRun(sim);
+                if (sim.isComplete()) {
+                    cancel();
+                    simulateTask = null;
+                    sendSimulation(sender, sim);
+                }
+            }
+        }.runTaskTimer(plugin, 1L, 1L);
+    }
+
+    /**
+     * One dry-run sweep over every enabled world, as
+     * {@code /cleanup now} would run it. Each stage is a separate
+     * pass over the candidates so it can be timed on its own;
+     * nothing is removed and the index is not touched.
+     * <p>
+     * A sweep removes every unkept item whatever its age, so the
+     * age stage only reports how many of them rolling expiry or a
+     * chunk load would already remove. Pre-event vetoes are not
+     * modelled — the event is not fired for a dry run.
+     */
+    private void simulateRun(SweepSimulation sim) {
+        sim.beginRun();
+        long start = System.nanoTime();
+
+        // Select — world toggles, index snapshot
+        List<GroundItemIndex.ChunkBucket> buckets = new ArrayList<>();
+        List<Chunk> chunks = new ArrayList<>();
+        for (World world : Bukkit.getWorlds()) {
+            if (isWorldEnabled(world.getName())) {
+                buckets.addAll(itemIndex.buckets(world.getUID()));
+                if (entityPolicies.isActive(world.getName())) {
+                    chunks.addAll(Arrays.asList(world.getLoadedChunks()));
+                }
+            }
+        }
+        long mark = System.nanoTime();
+        sim.stage(SweepSimulation.Stage.SELECT, mark - start);
+
+        // Proximity — whole chunks near players
+        List<Item> items = new ArrayList<>();
+        simProximity.copySettings(proximity);
+        if (simProximity.isEnabled()) simProximity.rebuild();
+        for (GroundItemIndex.ChunkBucket bucket : buckets) {
+            if (simProximity.isEnabled() && simProximity.keep(
+                    bucket.getWorldId(), bucket.getChunkKey())) {
+                sim.keepNearPlayers(bucket.getWorldId(), bucket.size());
+                continue;
+            }
+            for (Item item : bucket.items()) {
+                if (item.isValid()) items.add(item);
+            }
+        }
+        mark = lap(sim, SweepSimulation.Stage.PROXIMITY, mark);
+
+        // Whitelist
+        boolean[] kept = new boolean[items.size()];
+        for (int i = 0; i < kept.length; i++) {
+            if (isWhitelisted(items.get(i))) {
+                kept[i] = true;
+                sim.keepWhitelisted();
+            }
+        }
+        mark = lap(sim, SweepSimulation.Stage.WHITELIST, mark);
+
+        // Zones — protected, or younger than the zone TTL
+        for (int i = 0; i < kept.length; i++) {
+            if (!kept[i] && isZoneKept(items.get(i))) {
+                kept[i] = true;
+                sim.keepInZone();
+            }
+        }
+        mark = lap(sim, SweepSimulation.Stage.ZONES, mark);
+
+        // Age — would-be-removed items already past their lifetime
+        for (int i = 0; i < kept.length; i++) {
+            if (kept[i]) continue;
+            Item item = items.get(i);
+            int ttl = lifetimeTicks(item, item.getItemStack());
+            if (ttl != ExpiryRules.NEVER && itemAge(item) >= ttl) {
+                sim.pastTtl();
+            }
+        }
+        mark = lap(sim, SweepSimulation.Stage.AGE, mark);
+
+        // Entity policies — counted, not removed
+        for (Chunk chunk : chunks) {
+            if (!chunk.isEntitiesLoaded()) continue;
+            entityPolicies.apply(chunk, chunk.getWorld().getName(),
+                    entity -> sim.countEntity(entity.getType()));
+        }
+        mark = lap(sim, SweepSimulation.Stage.ENTITIES, mark);
+
+        // Tally
+        for (int i = 0; i < kept.length; i++) {
+            Item item = items.get(i);
+            ItemStack stack = item.getItemStack();
+            sim.count(item.getWorld().getUID(), stack.getType(),
+                    stack.getAmount(), kept[i]);
+        }
+        mark = lap(sim, SweepSimulation.Stage.TALLY, mark);
+
+        sim.endRun(mark - start);
+    }
+
+    private long lap(SweepSimulation sim, SweepSimulation.Stage stage,
+                     long since) {
+        long now = System.nanoTime();
+        sim.stage(stage, now - since);
+        return now;
+    }
+
+    private void sendSimulation(CommandSender sender,
+                                SweepSimulation sim) {
+        sender.sendMessage(Component.empty());
+        sender.sendMessage(
+                Component.text(" Cleanup Simulation",
+                        NamedTextColor.GOLD)
+                        .decorate(TextDecoration.BOLD)
+                        .append(Component.text("  (" + sim.getRuns()
+                                + " run(s), nothing removed)",
+                                NamedTextColor.GRAY)
+                                .decoration(TextDecoration.BOLD,
+                                        false)));
+        sender.sendMessage(Component.empty());
+
+        statusLine(sender, "Items checked",
+                Component.text(sim.getChecked() + " in "
+                        + sim.getWorlds().size() + " world(s)",
+                        NamedTextColor.WHITE));
+        statusLine(sender, "Would remove",
+                Component.text(String.valueOf(sim.getRemovable()),
+                        NamedTextColor.RED));
+        statusLine(sender, "Would keep",
+                Component.text((sim.getChecked() - sim.getRemovable())
+                        + " (whitelist " + sim.getKeptWhitelist()
+                        + ", zones " + sim.getKeptZones()
+                        + ", near players " + sim.getKeptNear() + ")",
+                        NamedTextColor.GREEN));
+        statusLine(sender, "Past their TTL",
+                Component.text(sim.getPastTtl() + " of the removable "
+                        + "(expiry or a chunk load takes these anyway)",
+                        NamedTextColor.WHITE));
+        if (entityPolicies.isEnabled()) {
+            StringBuilder types = new StringBuilder();
+            for (Map.Entry<EntityType, Integer> e
+                    : sim.getEntities().entrySet()) {
+                if (!types.isEmpty()) types.append(", ");
+                types.append(e.getKey().name().toLowerCase())
+                        .append(' ').append(e.getValue());
+            }
+            statusLine(sender, "Entities",
+                    Component.text(sim.getEntityTotal()
+                            + (types.isEmpty() ? ""
+                                    : " (" + types + ")"),
+                            NamedTextColor.RED));
+        }
+        statusLine(sender, "Not modelled",
+                Component.text("vetoes from other plugins' "
+                        + "pre-cleanup listeners",
+                        NamedTextColor.GRAY));
+
+        // Per world
+        sender.sendMessage(Component.empty());
+        sender.sendMessage(
+                Component.text("  Worlds", NamedTextColor.GOLD));
+        for (Map.Entry<UUID, int[]> e : sim.getWorlds().entrySet()) {
+            statusLine(sender, "  " + worldName(e.getKey()),
+                    Component.text("-" + e.getValue()[0],
+                            NamedTextColor.RED)
+                            .append(Component.text(" kept "
+                                    + e.getValue()[1],
+                                    NamedTextColor.GREEN)));
+        }
+
+        // Per material
+        List<SweepSimulation.MaterialCount> top = sim.topMaterials(10);
+        if (!top.isEmpty()) {
+            sender.sendMessage(Component.empty());
+            sender.sendMessage(
+                    Component.text("  Materials", NamedTextColor.GOLD)
+                            .append(Component.text("  (top "
+                                    + top.size() + " of "
+                                    + sim.materialCount() + ")",
+                                    NamedTextColor.GRAY)));
+            for (SweepSimulation.MaterialCount m : top) {
+                statusLine(sender, "  " + m.material().name()
+                                .toLowerCase(),
+                        Component.text(m.items() + " item(s), "
+                                + m.amount() + " total",
+                                NamedTextColor.WHITE));
+            }
+        }
+
+        // Timings
+        sender.sendMessage(Component.empty());
+        sender.sendMessage(
+                Component.text("  Timings", NamedTextColor.GOLD));
+        StringBuilder stages = new StringBuilder();
+        for (SweepSimulation.Stage stage : SweepSimulation.Stage.values()) {
+            if (!stages.isEmpty()) stages.append(", ");
+            stages.append(stage.label()).append(' ')
+                    .append(formatNanos(sim.stageAverage(stage)));
+        }
+        statusLine(sender, "  Stages (avg)",
+                Component.text(stages.toString(), NamedTextColor.WHITE));
+        statusLine(sender, "  Sweep",
+                Component.text(sim.getRuns() > 1
+                        ? "avg " + formatNanos(sim.average())
+                                + ", p99 " + formatNanos(
+                                        sim.percentile(99))
+                        : formatNanos(sim.average()),
+                        NamedTextColor.WHITE));
+        if (sweepIncremental) {
+            long budget = sweepBudgetMicros * 1000L;
+            statusLine(sender, "  Incremental",
+                    Component.text("≈ " + Math.max(1,
+                                    (sim.percentile(99) + budget - 1)
+                                            / budget)
+                                    + " tick(s) at "
+                                    + sweepBudgetMicros + "µs/tick",
+                            NamedTextColor.WHITE));
+        }
+        sender.sendMessage(Component.empty());
+    }
+
+    // ── /cleanup history ──
+
+    private void handleHistory(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("xiannnaddons.cleanup.status")) {
+            sender.sendMessage(
+                    Component.text("No permission.",
+                            NamedTextColor.RED));
+            return;
+        }
+
+        int limit = 10;
+        if (args.length >= 2) {
+            try {
+                limit = Math.max(1, Integer.parseInt(args[1]));
+            } catch (NumberFormatException e) {
+                sender.sendMessage(
+                        Component.text("Usage: /cleanup history "
+                                + "[count]", NamedTextColor.YELLOW));
+                return;
+            }
+        }
+
+        sender.sendMessage(Component.empty());
+        sender.sendMessage(
+                Component.text(" Cleanup History",
+                        NamedTextColor.GOLD)
+                        .decorate(TextDecoration.BOLD)
+                        .append(Component.text("  (" + history.size()
+                                + "/" + history.capacity()
+                                + ", avg " + formatNanos(
+                                        history.getAvgNanos()) + ")",
+                                NamedTextColor.GRAY)
+                                .decoration(TextDecoration.BOLD,
+                                        false)));
+        sender.sendMessage(Component.empty());
+
+        List<CleanupHistory.Record> records = history.recent(limit);
+        if (records.isEmpty()) {
+            sender.sendMessage(
+                    Component.text("  No cleanups yet.",
+                            NamedTextColor.GRAY));
+        }
+
+        for (CleanupHistory.Record r : records) {
+            Component details = Component.text("Worlds:",
+                    NamedTextColor.GOLD);
+            for (CleanupHistory.WorldCount w : r.worlds()) {
+                details = details.append(Component.newline())
+                        .append(Component.text(worldName(w.worldId())
+                                + ": -" + w.removed() + " kept "
+                                + w.preserved(), NamedTextColor.GRAY));
+            }
+            details = details.append(Component.newline())
+                    .append(Component.text("Worst tick: "
+                            + formatNanos(r.maxTickNanos()),
+                            NamedTextColor.GRAY));
+
+            sender.sendMessage(
+                    Component.text("  " + formatAgo(r.time()),
+                            NamedTextColor.GRAY)
+                            .append(Component.text("  -" + r.removed(),
+                                    NamedTextColor.RED))
+                            .append(Component.text(" kept "
+                                    + r.preserved(), NamedTextColor.GREEN))
+                            .append(Component.text(r.entities() > 0
+                                    ? " +" + r.entities() + " ent" : "",
+                                    NamedTextColor.AQUA))
+                            .append(Component.text("  "
+                                    + formatNanos(r.durationNanos())
+                                    + "/" + r.ticks() + "t"
+                                    + (r.forced() ? " forced" : ""),
+                                    NamedTextColor.DARK_GRAY))
+                            .hoverEvent(HoverEvent.showText(details)));
+        }
+        sender.sendMessage(Component.empty());
+    }
+
+    // ── /cleanup hotspots ──
+
+    private void handleHotspots(CommandSender sender) {
+        if (!sender.hasPermission("xiannnaddons.cleanup.hotspots")) {
+            sender.sendMessage(
+                    Component.text("No permission.",
+                            NamedTextColor.RED));
+            return;
+        }
+
+        sender.sendMessage(Component.empty());
         sender.sendMessage(
-                Component.text(padded, NamedTextColor.GRAY)
-                        .append(value));
+                Component.text(" Cleanup Hotspots",
+                        NamedTextColor.GOLD)
+                        .decorate(TextDecoration.BOLD)
+                        .append(Component.text("  (last "
+                                + history.size() + " cleanup(s))",
+                                NamedTextColor.GRAY)
+                                .decoration(TextDecoration.BOLD,
+                                        false)));
+        sender.sendMessage(Component.empty());
+
+        List<Hotspots.Hotspot> spots = history.hotspots(10);
+        if (spots.isEmpty()) {
+            sender.sendMessage(
+                    Component.text("  Nothing recorded yet.",
+                            NamedTextColor.GRAY));
+        }
+
+        int rank = 1;
+        for (Hotspots.Hotspot h : spots) {
+            String world = worldName(h.worldId());
+            int bx = (h.chunkX() << 4) + 8;
+            int bz = (h.chunkZ() << 4) + 8;
+            String tp = "/cleanup tp " + world + " "
+                    + h.chunkX() + " " + h.chunkZ();
+
+            sender.sendMessage(
+                    Component.text("  #" + rank++ + " ",
+                            NamedTextColor.GRAY)
+                            .append(Component.text(world + " "
+                                    + bx + ", " + bz,
+                                    NamedTextColor.YELLOW))
+                            .append(Component.text("  chunk "
+                                    + h.chunkX() + "," + h.chunkZ(),
+                                    NamedTextColor.DARK_GRAY))
+                            .append(Component.text("  " + h.removed()
+                                    + " removed", NamedTextColor.RED))
+                            .hoverEvent(HoverEvent.showText(
+                                    Component.text("Click to teleport",
+                                            NamedTextColor.GRAY)))
+                            .clickEvent(ClickEvent.runCommand(tp)));
+        }
+        sender.sendMessage(Component.empty());
     }
 
-    // ── /cleanup whitelist ──
+    // ── /cleanup tp ──
 
-    private void handleWhitelist(CommandSender sender,
-                                 String[] args) {
-        if (!sender.hasPermission(
-                "xiannnaddons.cleanup.whitelist")) {
+    private void handleTeleport(CommandSender sender, String[] args) {
+        if (!(sender instanceof Player player)) {
+            sender.sendMessage(
+                    Component.text("Only players can use this.",
+                            NamedTextColor.RED));
+            return;
+        }
+        if (!sender.hasPermission("xiannnaddons.cleanup.hotspots")) {
             sender.sendMessage(
                     Component.text("No permission.",
                             NamedTextColor.RED));
             return;
         }
 
-        if (args.length < 2) {
+        World target = args.length == 4 ? Bukkit.getWorld(args[1]) : null;
+        int cx;
+        int cz;
+        try {
+            cx = Integer.parseInt(args[2]);
+            cz = Integer.parseInt(args[3]);
+        } catch (ArrayIndexOutOfBoundsException
+                 | NumberFormatException e) {
+            target = null;
+            cx = cz = 0;
+        }
+        if (target == null) {
             sender.sendMessage(
-                    Component.text("Usage: /cleanup whitelist "
-                            + "<add|remove|list>",
+                    Component.text("Usage: /cleanup tp <world> "
+                            + "<chunkX> <chunkZ>",
                             NamedTextColor.YELLOW));
             return;
         }
 
-        switch (args[1].toLowerCase()) {
-            case "list"   -> whitelistList(sender);
-            case "add"    -> whitelistAdd(sender, args);
-            case "remove" -> whitelistRemove(sender, args);
-            default -> sender.sendMessage(
-                    Component.text("Usage: /cleanup whitelist "
-                            + "<add|remove|list>",
+        // Chunk centre, on the surface once the chunk is loaded
+        World world = target;
+        int bx = (cx << 4) + 8;
+        int bz = (cz << 4) + 8;
+        world.getChunkAtAsync(cx, cz).thenAccept(chunk -> {
+            int y = world.getHighestBlockYAt(bx, bz) + 1;
+            player.teleportAsync(
+                    new Location(world, bx + 0.5, y, bz + 0.5));
+        });
+    }
+
+    private String worldName(UUID worldId) {
+        World world = Bukkit.getWorld(worldId);
+        return world != null ? world.getName() : worldId.toString();
+    }
+
+    // ── /cleanup zone ──
+
+    private void handleZone(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("xiannnaddons.cleanup.zone")) {
+            sender.sendMessage(
+                    Component.text("No permission.",
+                            NamedTextColor.RED));
+            return;
+        }
+
+        String sub = args.length >= 2 ? args[1].toLowerCase() : "list";
+        switch (sub) {
+            case "list"   -> zoneList(sender);
+            case "add"    -> zoneAdd(sender, args);
+            case "remove" -> zoneRemove(sender, args);
+            case "check"  -> zoneCheck(sender);
+            default       -> sender.sendMessage(
+                    Component.text("Usage: /cleanup zone "
+                            + "<list|add|remove|check>",
                             NamedTextColor.YELLOW));
         }
     }
 
-    private void whitelistList(CommandSender sender) {
+    private void zoneList(CommandSender sender) {
         sender.sendMessage(Component.empty());
         sender.sendMessage(
-                Component.text(" Cleanup Whitelist ",
+                Component.text(" Cleanup Zones",
                         NamedTextColor.GOLD)
-                        .decorate(TextDecoration.BOLD)
-                        .append(Component.text(
-                                "(" + whitelistedMats.size() + ")",
-                                NamedTextColor.GRAY)
-                                .decoration(TextDecoration.BOLD,
-                                        false)));
+                        .decorate(TextDecoration.BOLD));
         sender.sendMessage(Component.empty());
 
-        if (whitelistedMats.isEmpty()) {
+        if (zones.size() == 0) {
             sender.sendMessage(
-                    Component.text("  (empty)",
+                    Component.text("  No zones defined.",
                             NamedTextColor.GRAY));
-        } else {
-            List<Material> sorted =
-                    new ArrayList<>(whitelistedMats);
-            StringBuilder line = new StringBuilder("  ");
-            int col = 0;
-            for (Material mat : sorted) {
-                if (col > 0) line.append(", ");
-                line.append(mat.name());
-                col++;
-                if (col >= 3) {
-                    sender.sendMessage(
-                            Component.text(line.toString(),
-                                    NamedTextColor.AQUA));
-                    line = new StringBuilder("  ");
-                    col = 0;
-                }
-            }
-            if (col > 0) {
-                sender.sendMessage(
-                        Component.text(line.toString(),
-                                NamedTextColor.AQUA));
-            }
         }
-
-        sender.sendMessage(Component.empty());
-        sender.sendMessage(
-                Component.text("  Rules:",
-                        NamedTextColor.GOLD));
-        sender.sendMessage(
-                Component.text("    Preserve enchanted: ",
-                        NamedTextColor.GRAY)
-                        .append(Component.text(
-                                preserveEnchanted ? "Yes" : "No",
-                                preserveEnchanted
-                                        ? NamedTextColor.GREEN
-                                        : NamedTextColor.RED)));
-        sender.sendMessage(
-                Component.text("    Preserve named: ",
-                        NamedTextColor.GRAY)
-                        .append(Component.text(
-                                preserveNamed ? "Yes" : "No",
-                                preserveNamed
-                                        ? NamedTextColor.GREEN
-                                        : NamedTextColor.RED)));
+        for (CleanupZones.Zone zone : zones.zones()) {
+            sender.sendMessage(
+                    Component.text("  " + zone.name(),
+                            NamedTextColor.YELLOW)
+                            .append(Component.text("  " + zone.world()
+                                    + " " + describeZone(zone),
+                                    NamedTextColor.GRAY))
+                            .append(Component.text("  "
+                                    + zoneTtl(zone),
+                                    zone.protects()
+                                            ? NamedTextColor.GREEN
+                                            : NamedTextColor.AQUA)));
+        }
         sender.sendMessage(Component.empty());
     }
 
-    private void whitelistAdd(CommandSender sender, String[] args) {
-        if (args.length < 3) {
+    /**
+     * {@code add <name> radius <r> [ttl]} around the sender, or
+     * {@code add <name> cuboid <x1> <y1> <z1> <x2> <y2> <z2> [ttl]}
+     * in the sender's world. TTL is {@code protect} or seconds.
+     */
+    private void zoneAdd(CommandSender sender, String[] args) {
+        if (!(sender instanceof Player player)) {
             sender.sendMessage(
-                    Component.text("Usage: /cleanup whitelist "
-                            + "add <MATERIAL>",
-                            NamedTextColor.YELLOW));
+                    Component.text("Only players can use this.",
+                            NamedTextColor.RED));
             return;
         }
 
-        String input = args[2].toUpperCase().trim();
-        Material mat;
-
-        try {
-            mat = Material.valueOf(input);
-        } catch (IllegalArgumentException e) {
+        // Names are config keys — a dot would nest the section
+        if (args.length >= 3 && args[2].indexOf('.') >= 0) {
             sender.sendMessage(
-                    Component.text("Unknown material: ",
-                            NamedTextColor.RED)
-                            .append(Component.text(input,
-                                    NamedTextColor.YELLOW)));
+                    Component.text("Zone names can't contain '.'.",
+                            NamedTextColor.RED));
             return;
         }
 
-        if (whitelistedMats.contains(mat)) {
+        String shape = args.length >= 4 ? args[3].toLowerCase() : "";
+        int ttlArg = shape.equals("cuboid") ? 10 : 5;
+        int ttl = CleanupZones.parseTtl(
+                args.length > ttlArg ? args[ttlArg] : "protect");
+
+        CleanupZones.Zone zone = null;
+        try {
+            if (shape.equals("radius") && args.length >= 5) {
+                Location loc = player.getLocation();
+                zone = CleanupZones.Zone.radius(args[2],
+                        player.getWorld().getName(),
+                        loc.getBlockX(), loc.getBlockZ(),
+                        Integer.parseInt(args[4]), ttl);
+            } else if (shape.equals("cuboid") && args.length >= 10) {
+                zone = CleanupZones.Zone.cuboid(args[2],
+                        player.getWorld().getName(),
+                        Integer.parseInt(args[4]),
+                        Integer.parseInt(args[5]),
+                        Integer.parseInt(args[6]),
+                        Integer.parseInt(args[7]),
+                        Integer.parseInt(args[8]),
+                        Integer.parseInt(args[9]), ttl);
+            }
+        } catch (NumberFormatException e) {
+            zone = null;
+        }
+
+        if (zone == null || ttl == Integer.MIN_VALUE) {
             sender.sendMessage(
-                    Component.text(mat.name()
-                            + " is already whitelisted.",
+                    Component.text("Usage: /cleanup zone add <name> "
+                            + "radius <r> [protect|seconds]",
+                            NamedTextColor.YELLOW));
+            sender.sendMessage(
+                    Component.text("       /cleanup zone add <name> "
+                            + "cuboid <x1> <y1> <z1> <x2> <y2> <z2> "
+                            + "[protect|seconds]",
                             NamedTextColor.YELLOW));
             return;
         }
 
-        whitelistedMats.add(mat);
-        saveWhitelist();
-        log.info(mat.name() + " added by " + sender.getName());
+        zones = zones.with(zone);
+        saveZones();
+        recountOwners();
+        startExpiryTask();
+        log.info("Zone " + zone.name() + " set by " + sender.getName()
+                + ": " + zone.world() + " " + describeZone(zone)
+                + ", " + zoneTtl(zone));
 
         sender.sendMessage(
                 Component.text("✔ ", NamedTextColor.GREEN)
-                        .append(Component.text("Added ",
+                        .append(Component.text("Zone ",
                                 NamedTextColor.GRAY))
-                        .append(Component.text(mat.name(),
+                        .append(Component.text(zone.name(),
                                 NamedTextColor.AQUA))
-                        .append(Component.text(
-                                " to the whitelist.",
+                        .append(Component.text(" saved: "
+                                + describeZone(zone) + ", "
+                                + zoneTtl(zone) + ".",
                                 NamedTextColor.GRAY)));
     }
 
-    private void whitelistRemove(CommandSender sender,
-                                 String[] args) {
+    private void zoneRemove(CommandSender sender, String[] args) {
         if (args.length < 3) {
             sender.sendMessage(
-                    Component.text("Usage: /cleanup whitelist "
-                            + "remove <MATERIAL>",
-                            NamedTextColor.YELLOW));
+                    Component.text("Usage: /cleanup zone remove "
+                            + "<name>", NamedTextColor.YELLOW));
             return;
         }
 
-        String input = args[2].toUpperCase().trim();
-        Material mat;
-
-        try {
-            mat = Material.valueOf(input);
-        } catch (IllegalArgumentException e) {
+        CleanupZones.Zone zone = zones.get(args[2]);
+        if (zone == null) {
             sender.sendMessage(
-                    Component.text("Unknown material: ",
+                    Component.text("Unknown zone: ",
                             NamedTextColor.RED)
-                            .append(Component.text(input,
+                            .append(Component.text(args[2],
                                     NamedTextColor.YELLOW)));
             return;
         }
 
-        if (!whitelistedMats.contains(mat)) {
+        zones = zones.without(zone.name());
+        saveZones();
+        recountOwners();
+        startExpiryTask();
+        log.info("Zone " + zone.name() + " removed by "
+                + sender.getName());
+
+        sender.sendMessage(
+                Component.text("✔ ", NamedTextColor.GREEN)
+                        .append(Component.text("Removed zone ",
+                                NamedTextColor.GRAY))
+                        .append(Component.text(zone.name(),
+                                NamedTextColor.AQUA))
+                        .append(Component.text(".",
+                                NamedTextColor.GRAY)));
+    }
+
+    private void zoneCheck(CommandSender sender) {
+        if (!(sender instanceof Player player)) {
             sender.sendMessage(
-                    Component.text(mat.name()
-                            + " is not whitelisted.",
-                            NamedTextColor.YELLOW));
+                    Component.text("Only players can use this.",
+                            NamedTextColor.RED));
             return;
         }
 
-        whitelistedMats.remove(mat);
-        saveWhitelist();
-        log.info(mat.name() + " removed by " + sender.getName());
+        Location loc = player.getLocation();
+        CleanupZones.Zone zone = zones.at(player.getWorld().getName(),
+                loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
+        if (zone == null) {
+            sender.sendMessage(
+                    Component.text("You are not in a cleanup zone.",
+                            NamedTextColor.GRAY));
+            return;
+        }
 
         sender.sendMessage(
-                Component.text("✔ ", NamedTextColor.GREEN)
-                        .append(Component.text("Removed ",
-                                NamedTextColor.GRAY))
-                        .append(Component.text(mat.name(),
+                Component.text("You are in zone ", NamedTextColor.GRAY)
+                        .append(Component.text(zone.name(),
                                 NamedTextColor.AQUA))
-                        .append(Component.text(
-                                " from the whitelist.",
-                                NamedTextColor.GRAY)));
+                        .append(Component.text(" (" + zoneTtl(zone)
+                                + ").", NamedTextColor.GRAY)));
+    }
+
+    private String describeZone(CleanupZones.Zone zone) {
+        if (zone.type() == CleanupZones.Type.RADIUS) {
+            return "radius " + zone.radius() + " around "
+                    + zone.centerX() + ", " + zone.centerZ();
+        }
+        return zone.minX() + "," + zone.minY() + "," + zone.minZ()
+                + " → " + zone.maxX() + "," + zone.maxY() + ","
+                + zone.maxZ();
+    }
+
+    private String zoneTtl(CleanupZones.Zone zone) {
+        return zone.protects() ? "protected"
+                : "TTL " + formatTtl(zone.ttlTicks());
+    }
+
+    // ── /cleanup index ──
+
+    private void handleIndex(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("xiannnaddons.cleanup.debug")) {
+            sender.sendMessage(
+                    Component.text("No permission.",
+                            NamedTextColor.RED));
+            return;
+        }
+
+        String sub = args.length >= 2 ? args[1].toLowerCase() : "verify";
+
+        if (sub.equals("rebuild")) {
+            rebuildItemIndex();
+            startExpiryTask();
+            log.info("Item index rebuilt by " + sender.getName()
+                    + ": " + itemIndex.size() + " item(s).");
+            sender.sendMessage(
+                    Component.text("✔ ", NamedTextColor.GREEN)
+                            .append(Component.text(
+                                    "Item index rebuilt: ",
+                                    NamedTextColor.GRAY))
+                            .append(Component.text(
+                                    itemIndex.size() + " item(s)",
+                                    NamedTextColor.AQUA))
+                            .append(Component.text(".",
+                                    NamedTextColor.GRAY)));
+            return;
+        }
+
+        if (!sub.equals("verify")) {
+            sender.sendMessage(
+                    Component.text("Usage: /cleanup index "
+                            + "<verify|rebuild>",
+                            NamedTextColor.YELLOW));
+            return;
+        }
+
+        sender.sendMessage(Component.empty());
+        sender.sendMessage(
+                Component.text(" Item Index Check",
+                        NamedTextColor.GOLD)
+                        .decorate(TextDecoration.BOLD));
+        sender.sendMessage(Component.empty());
+
+        int totalMissing = 0;
+        int totalStale   = 0;
+
+        for (World world : Bukkit.getWorlds()) {
+            Set<UUID> scanned = new HashSet<>();
+            int missing = 0;
+            for (Item item : world.getEntitiesByClass(Item.class)) {
+                if (!item.isValid()) continue;
+                scanned.add(item.getUniqueId());
+                if (!itemIndex.contains(item.getUniqueId())) missing++;
+            }
+
+            int indexed = itemIndex.size(world.getUID());
+            int stale = 0;
+            for (GroundItemIndex.ChunkBucket bucket :
+                    itemIndex.buckets(world.getUID())) {
+                for (Item item : bucket.items()) {
+                    if (!scanned.contains(item.getUniqueId())) stale++;
+                }
+            }
+
+            totalMissing += missing;
+            totalStale   += stale;
+
+            boolean ok = missing == 0 && stale == 0;
+            statusLine(sender, world.getName(),
+                    Component.text("indexed=" + indexed
+                            + " scanned=" + scanned.size()
+                            + " missing=" + missing
+                            + " stale=" + stale,
+                            ok ? NamedTextColor.GREEN
+                               : NamedTextColor.RED));
+        }
+
+        sender.sendMessage(Component.empty());
+        if (totalMissing == 0 && totalStale == 0) {
+            sender.sendMessage(
+                    Component.text("  ✔ Index matches full scan.",
+                            NamedTextColor.GREEN));
+        } else {
+            log.warn("Item index drift: missing=" + totalMissing
+                    + ", stale=" + totalStale);
+            sender.sendMessage(
+                    Component.text("  ✘ Drift found. Run ",
+                            NamedTextColor.RED)
+                            .append(Component.text(
+                                    "/cleanup index rebuild",
+                                    NamedTextColor.YELLOW))
+                            .append(Component.text(" to fix.",
+                                    NamedTextColor.RED)));
+        }
+        sender.sendMessage(Component.empty());
     }
 
     // ── /cleanup reload ──
@@ -1539,9 +4615,13 @@ public final class ItemCleanupModule implements AddonModule, Listener {
         }
 
         log.info("Reload by " + sender.getName());
+        abortSweep();
         hideBossBarFromAll();
         loadConfig();
         loadPlayerToggles();
+        startExpiryTask();
+        startConsolidateTask();
+        startVault();
         createBossBar();
         startTickTask();
 
@@ -1572,18 +4652,32 @@ public final class ItemCleanupModule implements AddonModule, Listener {
                         NamedTextColor.GOLD)
                         .decorate(TextDecoration.BOLD));
         sender.sendMessage(Component.empty());
-        usageLine(sender, "/cleanup now",
+        usageLine(sender, "/cleanup now [world]",
                 "Force immediate cleanup");
         usageLine(sender, "/cleanup status",
                 "View stats & config");
-        usageLine(sender, "/cleanup whitelist <add|remove|list>",
+        usageLine(sender, "/cleanup history [count]",
+                "Recent cleanups");
+        usageLine(sender, "/cleanup hotspots",
+                "Chunks with the most removed items");
+        usageLine(sender, "/cleanup tp <world> <chunkX> <chunkZ>",
+                "Teleport to a chunk's centre");
+        usageLine(sender, "/cleanup simulate [runs]",
+                "Dry run: what a sweep would remove, and timings");
+        usageLine(sender, "/cleanup whitelist <add|remove|list|test>",
                 "Manage protected items");
+        usageLine(sender, "/cleanup zone <list|add|remove|check>",
+                "Manage exclusion zones");
         usageLine(sender, "/cleanup reload",
                 "Reload config");
         usageLine(sender, "/cleanup bossbar",
                 "Toggle boss bar for yourself");
         usageLine(sender, "/cleanup actionbar",
                 "Toggle action bar for yourself");
+        usageLine(sender, "/cleanup index <verify|rebuild>",
+                "Check item index against a full scan");
+        usageLine(sender, "/cleanup vault [player|all]",
+                "Claim back removed items");
         sender.sendMessage(Component.empty());
     }
 
@@ -1624,6 +4718,18 @@ public final class ItemCleanupModule implements AddonModule, Listener {
         return mins + "m " + secs + "s";
     }
 
+    private String formatTtl(int ticks) {
+        if (ticks == ExpiryRules.NEVER) return "never";
+        return formatTimeCompact(ticks / 20);
+    }
+
+    private String formatNanos(long nanos) {
+        if (nanos < 1_000_000L) {
+            return (nanos / 1000L) + "µs";
+        }
+        return String.format("%.2fms", nanos / 1_000_000.0);
+    }
+
     private String formatAgo(long timestampMs) {
         if (timestampMs <= 0) return "never";
         long elapsed = (System.currentTimeMillis() - timestampMs)
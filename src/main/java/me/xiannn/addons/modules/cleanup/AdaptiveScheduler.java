@@ -0,0 +1,165 @@
+package me.xiannn.addons.modules.cleanup;
+
+import org.bukkit.configuration.ConfigurationSection;
+
+/**
+ * Picks the effective cleanup interval from server load and
+ * ground-item growth.
+ * <p>
+ * Fed once per check with MSPT, TPS and the current item count;
+ * keeps an exponentially weighted item-growth rate between calls.
+ *
+ * <h3>Decision</h3>
+ * <pre>
+ *   items × MSPT ≥ pressure-threshold  → early cleanup (countdown cut
+ *                                         to early-warning seconds)
+ *   MSPT ≥ high-mspt                   → interval × high / MSPT
+ *   growth ≥ high-growth               → interval × high-growth / growth
+ *   MSPT ≤ low-mspt, items ≤ clean-items,
+ *   growth under 1 item/min            → max-interval
+ *   otherwise                          → configured interval
+ * </pre>
+ * Every result is clamped to {@code [min-interval, max-interval]}.
+ */
+public final class AdaptiveScheduler {
+
+    /** Outcome of one evaluation. */
+    public record Decision(int intervalSeconds,
+                           boolean earlyCleanup,
+                           String reason) { }
+
+    /* ── Config ── */
+    private boolean enabled           = false;
+    private int     minInterval       = 60;
+    private int     maxInterval       = 900;
+    private double  highMspt          = 40.0;
+    private double  lowMspt           = 20.0;
+    private int     cleanItems        = 200;
+    private double  highGrowth        = 600.0;
+    private double  pressureThreshold = 100_000.0;
+    private int     earlyWarning      = 30;
+    private int     checkEvery        = 5;
+
+    /** Growth (items/min) below which the idle branch may run. */
+    private static final double IDLE_GROWTH = 1.0;
+
+    /* ── State ── */
+    private int    lastItems     = -1;
+    private long   lastSampleMs  = 0L;
+    private double growthPerMin  = 0.0;
+    private boolean growthSeeded = false;
+    private Decision last        = null;
+
+    /**
+     * Reads the {@code adaptive} config section.
+     */
+    public void load(ConfigurationSection sec) {
+        reset();
+        if (sec == null) {
+            enabled = false;
+            return;
+        }
+
+        enabled           = sec.getBoolean("enabled", false);
+        minInterval       = Math.max(30, sec.getInt("min-interval", 60));
+        maxInterval       = Math.max(minInterval,
+                sec.getInt("max-interval", 900));
+        highMspt          = sec.getDouble("high-mspt", 40.0);
+        lowMspt           = sec.getDouble("low-mspt", 20.0);
+        cleanItems        = sec.getInt("clean-items", 200);
+        highGrowth        = sec.getDouble("high-growth", 600.0);
+        pressureThreshold = sec.getDouble("pressure-threshold", 100_000.0);
+        earlyWarning      = Math.max(1, sec.getInt("early-warning", 30));
+        checkEvery        = Math.max(1, sec.getInt("check-every", 5));
+    }
+
+    public void reset() {
+        lastItems    = -1;
+        lastSampleMs = 0L;
+        growthPerMin = 0.0;
+        growthSeeded = false;
+        last         = null;
+    }
+
+    /**
+     * Evaluates current conditions.
+     *
+     * @param baseInterval configured interval (seconds)
+     * @param items        tracked ground items in enabled worlds
+     * @param mspt         average milliseconds per tick
+     * @param tps          recent ticks per second
+     * @param nowMs        wall clock, for the growth rate
+     */
+    public Decision evaluate(int baseInterval, int items,
+                             double mspt, double tps, long nowMs) {
+        sampleGrowth(items, nowMs);
+
+        int base = clamp(baseInterval);
+        Decision decision;
+
+        double pressure = items * mspt;
+        if (pressure >= pressureThreshold) {
+            decision = new Decision(base, true, String.format(
+                    "pressure %.0f ≥ %.0f (%d items × %.1f mspt)",
+                    pressure, pressureThreshold, items, mspt));
+        } else if (mspt >= highMspt) {
+            decision = new Decision(
+                    clamp((int) (base * highMspt / mspt)), false,
+                    String.format("mspt %.1f ≥ %.1f (tps %.1f)",
+                            mspt, highMspt, tps));
+        } else if (growthPerMin >= highGrowth) {
+            decision = new Decision(
+                    clamp((int) (base * highGrowth / growthPerMin)),
+                    false,
+                    String.format("items growing %.0f/min",
+                            growthPerMin));
+        } else if (mspt <= lowMspt && items <= cleanItems
+                && growthPerMin < IDLE_GROWTH) {
+            decision = new Decision(maxInterval, false,
+                    String.format("idle (mspt %.1f, %d items)",
+                            mspt, items));
+        } else {
+            decision = new Decision(base, false, "normal load");
+        }
+
+        last = decision;
+        return decision;
+    }
+
+    /**
+     * EWMA of items gained per minute. Flat and falling samples (a
+     * pickup, a sweep) are fed in like any other and the average is
+     * clamped at 0, so one cleanup pulls the rate down without wiping
+     * it; sustained quiet decays it under {@link #IDLE_GROWTH}.
+     */
+    private void sampleGrowth(int items, long nowMs) {
+        if (lastItems >= 0 && nowMs > lastSampleMs) {
+            double minutes = (nowMs - lastSampleMs) / 60_000.0;
+            double rate = (items - lastItems) / minutes;
+            growthPerMin = growthSeeded
+                    ? Math.max(0.0, 0.3 * rate + 0.7 * growthPerMin)
+                    : Math.max(0.0, rate);
+            growthSeeded = true;
+        }
+        lastItems    = items;
+        lastSampleMs = nowMs;
+    }
+
+    private int clamp(int seconds) {
+        return Math.max(minInterval, Math.min(maxInterval, seconds));
+    }
+
+    /* ================================================================== */
+    /*  Accessors                                                           */
+    /* ================================================================== */
+
+    public boolean  isEnabled()        { return enabled; }
+    public int      getCheckEvery()    { return checkEvery; }
+    public int      getEarlyWarning()  { return earlyWarning; }
+    public int      getMinInterval()   { return minInterval; }
+    public int      getMaxInterval()   { return maxInterval; }
+    public double   getGrowthPerMin()  { return growthPerMin; }
+
+    /** @return the most recent decision, or null before the first */
+    public Decision getLastDecision()  { return last; }
+}
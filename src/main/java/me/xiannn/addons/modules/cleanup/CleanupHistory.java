@@ -0,0 +1,126 @@
+package me.xiannn.addons.modules.cleanup;
+
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Fixed-size ring buffer of the most recent cleanups.
+ * <p>
+ * One {@link Record} per finished sweep; the oldest is overwritten
+ * once the buffer is full. Per-chunk data is limited to each
+ * sweep's top-N {@link Hotspots}, so a record stays small no matter
+ * how many chunks were swept.
+ *
+ * <h3>Hotspot report</h3>
+ * <pre>
+ *   sum removed per chunk over every record's top-N
+ *   → sort, largest first
+ * </pre>
+ * A chunk that floods the ground every cycle ranks above a one-off.
+ */
+public final class CleanupHistory {
+
+    /** Removed / preserved items in one world. */
+    public record WorldCount(UUID worldId, int removed,
+                             int preserved) { }
+
+    /** One finished cleanup. */
+    public record Record(long time, boolean forced,
+                         long durationNanos, long maxTickNanos,
+                         int ticks, int removed, int preserved,
+                         int entities, List<WorldCount> worlds,
+                         List<Hotspots.Hotspot> hotspots) { }
+
+    private Record[] ring = new Record[20];
+    private int head  = 0;  // next slot to write
+    private int count = 0;
+    private int topChunks = 5;
+    private long totalNanos = 0L;
+
+    /**
+     * Reads the {@code history} config section. Shrinking the
+     * buffer keeps the newest records.
+     */
+    public void load(ConfigurationSection sec) {
+        int size = 20;
+        int top  = 5;
+        if (sec != null) {
+            size = sec.getInt("size", 20);
+            top  = sec.getInt("hotspots-per-cleanup", 5);
+        }
+        topChunks = Math.max(0, Math.min(50, top));
+        resize(Math.max(1, Math.min(500, size)));
+    }
+
+    private void resize(int capacity) {
+        if (capacity == ring.length) return;
+
+        List<Record> keep = recent(capacity);
+        ring  = new Record[capacity];
+        head  = 0;
+        count = 0;
+        totalNanos = 0L;
+        for (int i = keep.size() - 1; i >= 0; i--) add(keep.get(i));
+    }
+
+    public void add(Record record) {
+        Record old = ring[head];
+        if (old != null) totalNanos -= old.durationNanos();
+
+        ring[head] = record;
+        totalNanos += record.durationNanos();
+        head = (head + 1) % ring.length;
+        if (count < ring.length) count++;
+    }
+
+    /**
+     * @return up to {@code limit} records, newest first
+     */
+    public List<Record> recent(int limit) {
+        int n = Math.min(limit, count);
+        List<Record> out = new ArrayList<>(n);
+        for (int i = 1; i <= n; i++) {
+            out.add(ring[(head - i + ring.length) % ring.length]);
+        }
+        return out;
+    }
+
+    /**
+     * Hotspots summed over every record in the buffer.
+     *
+     * @return up to {@code limit} chunks, largest total first
+     */
+    public List<Hotspots.Hotspot> hotspots(int limit) {
+        Map<UUID, Map<Long, int[]>> sums = new HashMap<>();
+        for (Record record : recent(count)) {
+            for (Hotspots.Hotspot h : record.hotspots()) {
+                sums.computeIfAbsent(h.worldId(), w -> new HashMap<>())
+                        .computeIfAbsent(GroundItemIndex.chunkKey(
+                                h.chunkX(), h.chunkZ()), k -> new int[1])
+                        [0] += h.removed();
+            }
+        }
+
+        Hotspots top = new Hotspots(limit);
+        for (Map.Entry<UUID, Map<Long, int[]>> w : sums.entrySet()) {
+            for (Map.Entry<Long, int[]> c : w.getValue().entrySet()) {
+                top.offer(w.getKey(), c.getKey(), c.getValue()[0]);
+            }
+        }
+        return top.entries();
+    }
+
+    public int  size()            { return count; }
+    public int  capacity()        { return ring.length; }
+    public int  getTopChunks()    { return topChunks; }
+
+    /** @return mean sweep duration over the buffer, in nanoseconds */
+    public long getAvgNanos() {
+        return count == 0 ? 0L : totalNanos / count;
+    }
+}
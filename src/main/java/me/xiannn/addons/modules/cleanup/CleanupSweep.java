@@ -0,0 +1,348 @@
+package me.xiannn.addons.modules.cleanup;
+
+import me.xiannn.addons.modules.cleanup.event.CleanupCandidates;
+import org.bukkit.Chunk;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Item;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * A resumable, time-sliced pass over a fixed snapshot of chunk
+ * buckets from the {@link GroundItemIndex}.
+ * <p>
+ * The snapshot is taken once when the sweep starts; only chunks
+ * that actually hold items are in it, and only items are visited.
+ * Each call to {@link #step(long)} walks buckets in batches from
+ * the saved cursor and stops as soon as the per-tick budget is
+ * spent, so a large map is spread over several ticks instead of
+ * one long spike.
+ *
+ * <h3>Budget check</h3>
+ * <pre>
+ *   for each batch of N buckets:
+ *       visit every Item in those buckets
+ *       if System.nanoTime() ≥ deadline → stop, keep cursor
+ * </pre>
+ * A budget of {@code 0} (or less) runs the whole pass in one call.
+ * <p>
+ * Non-item entities (see {@link EntityPolicies}) are handled in the
+ * same pass: once the item buckets are done, the loaded chunks of
+ * worlds with an active policy are walked under the same budget.
+ * <p>
+ * Per-world and per-chunk results for {@link CleanupHistory} are
+ * tallied once per bucket, not per item.
+ * <p>
+ * If {@link CleanupCandidates} were handed to listeners, the sweep
+ * visits that flattened snapshot instead and keeps vetoed items.
+ */
+public final class CleanupSweep {
+
+    /**
+     * Decides what happens to each item the sweep visits.
+     */
+    @FunctionalInterface
+    public interface ItemVisitor {
+
+        /**
+         * @param item a live, indexed item
+         * @return true if the item was removed
+         */
+        boolean visit(Item item);
+    }
+
+    /**
+     * Applies entity policies to one loaded chunk.
+     */
+    @FunctionalInterface
+    public interface ChunkVisitor {
+
+        /**
+         * @param remover removes an entity and counts it by type
+         */
+        void visit(Chunk chunk, Consumer<Entity> remover);
+    }
+
+    /**
+     * Spares every item in a chunk.
+     */
+    @FunctionalInterface
+    public interface BucketGuard {
+
+        /**
+         * @return true to keep every item in this chunk
+         */
+        boolean keep(UUID worldId, long chunkKey);
+    }
+
+    private final GroundItemIndex index;
+    private final GroundItemIndex.ChunkBucket[] buckets;
+    private final Chunk[]      chunks;
+    private final int          batchSize;
+    private final ItemVisitor  visitor;
+    private final ChunkVisitor chunkVisitor;
+    private final boolean      forced;
+
+    /** Index of the next bucket, then chunk, to scan. */
+    private int cursor      = 0;
+    private int chunkCursor = 0;
+
+    /* ── Results ── */
+    private int removed   = 0;
+    private int preserved = 0;
+    private final Map<UUID, int[]> worldCounts = new HashMap<>();
+    private final Hotspots hotspots;
+    private int vetoed = 0;
+    private int guarded = 0;
+
+    /** Kept items the visitor moved to a bucket not yet scanned. */
+    private final Set<UUID> relocated = new HashSet<>();
+
+    /** Chunk-level protection, or null. */
+    private BucketGuard guard;
+
+    /** Flattened snapshot shown to listeners, or null. */
+    private CleanupCandidates candidates;
+    private final Map<EntityType, Integer> removedByType =
+            new EnumMap<>(EntityType.class);
+    private final Consumer<Entity> remover = entity -> {
+        entity.remove();
+        removedByType.merge(entity.getType(), 1, Integer::sum);
+    };
+
+    /* ── Timing ── */
+    private int  ticks        = 0;
+    private long totalNanos   = 0L;
+    private long maxTickNanos = 0L;
+
+    /**
+     * @param index        the index {@code buckets} were taken from
+     * @param chunks       loaded chunks for entity policies (may be
+     *                     empty)
+     * @param chunkVisitor applied to each of {@code chunks}
+     * @param topChunks    hotspot chunks to keep for the history
+     */
+    public CleanupSweep(GroundItemIndex index,
+                        List<GroundItemIndex.ChunkBucket> buckets,
+                        List<Chunk> chunks,
+                        int batchSize, boolean forced,
+                        ItemVisitor visitor,
+                        ChunkVisitor chunkVisitor,
+                        int topChunks) {
+        this.index        = index;
+        this.buckets      = buckets.toArray(
+                new GroundItemIndex.ChunkBucket[0]);
+        this.chunks       = chunks.toArray(new Chunk[0]);
+        this.batchSize    = Math.max(1, batchSize);
+        this.forced       = forced;
+        this.visitor      = visitor;
+        this.chunkVisitor = chunkVisitor;
+        this.hotspots     = new Hotspots(topChunks);
+    }
+
+    /**
+     * Visits {@code candidates} (built from the same bucket list)
+     * instead of live bucket copies. Call before the first step.
+     */
+    public void useCandidates(CleanupCandidates candidates) {
+        this.candidates = candidates;
+    }
+
+    /**
+     * Keeps every item lying in a chunk the guard accepts. Items are
+     * checked against the chunk they are in now, not the one they
+     * were indexed in. Call before the first step.
+     */
+    public void useGuard(BucketGuard guard) {
+        this.guard = guard;
+    }
+
+    /**
+     * Scans buckets from the cursor until the budget is spent
+     * or the snapshot is exhausted.
+     *
+     * @param budgetNanos time allowed for this call; {@code <= 0}
+     *                    means unlimited
+     * @return true if the pass is complete
+     */
+    public boolean step(long budgetNanos) {
+        long start    = System.nanoTime();
+        long deadline = budgetNanos > 0
+                ? start + budgetNanos : Long.MAX_VALUE;
+
+        while (cursor < buckets.length) {
+            int end = Math.min(buckets.length, cursor + batchSize);
+
+            for (; cursor < end; cursor++) {
+                GroundItemIndex.ChunkBucket bucket = buckets[cursor];
+                buckets[cursor] = null; // release as we go
+
+                // Emptied (chunk unloaded, items picked up) since
+                // the snapshot was taken
+                if (bucket.isEmpty()) continue;
+
+                // Chunk spared (e.g. a player is nearby). Looked up
+                // once; only items that drifted out need their own.
+                boolean bucketGuarded = guard != null
+                        && guard.keep(bucket.getWorldId(),
+                                bucket.getChunkKey());
+
+                // Copy — visiting removes items from the bucket.
+                // Candidates are already a copy.
+                Item[] items = null;
+                int from;
+                int to;
+                if (candidates != null) {
+                    from = candidates.chunkStart(cursor);
+                    to   = candidates.chunkEnd(cursor);
+                } else {
+                    items = bucket.snapshot();
+                    from  = 0;
+                    to    = items.length;
+                }
+
+                int bucketRemoved = 0;
+                int bucketKept    = 0;
+                for (int i = from; i < to; i++) {
+                    Item item = items != null ? items[i]
+                            : candidates.get(i);
+                    if (!item.isValid()) continue;
+                    if (relocated.remove(item.getUniqueId())) continue;
+
+                    if (guard != null
+                            && isGuarded(item, bucket, bucketGuarded)) {
+                        bucketKept++;
+                        guarded++;
+                    } else if (items == null && candidates.isVetoed(i)) {
+                        bucketKept++;
+                        vetoed++;
+                    } else if (visitor.visit(item)) {
+                        bucketRemoved++;
+                    } else {
+                        bucketKept++;
+                        noteRelocation(item, bucket);
+                    }
+                }
+
+                removed   += bucketRemoved;
+                preserved += bucketKept;
+                int[] world = worldCounts.computeIfAbsent(
+                        bucket.getWorldId(), w -> new int[2]);
+                world[0] += bucketRemoved;
+                world[1] += bucketKept;
+                hotspots.offer(bucket.getWorldId(),
+                        bucket.getChunkKey(), bucketRemoved);
+            }
+
+            if (System.nanoTime() >= deadline) break;
+        }
+
+        // Entity policies, after the item buckets
+        while (cursor >= buckets.length && chunkCursor < chunks.length
+                && System.nanoTime() < deadline) {
+            int end = Math.min(chunks.length, chunkCursor + batchSize);
+
+            for (; chunkCursor < end; chunkCursor++) {
+                Chunk chunk = chunks[chunkCursor];
+                chunks[chunkCursor] = null;
+
+                // Unloaded since the snapshot was taken
+                if (!chunk.isEntitiesLoaded()) continue;
+
+                chunkVisitor.visit(chunk, remover);
+            }
+        }
+
+        long spent = System.nanoTime() - start;
+        ticks++;
+        totalNanos += spent;
+        if (spent > maxTickNanos) maxTickNanos = spent;
+
+        return isComplete();
+    }
+
+    /**
+     * Remembers a kept item the visitor moved to another bucket,
+     * which may lie further on in this snapshot, so it is not
+     * visited twice.
+     */
+    private void noteRelocation(Item item,
+                                GroundItemIndex.ChunkBucket bucket) {
+        GroundItemIndex.ChunkBucket indexed =
+                index.bucketOf(item.getUniqueId());
+        if (indexed != null
+                && indexed.getChunkKey() != bucket.getChunkKey()) {
+            relocated.add(item.getUniqueId());
+        }
+    }
+
+    /**
+     * @return true if the guard keeps the chunk the item is in now
+     */
+    private boolean isGuarded(Item item,
+                              GroundItemIndex.ChunkBucket bucket,
+                              boolean bucketGuarded) {
+        long key = index.chunkKeyOf(item);
+        return key == bucket.getChunkKey()
+                ? bucketGuarded
+                : guard.keep(bucket.getWorldId(), key);
+    }
+
+    public boolean isComplete() {
+        return cursor >= buckets.length
+                && chunkCursor >= chunks.length;
+    }
+
+    /* ================================================================== */
+    /*  Accessors                                                           */
+    /* ================================================================== */
+
+    public boolean isForced()       { return forced; }
+    public int     getRemoved()     { return removed; }
+    public int     getPreserved()   { return preserved; }
+    public int     getVetoed()      { return vetoed; }
+    public int     getGuarded()     { return guarded; }
+    public int     getChunkCount()  { return buckets.length; }
+
+    public int     getTicks()        { return ticks; }
+    public long    getTotalNanos()   { return totalNanos; }
+    public long    getMaxTickNanos() { return maxTickNanos; }
+
+    /** @return non-item entities removed, by type */
+    public Map<EntityType, Integer> getRemovedByType() {
+        return Collections.unmodifiableMap(removedByType);
+    }
+
+    /** @return non-item entities removed in total */
+    public int getEntitiesRemoved() {
+        int n = 0;
+        for (int c : removedByType.values()) n += c;
+        return n;
+    }
+
+    /** @return removed / preserved items per world */
+    public List<CleanupHistory.WorldCount> getWorldCounts() {
+        List<CleanupHistory.WorldCount> out =
+                new ArrayList<>(worldCounts.size());
+        for (Map.Entry<UUID, int[]> e : worldCounts.entrySet()) {
+            out.add(new CleanupHistory.WorldCount(e.getKey(),
+                    e.getValue()[0], e.getValue()[1]));
+        }
+        return out;
+    }
+
+    /** @return chunks with the most removed items, largest first */
+    public List<Hotspots.Hotspot> getHotspots() {
+        return hotspots.entries();
+    }
+}
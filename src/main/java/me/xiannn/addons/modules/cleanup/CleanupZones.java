@@ -0,0 +1,327 @@
+package me.xiannn.addons.modules.cleanup;
+
+import me.xiannn.addons.AddonLogger;
+import org.bukkit.Location;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Item;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Regions where ground items are never removed, or live by their
+ * own TTL (spawn shops, event arenas, build contests).
+ * <p>
+ * Compiled into a per-world chunk grid: every zone is listed in
+ * each chunk its bounding box touches, so a lookup is one map read
+ * plus a bounds test against the (usually zero or one) zones of
+ * that chunk. Zones spanning more than {@link #MAX_CELLS} chunks
+ * are kept in a short per-world list instead of flooding the grid.
+ *
+ * <h3>Shapes</h3>
+ * <pre>
+ *   cuboid  pos1 / pos2 corners, inclusive, all three axes
+ *   radius  centre x/z + radius, a full-height cylinder
+ * </pre>
+ * When zones overlap, a protecting zone wins; otherwise the first
+ * listed zone applies.
+ */
+public final class CleanupZones {
+
+    /** Chunks one zone may occupy in the grid. */
+    private static final int MAX_CELLS = 4096;
+
+    public enum Type { CUBOID, RADIUS }
+
+    /**
+     * One zone. Radius zones store their bounding box; the centre
+     * and radius are derived from it.
+     *
+     * @param ttlTicks item TTL inside the zone, or
+     *                 {@link ExpiryRules#NEVER} to protect
+     */
+    public record Zone(String name, String world, Type type,
+                       int minX, int minY, int minZ,
+                       int maxX, int maxY, int maxZ,
+                       int ttlTicks) {
+
+        public static Zone cuboid(String name, String world,
+                                  int x1, int y1, int z1,
+                                  int x2, int y2, int z2,
+                                  int ttlTicks) {
+            return new Zone(name, world, Type.CUBOID,
+                    Math.min(x1, x2), Math.min(y1, y2), Math.min(z1, z2),
+                    Math.max(x1, x2), Math.max(y1, y2), Math.max(z1, z2),
+                    ttlTicks);
+        }
+
+        public static Zone radius(String name, String world,
+                                  int centerX, int centerZ, int radius,
+                                  int ttlTicks) {
+            int r = Math.max(0, radius);
+            return new Zone(name, world, Type.RADIUS,
+                    centerX - r, Integer.MIN_VALUE, centerZ - r,
+                    centerX + r, Integer.MAX_VALUE, centerZ + r,
+                    ttlTicks);
+        }
+
+        public boolean protects() {
+            return ttlTicks == ExpiryRules.NEVER;
+        }
+
+        public int centerX() { return (minX + maxX) / 2; }
+        public int centerZ() { return (minZ + maxZ) / 2; }
+        public int radius()  { return (maxX - minX) / 2; }
+
+        public boolean contains(int x, int y, int z) {
+            if (x < minX || x > maxX || z < minZ || z > maxZ
+                    || y < minY || y > maxY) {
+                return false;
+            }
+            if (type == Type.CUBOID) return true;
+
+            long dx = x - centerX();
+            long dz = z - centerZ();
+            long r  = radius();
+            return dx * dx + dz * dz <= r * r;
+        }
+
+        /** @return chunks touched by the bounding box */
+        long cellCount() {
+            return ((long) (maxX >> 4) - (minX >> 4) + 1)
+                    * ((long) (maxZ >> 4) - (minZ >> 4) + 1);
+        }
+
+        /**
+         * Writes this zone under {@code sec.<name>}. The name is a
+         * path, so it must not contain {@code '.'}.
+         */
+        public void writeTo(ConfigurationSection sec) {
+            ConfigurationSection zs = sec.createSection(name);
+            zs.set("world", world);
+            zs.set("type", type.name().toLowerCase());
+            if (type == Type.CUBOID) {
+                zs.set("pos1", List.of(minX, minY, minZ));
+                zs.set("pos2", List.of(maxX, maxY, maxZ));
+            } else {
+                zs.set("x", centerX());
+                zs.set("z", centerZ());
+                zs.set("radius", radius());
+            }
+            zs.set("ttl", protects() ? "protect" : ttlTicks / 20);
+        }
+    }
+
+    private final List<Zone> zones;
+    private final Map<String, Map<Long, Zone[]>> grid = new HashMap<>();
+    private final Map<String, Zone[]>            large = new HashMap<>();
+    /** Declaration index, to break ties between grid and large zones. */
+    private final Map<Zone, Integer> rank = new IdentityHashMap<>();
+    private int cells = 0;
+
+    /** Reused for position reads — avoids a Location per lookup. */
+    private final Location scratch = new Location(null, 0, 0, 0);
+
+    private CleanupZones(List<Zone> zones) {
+        this.zones = zones;
+        for (int i = 0; i < zones.size(); i++) rank.put(zones.get(i), i);
+
+        // Protecting zones first, so they win inside each cell; the
+        // sort is stable, so declaration order holds after that
+        List<Zone> ordered = new ArrayList<>(zones);
+        ordered.sort((a, b) -> Boolean.compare(
+                b.protects(), a.protects()));
+
+        Map<String, Map<Long, List<Zone>>> cellLists = new HashMap<>();
+        Map<String, List<Zone>> largeLists = new HashMap<>();
+
+        for (Zone zone : ordered) {
+            if (zone.cellCount() > MAX_CELLS) {
+                largeLists.computeIfAbsent(zone.world(),
+                        w -> new ArrayList<>()).add(zone);
+                continue;
+            }
+
+            Map<Long, List<Zone>> world = cellLists.computeIfAbsent(
+                    zone.world(), w -> new HashMap<>());
+            for (int cx = zone.minX() >> 4; cx <= zone.maxX() >> 4; cx++) {
+                for (int cz = zone.minZ() >> 4;
+                     cz <= zone.maxZ() >> 4; cz++) {
+                    world.computeIfAbsent(
+                            GroundItemIndex.chunkKey(cx, cz),
+                            k -> new ArrayList<>(1)).add(zone);
+                }
+            }
+        }
+
+        for (Map.Entry<String, Map<Long, List<Zone>>> w :
+                cellLists.entrySet()) {
+            Map<Long, Zone[]> world = new HashMap<>();
+            for (Map.Entry<Long, List<Zone>> c : w.getValue().entrySet()) {
+                world.put(c.getKey(), c.getValue().toArray(new Zone[0]));
+            }
+            grid.put(w.getKey(), world);
+            cells += world.size();
+        }
+        for (Map.Entry<String, List<Zone>> w : largeLists.entrySet()) {
+            large.put(w.getKey(), w.getValue().toArray(new Zone[0]));
+        }
+    }
+
+    /**
+     * @return the zone governing this item, or null
+     */
+    public Zone at(Item item) {
+        if (zones.isEmpty()) return null;
+        item.getLocation(scratch);
+        return at(item.getWorld().getName(), scratch.getBlockX(),
+                scratch.getBlockY(), scratch.getBlockZ());
+    }
+
+    /**
+     * @return the zone governing this block position, or null
+     */
+    public Zone at(String world, int x, int y, int z) {
+        Zone found = null;
+
+        Map<Long, Zone[]> cellMap = grid.get(world);
+        if (cellMap != null) {
+            Zone[] cell = cellMap.get(
+                    GroundItemIndex.chunkKey(x >> 4, z >> 4));
+            if (cell != null) {
+                for (Zone zone : cell) {
+                    if (!zone.contains(x, y, z)) continue;
+                    if (zone.protects()) return zone;
+                    found = zone;
+                    break;
+                }
+            }
+        }
+
+        Zone[] big = large.get(world);
+        if (big != null) {
+            for (Zone zone : big) {
+                if (!zone.contains(x, y, z)) continue;
+                if (zone.protects()) return zone;
+                // Both sources matched: the first listed zone wins
+                if (found == null || rank.get(zone) < rank.get(found)) {
+                    found = zone;
+                }
+                break;
+            }
+        }
+        return found;
+    }
+
+    /** @return zones in config order */
+    public List<Zone> zones() {
+        return Collections.unmodifiableList(zones);
+    }
+
+    public Zone get(String name) {
+        for (Zone zone : zones) {
+            if (zone.name().equalsIgnoreCase(name)) return zone;
+        }
+        return null;
+    }
+
+    public int size()         { return zones.size(); }
+    public int indexedCells() { return cells; }
+
+    /** @return a copy with {@code zone} added or replaced */
+    public CleanupZones with(Zone zone) {
+        Map<String, Zone> byName = byName();
+        byName.put(zone.name().toLowerCase(), zone);
+        return new CleanupZones(new ArrayList<>(byName.values()));
+    }
+
+    /** @return a copy without the named zone */
+    public CleanupZones without(String name) {
+        Map<String, Zone> byName = byName();
+        byName.remove(name.toLowerCase());
+        return new CleanupZones(new ArrayList<>(byName.values()));
+    }
+
+    private Map<String, Zone> byName() {
+        Map<String, Zone> byName = new LinkedHashMap<>();
+        for (Zone zone : zones) {
+            byName.put(zone.name().toLowerCase(), zone);
+        }
+        return byName;
+    }
+
+    /* ================================================================== */
+    /*  Compilation                                                         */
+    /* ================================================================== */
+
+    /**
+     * Compiles the {@code zones} config section. {@code ttl} is
+     * {@code protect} or a number of seconds.
+     */
+    public static CleanupZones compile(ConfigurationSection sec,
+                                       AddonLogger log) {
+        List<Zone> zones = new ArrayList<>();
+        if (sec == null) return new CleanupZones(zones);
+
+        for (String name : sec.getKeys(false)) {
+            ConfigurationSection zs = sec.getConfigurationSection(name);
+            if (zs == null) continue;
+
+            String world = zs.getString("world");
+            if (world == null) {
+                log.warn("zones." + name + ": missing world, skipped.");
+                continue;
+            }
+
+            int ttl = parseTtl(zs.getString("ttl", "protect"));
+            if (ttl == Integer.MIN_VALUE) {
+                log.warn("zones." + name + ": ttl must be 'protect' "
+                        + "or seconds, skipped.");
+                continue;
+            }
+
+            String type = zs.getString("type", "cuboid").toLowerCase();
+            if (type.equals("radius")) {
+                zones.add(Zone.radius(name, world,
+                        zs.getInt("x"), zs.getInt("z"),
+                        zs.getInt("radius", 16), ttl));
+                continue;
+            }
+
+            List<Integer> p1 = zs.getIntegerList("pos1");
+            List<Integer> p2 = zs.getIntegerList("pos2");
+            if (!type.equals("cuboid") || p1.size() != 3
+                    || p2.size() != 3) {
+                log.warn("zones." + name + ": needs type radius "
+                        + "(x, z, radius) or cuboid (pos1, pos2 as "
+                        + "[x, y, z]), skipped.");
+                continue;
+            }
+            zones.add(Zone.cuboid(name, world,
+                    p1.get(0), p1.get(1), p1.get(2),
+                    p2.get(0), p2.get(1), p2.get(2), ttl));
+        }
+
+        return new CleanupZones(zones);
+    }
+
+    /**
+     * @return TTL in ticks, {@link ExpiryRules#NEVER} for
+     *         {@code protect}, or {@link Integer#MIN_VALUE} if invalid
+     */
+    public static int parseTtl(String raw) {
+        if (raw == null || raw.equalsIgnoreCase("protect")) {
+            return ExpiryRules.NEVER;
+        }
+        try {
+            return Math.max(0, Integer.parseInt(raw.trim())) * 20;
+        } catch (NumberFormatException e) {
+            return Integer.MIN_VALUE;
+        }
+    }
+}
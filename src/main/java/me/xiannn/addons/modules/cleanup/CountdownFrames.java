@@ -0,0 +1,68 @@
+package me.xiannn.addons.modules.cleanup;
+
+import net.kyori.adventure.text.Component;
+
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+
+/**
+ * Pre-rendered countdown components, indexed by seconds left.
+ * <p>
+ * Built once per config load for one display channel (boss bar
+ * title, action bar, chat warning), so the per-second path is an
+ * array read instead of placeholder replacement, legacy-code
+ * translation and MiniMessage parsing. A second outside the cache
+ * has no frame; callers skip the display rather than render it.
+ *
+ * <pre>
+ *   frames[s] = render(s)   for 1 ≤ s ≤ max where include(s)
+ *   frames[s] = null        otherwise (not a display second)
+ * </pre>
+ */
+public final class CountdownFrames {
+
+    private Component[] frames = new Component[0];
+    private int rendered = 0;
+
+    /**
+     * Renders every included second up to {@code maxSeconds}.
+     *
+     * @param maxSeconds highest second shown (0 clears the cache)
+     * @param include    which seconds get a frame
+     * @param render     seconds left → component
+     */
+    public void build(int maxSeconds, IntPredicate include,
+                      IntFunction<Component> render) {
+        Component[] next = new Component[Math.max(0, maxSeconds) + 1];
+        int count = 0;
+
+        for (int s = 1; s < next.length; s++) {
+            if (include.test(s)) {
+                next[s] = render.apply(s);
+                count++;
+            }
+        }
+
+        frames   = next;
+        rendered = count;
+    }
+
+    /**
+     * @return the frame, or null if {@code secondsLeft} was not
+     *         pre-rendered
+     */
+    public Component get(int secondsLeft) {
+        return secondsLeft > 0 && secondsLeft < frames.length
+                ? frames[secondsLeft] : null;
+    }
+
+    /** @return true if a frame exists for this second */
+    public boolean has(int secondsLeft) {
+        return get(secondsLeft) != null;
+    }
+
+    /** @return number of pre-rendered frames */
+    public int size() {
+        return rendered;
+    }
+}
@@ -0,0 +1,246 @@
+package me.xiannn.addons.modules.cleanup;
+
+import me.xiannn.addons.AddonLogger;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Item;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Caps the number of ground items per chunk at spawn time.
+ * <p>
+ * The per-chunk count is the size of the chunk's
+ * {@link GroundItemIndex.ChunkBucket}, so the cap check on each
+ * spawn is a single map read — no entity scan.
+ *
+ * <h3>Actions when a chunk is full</h3>
+ * <ul>
+ *   <li><b>evict-oldest</b> — remove the oldest non-whitelisted
+ *       item in the chunk to make room (falls back to cancelling
+ *       if every item there is whitelisted).</li>
+ *   <li><b>cancel-spawn</b> — cancel the new (non-whitelisted)
+ *       item.</li>
+ * </ul>
+ * The search for a victim looks at no more than {@value #MAX_SCAN}
+ * of the oldest items. When it comes up empty (a chunk full of
+ * whitelisted items) the chunk is not searched again for
+ * {@value #NO_VICTIM_BACKOFF_MS} ms, so a stuffed chunk costs a map
+ * read per spawn rather than a whitelist check per item.
+ * <p>
+ * Triggers are logged per chunk with coordinates, coalesced to one
+ * line per {@code log-interval} so a lag machine cannot flood the
+ * console. Stale per-chunk entries are pruned once the map passes
+ * {@value #PRUNE_AT}; if a prune can't get back under half of
+ * that, the threshold doubles so busy chunks are not rescanned on
+ * every new hit.
+ */
+public final class DensityLimiter {
+
+    public enum Action { EVICT_OLDEST, CANCEL_SPAWN }
+
+    /** Oldest items checked for a victim per spawn. */
+    private static final int  MAX_SCAN            = 64;
+    /** Skip the victim search this long after one found nothing. */
+    private static final long NO_VICTIM_BACKOFF_MS = 5_000L;
+    /** Chunk entries before stale ones are pruned. */
+    private static final int  PRUNE_AT            = 1024;
+
+    /** What a trigger did, for the log line. */
+    private enum Outcome {
+        EVICTED("oldest evicted"),
+        CANCELLED("spawn cancelled"),
+        ALLOWED("whitelisted spawn allowed"),
+        NO_VICTIM_CANCELLED("no evictable item, spawn cancelled"),
+        NO_VICTIM_ALLOWED("no evictable item, whitelisted spawn allowed");
+
+        final String label;
+
+        Outcome(String label) { this.label = label; }
+    }
+
+    /** Per-chunk state: log throttle and victim-search back-off. */
+    private static final class Hit {
+        long lastLog;
+        int  count;
+        long noVictimUntil;
+    }
+
+    private final AddonLogger log;
+
+    /* ── Config ── */
+    private boolean enabled       = false;
+    private int     maxPerChunk   = 400;
+    private Action  action        = Action.EVICT_OLDEST;
+    private long    logIntervalMs = 30_000L;
+
+    /* ── State ── */
+    private final Map<UUID, Map<Long, Hit>> hits = new HashMap<>();
+    private int  hitCount       = 0;
+    private int  pruneAt        = PRUNE_AT;
+    private long totalTriggers  = 0;
+    private long totalEvicted   = 0;
+    private long totalCancelled = 0;
+
+    public DensityLimiter(AddonLogger log) {
+        this.log = log;
+    }
+
+    /**
+     * Reads the {@code density} config section.
+     */
+    public void load(ConfigurationSection sec) {
+        hits.clear();
+        hitCount = 0;
+        pruneAt  = PRUNE_AT;
+
+        if (sec == null) {
+            enabled = false;
+            return;
+        }
+
+        enabled     = sec.getBoolean("enabled", false);
+        maxPerChunk = Math.max(1, sec.getInt("max-per-chunk", 400));
+        logIntervalMs = Math.max(0,
+                sec.getInt("log-interval", 30)) * 1000L;
+
+        String raw = sec.getString("action", "evict-oldest");
+        action = "cancel-spawn".equalsIgnoreCase(raw)
+                ? Action.CANCEL_SPAWN : Action.EVICT_OLDEST;
+    }
+
+    /**
+     * Checks a spawning item against its chunk's cap.
+     *
+     * @param item        the item about to spawn
+     * @param index       the ground item index (holds chunk counts)
+     * @param isProtected whitelist check
+     * @param evictor     removes an old item from the world + index
+     * @return true if the spawn should be cancelled
+     */
+    public boolean onSpawn(Item item, GroundItemIndex index,
+                           Predicate<Item> isProtected,
+                           Consumer<Item> evictor) {
+        if (!enabled) return false;
+
+        UUID worldId = item.getWorld().getUID();
+        long key = index.chunkKeyOf(item);
+        GroundItemIndex.ChunkBucket bucket = index.bucket(worldId, key);
+
+        int count = bucket == null ? 0 : bucket.size();
+        if (count < maxPerChunk) return false;
+
+        long now = System.currentTimeMillis();
+        Hit hit = hit(worldId, key, now);
+        Outcome outcome;
+
+        if (action == Action.EVICT_OLDEST) {
+            Item victim = hit.noVictimUntil > now
+                    ? null : findVictim(bucket, isProtected);
+
+            if (victim != null) {
+                evictor.accept(victim);
+                totalEvicted++;
+                outcome = Outcome.EVICTED;
+            } else {
+                if (hit.noVictimUntil <= now) {
+                    hit.noVictimUntil = now + NO_VICTIM_BACKOFF_MS;
+                }
+                outcome = isProtected.test(item)
+                        ? Outcome.NO_VICTIM_ALLOWED
+                        : Outcome.NO_VICTIM_CANCELLED;
+            }
+        } else {
+            outcome = isProtected.test(item)
+                    ? Outcome.ALLOWED : Outcome.CANCELLED;
+        }
+
+        boolean cancel = outcome == Outcome.CANCELLED
+                || outcome == Outcome.NO_VICTIM_CANCELLED;
+        if (cancel) totalCancelled++;
+        totalTriggers++;
+        record(hit, item.getWorld().getName(), key, count, outcome, now);
+        return cancel;
+    }
+
+    /** @return the oldest unprotected item among the first few, or null */
+    private static Item findVictim(GroundItemIndex.ChunkBucket bucket,
+                                   Predicate<Item> isProtected) {
+        int scanned = 0;
+        for (Item old : bucket.items()) {
+            if (++scanned > MAX_SCAN) break;
+            if (old.isValid() && !isProtected.test(old)) return old;
+        }
+        return null;
+    }
+
+    private Hit hit(UUID worldId, long key, long now) {
+        Map<Long, Hit> chunks = hits.get(worldId);
+        Hit hit = chunks == null ? null : chunks.get(key);
+        if (hit != null) return hit;
+
+        // Prune first — it may drop this world's (empty) map
+        if (hitCount >= pruneAt) prune(now);
+        hit = new Hit();
+        hits.computeIfAbsent(worldId, w -> new HashMap<>()).put(key, hit);
+        hitCount++;
+        return hit;
+    }
+
+    private void record(Hit hit, String worldName, long key, int count,
+                        Outcome outcome, long now) {
+        hit.count++;
+
+        if (hit.lastLog == 0 || now - hit.lastLog >= logIntervalMs) {
+            int cx = GroundItemIndex.chunkX(key);
+            int cz = GroundItemIndex.chunkZ(key);
+            log.warn("Density cap hit in " + worldName
+                    + " chunk [" + cx + ", " + cz + "]"
+                    + " (blocks " + (cx << 4) + ", " + (cz << 4) + ")"
+                    + ": " + count + "/" + maxPerChunk + " items, "
+                    + hit.count + " trigger(s) since last report, "
+                    + outcome.label);
+            hit.lastLog = now;
+            hit.count = 0;
+        }
+    }
+
+    /**
+     * Drops throttle entries whose window has passed, then resets or
+     * doubles the threshold.
+     */
+    private void prune(long now) {
+        Iterator<Map<Long, Hit>> worlds = hits.values().iterator();
+        while (worlds.hasNext()) {
+            Map<Long, Hit> chunks = worlds.next();
+            chunks.values().removeIf(h ->
+                    now - h.lastLog >= logIntervalMs && h.count == 0
+                            && h.noVictimUntil <= now);
+            if (chunks.isEmpty()) worlds.remove();
+        }
+        hitCount = 0;
+        for (Map<Long, Hit> chunks : hits.values()) {
+            hitCount += chunks.size();
+        }
+
+        // Still crowded: every entry is live, so don't scan again
+        // until the map has doubled
+        pruneAt = hitCount >= PRUNE_AT / 2
+                ? Math.max(PRUNE_AT, hitCount * 2) : PRUNE_AT;
+    }
+
+    /* ================================================================== */
+    /*  Accessors                                                           */
+    /* ================================================================== */
+
+    public boolean isEnabled()         { return enabled; }
+    public int     getMaxPerChunk()    { return maxPerChunk; }
+    public Action  getAction()         { return action; }
+    public long    getTotalTriggers()  { return totalTriggers; }
+    public long    getTotalEvicted()   { return totalEvicted; }
+    public long    getTotalCancelled() { return totalCancelled; }
+}
@@ -0,0 +1,299 @@
+package me.xiannn.addons.modules.cleanup;
+
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Token-bucket limit on how fast items are dropped — per player and
+ * per chunk — so dupe spam and dropper clocks are stopped at the
+ * source instead of waiting for a cleanup.
+ * <p>
+ * Each bucket is a {@code long[]} of four slots; tokens are kept in
+ * thousandths so sub-token refill per tick stays exact. Refill is
+ * lazy: a bucket is only brought up to date when something draws
+ * from it.
+ *
+ * <pre>
+ *   tokens = min(burst, tokens + elapsedTicks × rate / 20)
+ *   tokens ≥ 1 → take one, allow
+ *   otherwise  → deny (the caller cancels the drop)
+ * </pre>
+ * A player drop draws from the player's bucket and the chunk's; a
+ * dispenser or dropper only from the chunk's. Player buckets go with
+ * the player on quit, chunk buckets with the chunk on unload. Once
+ * the chunk map grows past a threshold, buckets unused for longer
+ * than a full refill (or the alert cooldown) are pruned — an idle
+ * bucket holds no state worth keeping. If a prune can't get back
+ * under the threshold, the threshold doubles, so a map of busy
+ * chunks is not rescanned on every new bucket.
+ */
+public final class DropRateLimiter {
+
+    /* ── Bucket slots ── */
+    private static final int TOKENS     = 0; // thousandths
+    private static final int LAST_TICK  = 1; // last use
+    private static final int LAST_ALERT = 2;
+    private static final int DENIED     = 3; // since last alert
+
+    private static final long ONE = 1000L;
+
+    /** Chunk buckets before idle ones are pruned. */
+    private static final int PRUNE_AT = 4096;
+
+    /** Rate and capacity for one kind of bucket. */
+    private record Limit(long refillPerTick, long capacity) {
+
+        static Limit of(ConfigurationSection sec, int rate, int burst) {
+            int r = sec == null ? rate : sec.getInt("rate", rate);
+            int b = sec == null ? burst : sec.getInt("burst", burst);
+            return new Limit(Math.max(1, r) * ONE / 20,
+                    Math.max(1, b) * ONE);
+        }
+    }
+
+    private final Consumer<String> alerts;
+
+    /* ── Config ── */
+    private boolean enabled     = false;
+    private boolean dispensers  = true;
+    private Limit   playerLimit = new Limit(10 * ONE / 20, 40 * ONE);
+    private Limit   chunkLimit  = new Limit(40 * ONE / 20, 160 * ONE);
+    private int     alertTicks  = 600;
+
+    /* ── State ── */
+    private final Map<UUID, long[]> players = new HashMap<>();
+    private final Map<UUID, Map<Long, long[]>> chunks = new HashMap<>();
+    private int  chunkCount   = 0;
+    private int  pruneAt      = PRUNE_AT;
+    private long totalDenied  = 0;
+
+    /**
+     * @param alerts receives a staff alert line, at most once per
+     *               {@code alert-cooldown} per player or chunk
+     */
+    public DropRateLimiter(Consumer<String> alerts) {
+        this.alerts = alerts;
+    }
+
+    /**
+     * Reads the {@code drop-limit} config section.
+     */
+    public void load(ConfigurationSection sec) {
+        players.clear();
+        chunks.clear();
+        chunkCount = 0;
+        pruneAt = PRUNE_AT;
+
+        if (sec == null) {
+            enabled = false;
+            return;
+        }
+
+        enabled    = sec.getBoolean("enabled", false);
+        dispensers = sec.getBoolean("dispensers", true);
+        playerLimit = Limit.of(
+                sec.getConfigurationSection("player"), 10, 40);
+        chunkLimit = Limit.of(
+                sec.getConfigurationSection("chunk"), 40, 160);
+        alertTicks = Math.max(0, sec.getInt("alert-cooldown", 30)) * 20;
+    }
+
+    /* ================================================================== */
+    /*  Checks                                                              */
+    /* ================================================================== */
+
+    /**
+     * A player dropping an item.
+     *
+     * @return true if the drop should be cancelled
+     */
+    public boolean onPlayerDrop(UUID playerId, String playerName,
+                                String worldName, UUID worldId,
+                                int chunkX, int chunkZ) {
+        return onPlayerDrop(playerId, playerName, worldName, worldId,
+                chunkX, chunkZ, Bukkit.getCurrentTick());
+    }
+
+    /** {@link #onPlayerDrop} at a given server tick. */
+    boolean onPlayerDrop(UUID playerId, String playerName,
+                         String worldName, UUID worldId,
+                         int chunkX, int chunkZ, int now) {
+        if (!enabled) return false;
+
+        long[] player = players.computeIfAbsent(playerId,
+                p -> newBucket(playerLimit, now));
+        long[] chunk = chunkBucket(worldId, chunkX, chunkZ, now);
+
+        refill(player, playerLimit, now);
+        refill(chunk, chunkLimit, now);
+
+        // Both or neither — a denied drop costs nothing
+        if (player[TOKENS] >= ONE && chunk[TOKENS] >= ONE) {
+            player[TOKENS] -= ONE;
+            chunk[TOKENS]  -= ONE;
+            return false;
+        }
+
+        totalDenied++;
+        if (player[TOKENS] < ONE) {
+            deny(player, now, playerName + " is dropping items too "
+                    + "fast (limit " + rate(playerLimit) + "/s) in "
+                    + worldName + " [" + chunkX + ", " + chunkZ + "]");
+        } else {
+            deny(chunk, now, "Chunk " + worldName + " [" + chunkX
+                    + ", " + chunkZ + "] is over its drop limit ("
+                    + rate(chunkLimit) + "/s), last drop by "
+                    + playerName);
+        }
+        return true;
+    }
+
+    /**
+     * A dispenser or dropper firing.
+     *
+     * @return true if the dispense should be cancelled
+     */
+    public boolean onDispense(String worldName, UUID worldId,
+                              int blockX, int blockY, int blockZ) {
+        return onDispense(worldName, worldId, blockX, blockY, blockZ,
+                Bukkit.getCurrentTick());
+    }
+
+    /** {@link #onDispense} at a given server tick. */
+    boolean onDispense(String worldName, UUID worldId,
+                       int blockX, int blockY, int blockZ, int now) {
+        if (!enabled || !dispensers) return false;
+
+        int chunkX = blockX >> 4;
+        int chunkZ = blockZ >> 4;
+        long[] chunk = chunkBucket(worldId, chunkX, chunkZ, now);
+
+        refill(chunk, chunkLimit, now);
+        if (chunk[TOKENS] >= ONE) {
+            chunk[TOKENS] -= ONE;
+            return false;
+        }
+
+        totalDenied++;
+        deny(chunk, now, "Dispensers in " + worldName + " [" + chunkX
+                + ", " + chunkZ + "] are over the drop limit ("
+                + rate(chunkLimit) + "/s), last at " + blockX + " "
+                + blockY + " " + blockZ);
+        return true;
+    }
+
+    /* ================================================================== */
+    /*  Buckets                                                             */
+    /* ================================================================== */
+
+    private long[] newBucket(Limit limit, int now) {
+        return new long[] { limit.capacity(), now, -1L, 0L };
+    }
+
+    private long[] chunkBucket(UUID worldId, int chunkX, int chunkZ,
+                               int now) {
+        long key = GroundItemIndex.chunkKey(chunkX, chunkZ);
+        Map<Long, long[]> world = chunks.get(worldId);
+        long[] bucket = world == null ? null : world.get(key);
+        if (bucket != null) return bucket;
+
+        // Prune first — it may drop this world's (empty) map
+        if (chunkCount >= pruneAt) prune(now);
+        bucket = newBucket(chunkLimit, now);
+        chunks.computeIfAbsent(worldId, w -> new HashMap<>())
+                .put(key, bucket);
+        chunkCount++;
+        return bucket;
+    }
+
+    private static void refill(long[] bucket, Limit limit, int now) {
+        long elapsed = now - bucket[LAST_TICK];
+        if (elapsed <= 0) return;
+
+        bucket[TOKENS] = Math.min(limit.capacity(),
+                bucket[TOKENS] + elapsed * limit.refillPerTick());
+        bucket[LAST_TICK] = now;
+    }
+
+    private void deny(long[] bucket, int now, String message) {
+        bucket[DENIED]++;
+        if (bucket[LAST_ALERT] >= 0
+                && now - bucket[LAST_ALERT] < alertTicks) {
+            return;
+        }
+
+        alerts.accept(message + (bucket[DENIED] > 1
+                ? " (" + bucket[DENIED] + " drops blocked)" : ""));
+        bucket[LAST_ALERT] = now;
+        bucket[DENIED] = 0;
+    }
+
+    /**
+     * Drops chunk buckets idle long enough to have refilled and left
+     * their alert cooldown, then resets or doubles the threshold.
+     */
+    private void prune(int now) {
+        long idle = Math.max(alertTicks, chunkLimit.capacity()
+                / chunkLimit.refillPerTick() + 1);
+
+        Iterator<Map<Long, long[]>> worlds = chunks.values().iterator();
+        while (worlds.hasNext()) {
+            Map<Long, long[]> world = worlds.next();
+            world.values().removeIf(b -> now - b[LAST_TICK] >= idle);
+            if (world.isEmpty()) worlds.remove();
+        }
+        chunkCount = 0;
+        for (Map<Long, long[]> world : chunks.values()) {
+            chunkCount += world.size();
+        }
+
+        // Still crowded: every bucket is in use, so don't scan again
+        // until the map has doubled
+        pruneAt = chunkCount >= PRUNE_AT / 2
+                ? Math.max(PRUNE_AT, chunkCount * 2) : PRUNE_AT;
+    }
+
+    /* ================================================================== */
+    /*  Lifecycle                                                           */
+    /* ================================================================== */
+
+    public void forgetPlayer(UUID playerId) {
+        players.remove(playerId);
+    }
+
+    public void forgetChunk(UUID worldId, int chunkX, int chunkZ) {
+        Map<Long, long[]> world = chunks.get(worldId);
+        if (world == null) return;
+        if (world.remove(GroundItemIndex.chunkKey(chunkX, chunkZ))
+                != null) {
+            chunkCount--;
+        }
+        if (world.isEmpty()) chunks.remove(worldId);
+    }
+
+    public void forgetWorld(UUID worldId) {
+        Map<Long, long[]> world = chunks.remove(worldId);
+        if (world != null) chunkCount -= world.size();
+    }
+
+    /* ================================================================== */
+    /*  Accessors                                                           */
+    /* ================================================================== */
+
+    private static long rate(Limit limit) {
+        return limit.refillPerTick() * 20 / ONE;
+    }
+
+    public boolean isEnabled()         { return enabled; }
+    public long    getPlayerRate()     { return rate(playerLimit); }
+    public long    getChunkRate()      { return rate(chunkLimit); }
+    public int     getTrackedChunks()  { return chunkCount; }
+    public int     getTrackedPlayers() { return players.size(); }
+    public long    getTotalDenied()    { return totalDenied; }
+}
@@ -0,0 +1,237 @@
+package me.xiannn.addons.modules.cleanup;
+
+import me.xiannn.addons.AddonLogger;
+import org.bukkit.Chunk;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Boat;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.entity.Item;
+import org.bukkit.entity.Minecart;
+import org.bukkit.inventory.InventoryHolder;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Per-{@link EntityType} cleanup rules for non-item entities
+ * (arrows, XP orbs, falling blocks, vehicles, ...).
+ * <p>
+ * Compiled once at config load into arrays indexed by
+ * {@code EntityType.ordinal()}, one global and one per overriding
+ * world, so the per-entity lookup is an array read.
+ *
+ * <h3>Per chunk</h3>
+ * <pre>
+ *   eligible = enabled type, age ≥ min-age, not protected
+ *   max-per-chunk = -1 → remove every eligible entity
+ *   max-per-chunk = N  → keep the N youngest eligible, remove the rest
+ * </pre>
+ * Protected: custom-named, carrying or riding something, or holding
+ * an inventory (chest/hopper minecarts, chest boats) — removing
+ * those would delete player property.
+ */
+public final class EntityPolicies {
+
+    /** Rule for one entity type. */
+    public record Policy(boolean enabled, int minAgeTicks,
+                         int maxPerChunk) { }
+
+    private static final Comparator<Entity> OLDEST_FIRST =
+            Comparator.comparingInt(Entity::getTicksLived).reversed();
+
+    private final Policy[]              global;
+    private final Map<String, Policy[]> worlds;
+    private final boolean               enabled;
+    private final int                   typeCount;
+
+    private EntityPolicies(boolean enabled, Policy[] global,
+                           Map<String, Policy[]> worlds) {
+        this.enabled = enabled;
+        this.global  = global;
+        this.worlds  = worlds;
+
+        int n = 0;
+        for (Policy p : global) {
+            if (p != null && p.enabled()) n++;
+        }
+        this.typeCount = n;
+    }
+
+    /** @return true if any type is enabled for this world */
+    public boolean isActive(String worldName) {
+        if (!enabled) return false;
+        for (Policy p : table(worldName)) {
+            if (p != null && p.enabled()) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Applies the policies to one chunk.
+     *
+     * @param remover removes an entity and counts it by type
+     */
+    public void apply(Chunk chunk, String worldName,
+                      Consumer<Entity> remover) {
+        Policy[] table = table(worldName);
+        Map<EntityType, List<Entity>> capped = null;
+
+        for (Entity entity : chunk.getEntities()) {
+            Policy p = table[entity.getType().ordinal()];
+            if (p == null || !p.enabled()) continue;
+            if (entity.getTicksLived() < p.minAgeTicks()) continue;
+            if (isProtected(entity)) continue;
+
+            if (p.maxPerChunk() < 0) {
+                remover.accept(entity);
+                continue;
+            }
+
+            if (capped == null) capped = new HashMap<>();
+            capped.computeIfAbsent(entity.getType(),
+                    t -> new ArrayList<>()).add(entity);
+        }
+
+        if (capped == null) return;
+
+        for (Map.Entry<EntityType, List<Entity>> e : capped.entrySet()) {
+            int keep = table[e.getKey().ordinal()].maxPerChunk();
+            List<Entity> list = e.getValue();
+            if (list.size() <= keep) continue;
+
+            list.sort(OLDEST_FIRST);
+            for (int i = 0, n = list.size() - keep; i < n; i++) {
+                remover.accept(list.get(i));
+            }
+        }
+    }
+
+    private static boolean isProtected(Entity entity) {
+        return entity.customName() != null
+                || !entity.getPassengers().isEmpty()
+                || entity.isInsideVehicle()
+                || entity instanceof InventoryHolder;
+    }
+
+    private Policy[] table(String worldName) {
+        Policy[] table = worlds.get(worldName);
+        return table != null ? table : global;
+    }
+
+    public boolean isEnabled()  { return enabled; }
+    public int     typeCount()  { return typeCount; }
+
+    /* ================================================================== */
+    /*  Compilation                                                         */
+    /* ================================================================== */
+
+    /**
+     * Compiles the {@code entities} config section.
+     * <p>
+     * Type keys are {@link EntityType} names, or the aliases
+     * {@code boats} / {@code minecarts} for every boat / minecart
+     * type. {@code ITEM} is refused — items have their own pipeline.
+     */
+    public static EntityPolicies compile(ConfigurationSection sec,
+                                         AddonLogger log) {
+        Policy[] global = new Policy[EntityType.values().length];
+        Map<String, Policy[]> worlds = new HashMap<>();
+
+        if (sec == null) return new EntityPolicies(false, global, worlds);
+
+        ConfigurationSection types = sec.getConfigurationSection("types");
+        if (types != null) {
+            for (String key : types.getKeys(false)) {
+                ConfigurationSection ts =
+                        types.getConfigurationSection(key);
+                if (ts == null) continue;
+
+                Policy policy = new Policy(
+                        ts.getBoolean("enabled", true),
+                        Math.max(0, ts.getInt("min-age", 60)) * 20,
+                        ts.getInt("max-per-chunk", -1));
+                for (EntityType type : resolve(key, "entities.types", log)) {
+                    global[type.ordinal()] = policy;
+                }
+            }
+        }
+
+        // World overrides: any field left out inherits the global
+        ConfigurationSection worldSec =
+                sec.getConfigurationSection("worlds");
+        if (worldSec != null) {
+            for (String world : worldSec.getKeys(false)) {
+                ConfigurationSection ws =
+                        worldSec.getConfigurationSection(world);
+                if (ws == null) continue;
+
+                Policy[] table = global.clone();
+                for (String key : ws.getKeys(false)) {
+                    ConfigurationSection ts =
+                            ws.getConfigurationSection(key);
+                    if (ts == null) continue;
+
+                    for (EntityType type : resolve(key,
+                            "entities.worlds." + world, log)) {
+                        Policy base = table[type.ordinal()];
+                        if (base == null) base = new Policy(true, 60 * 20, -1);
+                        table[type.ordinal()] = new Policy(
+                                ts.getBoolean("enabled", base.enabled()),
+                                ts.contains("min-age")
+                                        ? Math.max(0, ts.getInt("min-age")) * 20
+                                        : base.minAgeTicks(),
+                                ts.getInt("max-per-chunk",
+                                        base.maxPerChunk()));
+                    }
+                }
+                worlds.put(world, table);
+            }
+        }
+
+        return new EntityPolicies(sec.getBoolean("enabled", false),
+                global, worlds);
+    }
+
+    private static List<EntityType> resolve(String key, String path,
+                                            AddonLogger log) {
+        List<EntityType> out = new ArrayList<>();
+        String k = key.toLowerCase().trim();
+
+        if (k.equals("boats") || k.equals("minecarts")) {
+            Class<?> base = k.equals("boats") ? Boat.class : Minecart.class;
+            for (EntityType type : EntityType.values()) {
+                Class<?> cls = type.getEntityClass();
+                if (cls != null && base.isAssignableFrom(cls)) {
+                    out.add(type);
+                }
+            }
+            return out;
+        }
+
+        try {
+            EntityType type = EntityType.valueOf(k.toUpperCase());
+            Class<?> cls = type.getEntityClass();
+            if (cls != null && Item.class.isAssignableFrom(cls)) {
+                log.warn(path + ": ITEM is handled by the item "
+                        + "cleanup, ignoring.");
+            } else if (cls == null || HumanEntity.class.isAssignableFrom(cls)
+                    || !type.isSpawnable()) {
+                // Players, fishing hooks, lightning… are never ours
+                // to remove
+                log.warn(path + ": " + type.name() + " can't be "
+                        + "cleaned up, ignoring.");
+            } else {
+                out.add(type);
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn(path + ": unknown entity type " + key);
+        }
+        return out;
+    }
+}
@@ -0,0 +1,196 @@
+package me.xiannn.addons.modules.cleanup;
+
+import me.xiannn.addons.AddonLogger;
+import org.bukkit.Material;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-world, per-material TTL table for rolling item expiry.
+ * <p>
+ * Compiled once at config load into flat {@link EnumMap} lookups,
+ * so resolving an item's TTL is two map reads.
+ *
+ * <h3>Resolution order</h3>
+ * <pre>
+ *   1. worlds.&lt;world&gt;.groups.&lt;group&gt;   (world override of a group)
+ *   2. groups.&lt;group&gt;.ttl              (global group)
+ *   3. worlds.&lt;world&gt;.default-ttl      (world default)
+ *   4. default-ttl                     (global default)
+ * </pre>
+ * A TTL of {@code -1} means "never expire". A material listed in
+ * more than one group belongs to the first group in config order;
+ * the later listings are ignored with a warning.
+ */
+public final class ExpiryRules {
+
+    /** Marker for items that never expire. */
+    public static final int NEVER = -1;
+
+    /** One compiled lookup table (global or per world). */
+    private static final class Table {
+        final int defaultTicks;
+        final EnumMap<Material, Integer> byMaterial;
+
+        Table(int defaultTicks, EnumMap<Material, Integer> byMaterial) {
+            this.defaultTicks = defaultTicks;
+            this.byMaterial   = byMaterial;
+        }
+
+        int ttl(Material material) {
+            Integer ttl = byMaterial.get(material);
+            return ttl != null ? ttl : defaultTicks;
+        }
+    }
+
+    private final Table              global;
+    private final Map<String, Table> worlds;
+    private final int                groupCount;
+
+    private ExpiryRules(Table global, Map<String, Table> worlds,
+                        int groupCount) {
+        this.global     = global;
+        this.worlds     = worlds;
+        this.groupCount = groupCount;
+    }
+
+    /**
+     * @return TTL in ticks for an item, or {@link #NEVER}
+     */
+    public int ttlTicks(String worldName, Material material) {
+        Table table = worlds.get(worldName);
+        return (table != null ? table : global).ttl(material);
+    }
+
+    /** @return global default TTL in ticks, or {@link #NEVER} */
+    public int defaultTtlTicks() {
+        return global.defaultTicks;
+    }
+
+    public int groupCount()         { return groupCount; }
+    public int worldOverrideCount() { return worlds.size(); }
+
+    /* ================================================================== */
+    /*  Compilation                                                         */
+    /* ================================================================== */
+
+    /**
+     * Compiles the {@code expiry} config section.
+     *
+     * @param sec the {@code expiry} section (may be null)
+     */
+    public static ExpiryRules compile(ConfigurationSection sec,
+                                      AddonLogger log) {
+        if (sec == null) {
+            return new ExpiryRules(
+                    new Table(toTicks(300), new EnumMap<>(Material.class)),
+                    new HashMap<>(), 0);
+        }
+
+        int defaultTicks = toTicks(sec.getInt("default-ttl", 300));
+
+        // Groups: name → (materials, ttl), in config order
+        Map<String, Material[]> groupMats = new LinkedHashMap<>();
+        Map<String, Integer>    groupTtl  = new HashMap<>();
+        ConfigurationSection groups =
+                sec.getConfigurationSection("groups");
+        if (groups != null) {
+            for (String name : groups.getKeys(false)) {
+                groupTtl.put(name, toTicks(
+                        groups.getInt(name + ".ttl", 300)));
+                groupMats.put(name, parseMaterials(
+                        groups.getStringList(name + ".materials"),
+                        name, log));
+            }
+        }
+
+        // Each material belongs to the first group listing it
+        EnumMap<Material, String> owner = new EnumMap<>(Material.class);
+        for (Map.Entry<String, Material[]> e : groupMats.entrySet()) {
+            for (Material mat : e.getValue()) {
+                String first = owner.putIfAbsent(mat, e.getKey());
+                if (first != null && !first.equals(e.getKey())) {
+                    log.warn("expiry.groups." + e.getKey() + ": "
+                            + mat + " is already in group '" + first
+                            + "', ignored here");
+                }
+            }
+        }
+
+        // Global table
+        EnumMap<Material, Integer> globalMap =
+                new EnumMap<>(Material.class);
+        for (Map.Entry<Material, String> e : owner.entrySet()) {
+            globalMap.put(e.getKey(), groupTtl.get(e.getValue()));
+        }
+        Table global = new Table(defaultTicks, globalMap);
+
+        // World tables
+        Map<String, Table> worlds = new HashMap<>();
+        ConfigurationSection worldSec =
+                sec.getConfigurationSection("worlds");
+        if (worldSec != null) {
+            for (String world : worldSec.getKeys(false)) {
+                ConfigurationSection ws =
+                        worldSec.getConfigurationSection(world);
+                if (ws == null) continue;
+
+                int worldDefault = ws.contains("default-ttl")
+                        ? toTicks(ws.getInt("default-ttl"))
+                        : defaultTicks;
+
+                EnumMap<Material, Integer> map =
+                        new EnumMap<>(globalMap);
+
+                ConfigurationSection wg =
+                        ws.getConfigurationSection("groups");
+                if (wg != null) {
+                    for (String name : wg.getKeys(false)) {
+                        Material[] mats = groupMats.get(name);
+                        if (mats == null) {
+                            log.warn("expiry.worlds." + world
+                                    + ": unknown group '" + name + "'");
+                            continue;
+                        }
+                        int ttl = toTicks(wg.getInt(name));
+                        for (Material mat : mats) {
+                            if (name.equals(owner.get(mat))) {
+                                map.put(mat, ttl);
+                            }
+                        }
+                    }
+                }
+
+                worlds.put(world, new Table(worldDefault, map));
+            }
+        }
+
+        return new ExpiryRules(global, worlds, groupMats.size());
+    }
+
+    private static Material[] parseMaterials(List<String> names,
+                                             String group,
+                                             AddonLogger log) {
+        List<Material> out = new ArrayList<>();
+        for (String name : names) {
+            try {
+                out.add(Material.valueOf(name.toUpperCase().trim()));
+            } catch (IllegalArgumentException e) {
+                log.warn("expiry.groups." + group
+                        + ": unknown material " + name);
+            }
+        }
+        return out.toArray(new Material[0]);
+    }
+
+    /** Seconds → ticks; negative values mean {@link #NEVER}. */
+    private static int toTicks(int seconds) {
+        return seconds < 0 ? NEVER : seconds * 20;
+    }
+}
@@ -0,0 +1,107 @@
+package me.xiannn.addons.modules.cleanup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel for per-item expiry deadlines.
+ * <p>
+ * Deadlines are absolute server ticks. Each slot covers
+ * {@code slotTicks} ticks; the wheel wraps after
+ * {@code slotTicks × slotCount} ticks, and entries further out
+ * than one rotation simply stay in their slot until a later pass
+ * finds them due.
+ *
+ * <h3>Cost per tick</h3>
+ * <pre>
+ *   advance(now) → visit only the slot(s) between the cursor and now
+ *                  → O(entries in those slots), never O(all entries)
+ * </pre>
+ * Main thread only.
+ *
+ * @param <T> handle stored per entry (e.g. an entity UUID)
+ */
+public final class ExpiryWheel<T> {
+
+    private record Entry<T>(T value, long deadline) { }
+
+    private final int               slotTicks;
+    private final List<Entry<T>>[]  slots;
+
+    /** Absolute slot number processed next. */
+    private long cursor;
+    private int  size = 0;
+
+    @SuppressWarnings("unchecked")
+    public ExpiryWheel(int slotTicks, int slotCount, long nowTick) {
+        this.slotTicks = Math.max(1, slotTicks);
+        this.slots     = new List[Math.max(1, slotCount)];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = new ArrayList<>();
+        }
+        this.cursor = nowTick / this.slotTicks;
+    }
+
+    /**
+     * Schedules a value. Deadlines already in the past fire on
+     * the next {@link #advance}.
+     */
+    public void schedule(T value, long deadlineTick) {
+        long slot = Math.max(deadlineTick / slotTicks, cursor);
+        slots[(int) (slot % slots.length)]
+                .add(new Entry<>(value, deadlineTick));
+        size++;
+    }
+
+    /**
+     * Fires every entry whose deadline is at or before
+     * {@code nowTick}, up to {@code max}. Entries left over because
+     * of the cap fire on the next call.
+     *
+     * @return number of entries fired
+     */
+    public int advance(long nowTick, int max, Consumer<T> sink) {
+        long target = nowTick / slotTicks;
+        int  fired  = 0;
+
+        while (cursor <= target) {
+            List<Entry<T>> slot = slots[(int) (cursor % slots.length)];
+
+            // In-place compaction: keep what is not due yet
+            int keep = 0;
+            for (int i = 0; i < slot.size(); i++) {
+                Entry<T> entry = slot.get(i);
+                if (entry.deadline() <= nowTick && fired < max) {
+                    sink.accept(entry.value());
+                    fired++;
+                    size--;
+                } else {
+                    slot.set(keep++, entry);
+                }
+            }
+            slot.subList(keep, slot.size()).clear();
+
+            // Cap hit — resume this slot next tick
+            if (fired >= max) break;
+
+            // The current slot may still hold later ticks of itself
+            if (cursor == target) break;
+            cursor++;
+        }
+
+        return fired;
+    }
+
+    /** @return number of scheduled entries (including stale ones) */
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        for (List<Entry<T>> slot : slots) {
+            slot.clear();
+        }
+        size = 0;
+    }
+}
@@ -0,0 +1,254 @@
+package me.xiannn.addons.modules.cleanup;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Item;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Live index of ground {@link Item} entities, grouped by world
+ * and chunk.
+ * <p>
+ * Maintained from spawn / merge / add / remove and chunk entity
+ * load / unload events, so a cleanup visits only items and item
+ * counts are read without touching the entity list.
+ *
+ * <h3>Layout</h3>
+ * <pre>
+ *   worlds:  world UUID → chunk key → ChunkBucket (items, oldest first)
+ *   owners:  item UUID  → ChunkBucket it currently sits in
+ *   counts:  world UUID → item count (O(1) status reads)
+ * </pre>
+ * Items are bucketed by the chunk they were in when indexed. They
+ * can drift (water, explosions); {@link #relocate} moves them when
+ * a sweep notices. Removal goes through the item UUID, so drift
+ * never leaves stale entries behind.
+ * <p>
+ * Main thread only.
+ */
+public final class GroundItemIndex {
+
+    /**
+     * All indexed items in one chunk, in insertion order
+     * (oldest first).
+     */
+    public static final class ChunkBucket {
+
+        private final UUID worldId;
+        private final long chunkKey;
+        private final LinkedHashMap<UUID, Item> items =
+                new LinkedHashMap<>();
+
+        ChunkBucket(UUID worldId, long chunkKey) {
+            this.worldId  = worldId;
+            this.chunkKey = chunkKey;
+        }
+
+        public UUID getWorldId()  { return worldId; }
+        public long getChunkKey() { return chunkKey; }
+        public int  getChunkX()   { return chunkX(chunkKey); }
+        public int  getChunkZ()   { return chunkZ(chunkKey); }
+        public int  size()        { return items.size(); }
+        public boolean isEmpty()  { return items.isEmpty(); }
+
+        /** @return live view, oldest first — do not modify */
+        public Collection<Item> items() {
+            return Collections.unmodifiableCollection(items.values());
+        }
+
+        /**
+         * Copies the current items so callers can remove entities
+         * while iterating.
+         */
+        public Item[] snapshot() {
+            return items.values().toArray(new Item[0]);
+        }
+    }
+
+    private final Map<UUID, Map<Long, ChunkBucket>> worlds =
+            new HashMap<>();
+    private final Map<UUID, ChunkBucket> owners = new HashMap<>();
+    private final Map<UUID, int[]>       counts = new HashMap<>();
+
+    /** Reused for position reads — avoids a Location per lookup. */
+    private final Location scratch = new Location(null, 0, 0, 0);
+
+    /* ================================================================== */
+    /*  Chunk keys                                                          */
+    /* ================================================================== */
+
+    public static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX & 0xFFFFFFFFL)
+                | (((long) chunkZ & 0xFFFFFFFFL) << 32);
+    }
+
+    public static int chunkX(long key) {
+        return (int) key;
+    }
+
+    public static int chunkZ(long key) {
+        return (int) (key >>> 32);
+    }
+
+    /** @return the key of the chunk the item is currently in */
+    public long chunkKeyOf(Item item) {
+        item.getLocation(scratch);
+        return chunkKey(scratch.getBlockX() >> 4,
+                scratch.getBlockZ() >> 4);
+    }
+
+    /* ================================================================== */
+    /*  Mutation                                                            */
+    /* ================================================================== */
+
+    /**
+     * Indexes an item. No-op if it is already tracked.
+     *
+     * @return true if newly added
+     */
+    public boolean add(Item item) {
+        UUID id = item.getUniqueId();
+        if (owners.containsKey(id)) return false;
+
+        UUID worldId = item.getWorld().getUID();
+        long key = chunkKeyOf(item);
+
+        ChunkBucket bucket = worlds
+                .computeIfAbsent(worldId, w -> new HashMap<>())
+                .computeIfAbsent(key, k -> new ChunkBucket(worldId, k));
+        bucket.items.put(id, item);
+        owners.put(id, bucket);
+        counts.computeIfAbsent(worldId, w -> new int[1])[0]++;
+        return true;
+    }
+
+    /**
+     * Drops an item from the index.
+     *
+     * @return true if it was tracked
+     */
+    public boolean remove(UUID itemId) {
+        ChunkBucket bucket = owners.remove(itemId);
+        if (bucket == null) return false;
+
+        bucket.items.remove(itemId);
+        int[] count = counts.get(bucket.worldId);
+        if (count != null && --count[0] <= 0) {
+            counts.remove(bucket.worldId);
+        }
+        if (bucket.items.isEmpty()) {
+            Map<Long, ChunkBucket> chunks = worlds.get(bucket.worldId);
+            if (chunks != null) {
+                chunks.remove(bucket.chunkKey);
+                if (chunks.isEmpty()) worlds.remove(bucket.worldId);
+            }
+        }
+        return true;
+    }
+
+    public boolean remove(Item item) {
+        return remove(item.getUniqueId());
+    }
+
+    /**
+     * Moves an item to the bucket of the chunk it is in now.
+     * Cheap no-op when it has not left its chunk.
+     */
+    public void relocate(Item item) {
+        ChunkBucket bucket = owners.get(item.getUniqueId());
+        if (bucket == null) return;
+        if (bucket.chunkKey == chunkKeyOf(item)) return;
+
+        remove(item.getUniqueId());
+        add(item);
+    }
+
+    /** Forgets every item in a world (world unload). */
+    public void clearWorld(UUID worldId) {
+        counts.remove(worldId);
+        Map<Long, ChunkBucket> chunks = worlds.remove(worldId);
+        if (chunks == null) return;
+        for (ChunkBucket bucket : chunks.values()) {
+            for (UUID id : bucket.items.keySet()) {
+                owners.remove(id);
+            }
+        }
+    }
+
+    public void clear() {
+        worlds.clear();
+        owners.clear();
+        counts.clear();
+    }
+
+    /**
+     * Rebuilds the index for one world from a full entity scan.
+     *
+     * @return number of items indexed
+     */
+    public int rebuild(World world) {
+        clearWorld(world.getUID());
+        int count = 0;
+        for (Item item : world.getEntitiesByClass(Item.class)) {
+            if (item.isValid() && add(item)) count++;
+        }
+        return count;
+    }
+
+    /* ================================================================== */
+    /*  Queries                                                             */
+    /* ================================================================== */
+
+    public boolean contains(UUID itemId) {
+        return owners.containsKey(itemId);
+    }
+
+    /** @return the tracked item, or null if not indexed */
+    public Item get(UUID itemId) {
+        ChunkBucket bucket = owners.get(itemId);
+        return bucket == null ? null : bucket.items.get(itemId);
+    }
+
+    /** @return total tracked items across all worlds — O(1) */
+    public int size() {
+        return owners.size();
+    }
+
+    /** @return tracked items in one world — O(1) */
+    public int size(UUID worldId) {
+        int[] count = counts.get(worldId);
+        return count == null ? 0 : count[0];
+    }
+
+    /** @return number of chunks holding at least one item */
+    public int chunkCount(UUID worldId) {
+        Map<Long, ChunkBucket> chunks = worlds.get(worldId);
+        return chunks == null ? 0 : chunks.size();
+    }
+
+    /** @return the bucket the item is indexed in, or null */
+    public ChunkBucket bucketOf(UUID itemId) {
+        return owners.get(itemId);
+    }
+
+    /** @return the bucket for a chunk, or null if it has no items */
+    public ChunkBucket bucket(UUID worldId, long chunkKey) {
+        Map<Long, ChunkBucket> chunks = worlds.get(worldId);
+        return chunks == null ? null : chunks.get(chunkKey);
+    }
+
+    /** @return a snapshot of all non-empty buckets in a world */
+    public List<ChunkBucket> buckets(UUID worldId) {
+        Map<Long, ChunkBucket> chunks = worlds.get(worldId);
+        if (chunks == null) return Collections.emptyList();
+        return new ArrayList<>(chunks.values());
+    }
+}
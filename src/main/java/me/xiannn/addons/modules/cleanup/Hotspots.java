@@ -0,0 +1,118 @@
+package me.xiannn.addons.modules.cleanup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Top-N chunks by removed item count, kept in a bounded min-heap.
+ * <p>
+ * A sweep visits every chunk bucket exactly once, so each chunk is
+ * offered once with its exact count; the heap only has to keep the
+ * N largest. Storage is three parallel arrays sized N — offering a
+ * chunk that does not beat the current minimum is one comparison.
+ *
+ * <pre>
+ *   size &lt; N            → append, sift up
+ *   count &gt; heap[0]     → replace root, sift down
+ *   otherwise           → ignored
+ * </pre>
+ */
+public final class Hotspots {
+
+    /** One chunk and how many items were removed from it. */
+    public record Hotspot(UUID worldId, int chunkX, int chunkZ,
+                          int removed) { }
+
+    private static final Comparator<Hotspot> LARGEST_FIRST =
+            Comparator.comparingInt(Hotspot::removed).reversed();
+
+    private final UUID[] worlds;
+    private final long[] keys;
+    private final int[]  counts;
+    private int size = 0;
+
+    /**
+     * @param capacity chunks to keep (0 disables tracking)
+     */
+    public Hotspots(int capacity) {
+        int n = Math.max(0, capacity);
+        this.worlds = new UUID[n];
+        this.keys   = new long[n];
+        this.counts = new int[n];
+    }
+
+    /**
+     * Offers one chunk's count.
+     */
+    public void offer(UUID worldId, long chunkKey, int count) {
+        if (count <= 0 || counts.length == 0) return;
+
+        if (size < counts.length) {
+            set(size, worldId, chunkKey, count);
+            siftUp(size++);
+            return;
+        }
+
+        if (count <= counts[0]) return;
+        set(0, worldId, chunkKey, count);
+        siftDown(0);
+    }
+
+    /** @return the kept chunks, largest first */
+    public List<Hotspot> entries() {
+        List<Hotspot> out = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            out.add(new Hotspot(worlds[i],
+                    GroundItemIndex.chunkX(keys[i]),
+                    GroundItemIndex.chunkZ(keys[i]), counts[i]));
+        }
+        out.sort(LARGEST_FIRST);
+        return out;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /* ================================================================== */
+    /*  Heap                                                                */
+    /* ================================================================== */
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (counts[parent] <= counts[i]) return;
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left  = 2 * i + 1;
+            int right = left + 1;
+            int min   = i;
+
+            if (left < size && counts[left] < counts[min]) min = left;
+            if (right < size && counts[right] < counts[min]) min = right;
+            if (min == i) return;
+
+            swap(i, min);
+            i = min;
+        }
+    }
+
+    private void set(int i, UUID worldId, long chunkKey, int count) {
+        worlds[i] = worldId;
+        keys[i]   = chunkKey;
+        counts[i] = count;
+    }
+
+    private void swap(int a, int b) {
+        UUID w = worlds[a]; worlds[a] = worlds[b]; worlds[b] = w;
+        long k = keys[a];   keys[a]   = keys[b];   keys[b]   = k;
+        int  c = counts[a]; counts[a] = counts[b]; counts[b] = c;
+    }
+}
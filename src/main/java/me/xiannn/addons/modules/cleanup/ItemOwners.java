@@ -0,0 +1,161 @@
+package me.xiannn.addons.modules.cleanup;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Item;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Who owns which ground items, so countdown warnings only reach
+ * players with something to lose.
+ * <p>
+ * An item's owner is its thrower, or — for death drops, which have
+ * none — the player who died on that spot in the same tick. Owned
+ * items are mapped to their owner and world; a per-owner, per-world
+ * count covers only items actually <em>at risk</em> (not whitelisted
+ * or in a protecting zone), so a warning never counts a shulker box
+ * that the sweep would keep anyway.
+ *
+ * <pre>
+ *   spawn / load / add      → add()     count++ if at risk
+ *   pickup / merge / remove → remove()  count-- if counted
+ *   rule or zone change     → recount via setAtRisk()
+ * </pre>
+ */
+public final class ItemOwners {
+
+    /** Death drops land within this distance (squared) of the body. */
+    private static final double DEATH_RADIUS_SQ = 4.0;
+
+    private record Owned(UUID owner, UUID worldId, boolean atRisk) { }
+
+    private record Death(UUID owner, Location at, int tick) { }
+
+    private final Map<UUID, Owned> items = new HashMap<>();
+    private final Map<UUID, Map<UUID, int[]>> counts = new HashMap<>();
+    private final List<Death> deaths = new ArrayList<>(2);
+
+    /* ================================================================== */
+    /*  Ownership                                                           */
+    /* ================================================================== */
+
+    /**
+     * Notes a death whose drops spawn later in the same tick.
+     */
+    public void expectDeathDrops(UUID owner, Location at, int tick) {
+        deaths.removeIf(d -> d.tick() != tick);
+        deaths.add(new Death(owner, at, tick));
+    }
+
+    /**
+     * @return the item's thrower, the owner already on record, or a
+     *         matching death in this tick; null if unowned
+     */
+    public UUID ownerOf(Item item, int tick) {
+        UUID thrower = item.getThrower();
+        if (thrower != null) return thrower;
+
+        Owned known = items.get(item.getUniqueId());
+        if (known != null) return known.owner();
+
+        if (deaths.isEmpty()) return null;
+        Location loc = item.getLocation();
+        for (Iterator<Death> it = deaths.iterator(); it.hasNext(); ) {
+            Death death = it.next();
+            if (death.tick() != tick) {
+                it.remove(); // drops already spawned
+                continue;
+            }
+            if (death.at().getWorld() == loc.getWorld()
+                    && death.at().distanceSquared(loc)
+                    <= DEATH_RADIUS_SQ) {
+                return death.owner();
+            }
+        }
+        return null;
+    }
+
+    /* ================================================================== */
+    /*  Counting                                                            */
+    /* ================================================================== */
+
+    public void add(UUID itemId, UUID owner, UUID worldId,
+                    boolean atRisk) {
+        Owned old = items.put(itemId, new Owned(owner, worldId, atRisk));
+        if (old != null && old.atRisk()) adjust(old, -1);
+        if (atRisk) adjust(items.get(itemId), 1);
+    }
+
+    public void remove(UUID itemId) {
+        Owned old = items.remove(itemId);
+        if (old != null && old.atRisk()) adjust(old, -1);
+    }
+
+    /** Re-evaluates an owned item after whitelist or zone changes. */
+    public void setAtRisk(UUID itemId, boolean atRisk) {
+        Owned old = items.get(itemId);
+        if (old == null || old.atRisk() == atRisk) return;
+        add(itemId, old.owner(), old.worldId(), atRisk);
+    }
+
+    private void adjust(Owned owned, int delta) {
+        Map<UUID, int[]> perWorld = counts.computeIfAbsent(
+                owned.owner(), o -> new HashMap<>(2));
+        int[] count = perWorld.computeIfAbsent(
+                owned.worldId(), w -> new int[1]);
+        count[0] += delta;
+
+        if (count[0] <= 0) {
+            perWorld.remove(owned.worldId());
+            if (perWorld.isEmpty()) counts.remove(owned.owner());
+        }
+    }
+
+    /** @return the owner's at-risk items across matching worlds */
+    public int count(UUID owner, Predicate<UUID> worlds) {
+        Map<UUID, int[]> perWorld = counts.get(owner);
+        if (perWorld == null) return 0;
+
+        int total = 0;
+        for (Map.Entry<UUID, int[]> e : perWorld.entrySet()) {
+            if (worlds.test(e.getKey())) total += e.getValue()[0];
+        }
+        return total;
+    }
+
+    public boolean isOwned(UUID itemId) {
+        return items.containsKey(itemId);
+    }
+
+    /* ================================================================== */
+    /*  Maintenance                                                         */
+    /* ================================================================== */
+
+    public void clearWorld(UUID worldId) {
+        items.values().removeIf(o -> o.worldId().equals(worldId));
+        for (Iterator<Map<UUID, int[]>> it = counts.values().iterator();
+             it.hasNext(); ) {
+            Map<UUID, int[]> perWorld = it.next();
+            perWorld.remove(worldId);
+            if (perWorld.isEmpty()) it.remove();
+        }
+    }
+
+    public void clear() {
+        items.clear();
+        counts.clear();
+        deaths.clear();
+    }
+
+    /** @return owned items on the ground */
+    public int size()       { return items.size(); }
+
+    /** @return players with at least one item at risk */
+    public int ownerCount() { return counts.size(); }
+}
@@ -0,0 +1,632 @@
+package me.xiannn.addons.modules.cleanup;
+
+import me.xiannn.addons.AddonLogger;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Item;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.Plugin;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lost-and-found vault for items removed by ItemCleanup.
+ * <p>
+ * Removed stacks are copied on the main thread, then serialized
+ * with {@link ItemStack#serializeAsBytes()} and appended to a
+ * per-world journal on a single writer thread. The in-memory index
+ * (by id, owner and world) lives on the main thread only; the
+ * writer hands finished entries back with a sync task.
+ *
+ * <h3>Journal — {@code lostandfound/<world>.bin}</h3>
+ * <pre>
+ *   int MAGIC
+ *   repeated:
+ *     byte 1  ITEM   long id, long time, long msb, long lsb,
+ *                    int x, int y, int z, int len, byte[len]
+ *     byte 2  CLAIM  long id
+ * </pre>
+ * Each world is capped at {@code max-kb-per-world}; the oldest
+ * entries are evicted first (FIFO). Ids grow with time, so the
+ * evicted entries of a world are exactly those at or below its
+ * eviction watermark. Once a file grows past twice the cap the
+ * writer replays it and rewrites only what is above the watermark
+ * and unclaimed — which also keeps batches written but not yet
+ * published to the index.
+ */
+public final class LostAndFound {
+
+    /** One stored stack. {@code owner} is the thrower, or null. */
+    public record Entry(long id, long time, UUID owner, String world,
+                        int x, int y, int z, byte[] data) {
+
+        int size() {
+            return 49 + data.length;
+        }
+    }
+
+    private static final int  MAGIC      = 0x584C4631; // "XLF1"
+    private static final byte TYPE_ITEM  = 1;
+    private static final byte TYPE_CLAIM = 2;
+    private static final int  CLAIM_SIZE = 9;
+
+    private static final UUID NO_OWNER = new UUID(0L, 0L);
+
+    private final Plugin      plugin;
+    private final AddonLogger log;
+    private final File        folder;
+
+    /* ── Config ── */
+    private boolean enabled          = false;
+    private boolean ownedOnly        = true;
+    private long    maxBytesPerWorld = 2048L * 1024L;
+
+    /* ── Main-thread index ── */
+    private final TreeMap<Long, Entry> all = new TreeMap<>();
+    private final Map<UUID, TreeMap<Long, Entry>> byOwner =
+            new HashMap<>();
+    private final Map<String, LinkedHashMap<Long, Entry>> byWorld =
+            new HashMap<>();
+    private final Map<String, WorldState> worlds = new HashMap<>();
+    private long    nextId  = 1L;
+    private boolean loaded  = false;
+
+    /* ── Batching ── */
+    private final List<PendingItem> pending = new ArrayList<>();
+    private boolean flushScheduled = false;
+
+    /** Per-world byte accounting (main thread). */
+    private static final class WorldState {
+        long liveBytes;
+        long fileBytes;
+        long evictedThrough;
+    }
+
+    private record PendingItem(long id, long time, UUID owner,
+                               String world, int x, int y, int z,
+                               ItemStack stack) { }
+
+    private final Location scratch = new Location(null, 0, 0, 0);
+
+    private ExecutorService io;
+
+    /** A stopped writer that may still be finishing its queue. */
+    private ExecutorService retired;
+
+    public LostAndFound(Plugin plugin, AddonLogger log, File folder) {
+        this.plugin = plugin;
+        this.log    = log;
+        this.folder = folder;
+    }
+
+    /**
+     * Reads the {@code vault} config section.
+     */
+    public void load(ConfigurationSection sec) {
+        if (sec == null) {
+            enabled = false;
+            return;
+        }
+
+        enabled          = sec.getBoolean("enabled", false);
+        ownedOnly        = sec.getBoolean("owned-only", true);
+        maxBytesPerWorld = Math.max(64,
+                sec.getInt("max-kb-per-world", 2048)) * 1024L;
+    }
+
+    /* ================================================================== */
+    /*  Lifecycle                                                           */
+    /* ================================================================== */
+
+    /**
+     * Starts the writer thread and replays the journals in the
+     * background. Removals before the replay finishes are not
+     * recorded. If a previous writer is still draining, the replay
+     * waits for it on the new thread.
+     */
+    public void start() {
+        if (io != null) return;
+
+        ExecutorService previous = retired;
+        retired = null;
+        io = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "XiannnAddons-LostAndFound");
+            t.setDaemon(true);
+            return t;
+        });
+
+        ExecutorService writer = io;
+        io.execute(() -> {
+            awaitRetired(previous);
+            Map<String, LinkedHashMap<Long, Entry>> replayed =
+                    readAll();
+            Map<String, Long> sizes = new HashMap<>();
+            for (String world : replayed.keySet()) {
+                sizes.put(world, journal(world).length());
+            }
+            sync(writer, () -> install(replayed, sizes));
+        });
+    }
+
+    /**
+     * Hands whatever is pending to the writer and stops it. On a
+     * reload the writer drains in the background — the main thread
+     * only waits when the server itself is stopping.
+     */
+    public void stop() {
+        if (io == null) return;
+
+        flush();
+        io.shutdown();
+        if (Bukkit.isStopping()) {
+            try {
+                if (!io.awaitTermination(5, TimeUnit.SECONDS)) {
+                    log.warn("Lost-and-found writer did not finish "
+                            + "in time; some entries may be missing.");
+                    io.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                io.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        } else {
+            retired = io;
+        }
+        io = null;
+
+        all.clear();
+        byOwner.clear();
+        byWorld.clear();
+        worlds.clear();
+        pending.clear();
+        flushScheduled = false;
+        loaded = false;
+    }
+
+    /* ================================================================== */
+    /*  Recording (main thread)                                             */
+    /* ================================================================== */
+
+    /**
+     * Queues a copy of an item that is about to be removed. The
+     * copy is serialized and written off the main thread on the
+     * next tick.
+     */
+    public void record(Item item) {
+        if (!enabled || !loaded) return;
+
+        UUID owner = item.getThrower();
+        if (ownedOnly && owner == null) return;
+
+        Location loc = item.getLocation(scratch);
+        pending.add(new PendingItem(nextId++,
+                System.currentTimeMillis(), owner,
+                item.getWorld().getName(),
+                loc.getBlockX(), loc.getBlockY(), loc.getBlockZ(),
+                item.getItemStack()));
+
+        if (!flushScheduled) {
+            flushScheduled = true;
+            Bukkit.getScheduler().runTask(plugin, this::flush);
+        }
+    }
+
+    /** Hands the queued batch to the writer thread. */
+    private void flush() {
+        flushScheduled = false;
+        if (pending.isEmpty() || io == null) return;
+
+        List<PendingItem> batch = new ArrayList<>(pending);
+        pending.clear();
+        ExecutorService writer = io;
+        io.execute(() -> writeBatch(writer, batch));
+    }
+
+    /* ================================================================== */
+    /*  Queries and claims (main thread)                                    */
+    /* ================================================================== */
+
+    /**
+     * @param owner thrower to filter by, or null for every entry
+     * @return entries, newest first
+     */
+    public List<Entry> entries(UUID owner) {
+        if (owner == null) {
+            return new ArrayList<>(all.descendingMap().values());
+        }
+        TreeMap<Long, Entry> own = byOwner.get(owner);
+        return own == null ? Collections.emptyList()
+                : new ArrayList<>(own.descendingMap().values());
+    }
+
+    /** @return the entry, or null if claimed/evicted */
+    public Entry get(long id) {
+        return all.get(id);
+    }
+
+    /**
+     * Removes an entry and returns its stack. The claim is
+     * journaled so it survives a restart.
+     *
+     * @return the stack, or null if it was already claimed/evicted
+     */
+    public ItemStack claim(long id) {
+        Entry entry = all.get(id);
+        if (entry == null) return null;
+
+        ItemStack stack;
+        try {
+            stack = ItemStack.deserializeBytes(entry.data());
+        } catch (RuntimeException e) {
+            log.warn("Lost-and-found entry #" + id
+                    + " could not be read: " + e.getMessage());
+            return null;
+        }
+
+        unindex(entry);
+        state(entry.world()).fileBytes += CLAIM_SIZE;
+
+        if (io != null) {
+            String world = entry.world();
+            io.execute(() -> appendClaim(world, id));
+        }
+        return stack;
+    }
+
+    /** Decodes an entry for display; null if unreadable. */
+    public ItemStack peek(Entry entry) {
+        try {
+            return ItemStack.deserializeBytes(entry.data());
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    public boolean isEnabled() { return enabled; }
+    public boolean isLoaded()  { return loaded; }
+    public int     size()      { return all.size(); }
+    public long    getMaxBytesPerWorld() { return maxBytesPerWorld; }
+
+    /* ================================================================== */
+    /*  Index maintenance (main thread)                                     */
+    /* ================================================================== */
+
+    private void install(Map<String, LinkedHashMap<Long, Entry>> replayed,
+                         Map<String, Long> sizes) {
+        if (io == null) return;
+
+        long maxId = 0L;
+        for (Map.Entry<String, LinkedHashMap<Long, Entry>> e :
+                replayed.entrySet()) {
+            state(e.getKey()).fileBytes =
+                    sizes.getOrDefault(e.getKey(), 0L);
+            for (Entry entry : e.getValue().values()) {
+                index(entry);
+                maxId = Math.max(maxId, entry.id());
+            }
+            evict(e.getKey());
+        }
+
+        // Ids handed out before the replay finished stay unique
+        nextId = Math.max(nextId, maxId + 1);
+        loaded = true;
+        log.debug("Lost-and-found loaded: " + all.size()
+                + " entr(ies) in " + replayed.size() + " world(s).");
+    }
+
+    private void publish(List<Entry> written, Map<String, Long> appended) {
+        if (io == null) return;
+
+        for (Entry entry : written) {
+            index(entry);
+        }
+        for (Map.Entry<String, Long> e : appended.entrySet()) {
+            state(e.getKey()).fileBytes += e.getValue();
+            evict(e.getKey());
+        }
+    }
+
+    private void index(Entry entry) {
+        all.put(entry.id(), entry);
+        byWorld.computeIfAbsent(entry.world(),
+                w -> new LinkedHashMap<>()).put(entry.id(), entry);
+        if (entry.owner() != null) {
+            byOwner.computeIfAbsent(entry.owner(),
+                    o -> new TreeMap<>()).put(entry.id(), entry);
+        }
+        state(entry.world()).liveBytes += entry.size();
+    }
+
+    private void unindex(Entry entry) {
+        all.remove(entry.id());
+
+        LinkedHashMap<Long, Entry> world = byWorld.get(entry.world());
+        if (world != null) world.remove(entry.id());
+
+        if (entry.owner() != null) {
+            TreeMap<Long, Entry> own = byOwner.get(entry.owner());
+            if (own != null) {
+                own.remove(entry.id());
+                if (own.isEmpty()) byOwner.remove(entry.owner());
+            }
+        }
+        state(entry.world()).liveBytes -= entry.size();
+    }
+
+    /**
+     * Drops the oldest entries of a world until it fits the cap,
+     * and compacts its journal once it is twice the cap.
+     */
+    private void evict(String world) {
+        WorldState state = state(world);
+        LinkedHashMap<Long, Entry> entries = byWorld.get(world);
+
+        if (entries != null) {
+            Iterator<Entry> it = entries.values().iterator();
+            while (state.liveBytes > maxBytesPerWorld && it.hasNext()) {
+                Entry oldest = it.next();
+                it.remove();
+                all.remove(oldest.id());
+                if (oldest.owner() != null) {
+                    TreeMap<Long, Entry> own = byOwner.get(oldest.owner());
+                    if (own != null) {
+                        own.remove(oldest.id());
+                        if (own.isEmpty()) byOwner.remove(oldest.owner());
+                    }
+                }
+                state.liveBytes -= oldest.size();
+                state.evictedThrough = Math.max(
+                        state.evictedThrough, oldest.id());
+            }
+        }
+
+        if (state.fileBytes > maxBytesPerWorld * 2 && io != null) {
+            long watermark = state.evictedThrough;
+            state.fileBytes = 4L + state.liveBytes;
+            io.execute(() -> compact(world, watermark));
+        }
+    }
+
+    private WorldState state(String world) {
+        return worlds.computeIfAbsent(world, w -> new WorldState());
+    }
+
+    /* ================================================================== */
+    /*  Journal IO (writer thread only)                                     */
+    /* ================================================================== */
+
+    private void writeBatch(ExecutorService writer,
+                            List<PendingItem> batch) {
+        Map<String, List<Entry>> perWorld = new LinkedHashMap<>();
+        for (PendingItem p : batch) {
+            byte[] data;
+            try {
+                data = p.stack().serializeAsBytes();
+            } catch (RuntimeException e) {
+                log.warn("Could not serialize " + p.stack().getType()
+                        + " for lost-and-found: " + e.getMessage());
+                continue;
+            }
+            perWorld.computeIfAbsent(p.world(), w -> new ArrayList<>())
+                    .add(new Entry(p.id(), p.time(), p.owner(),
+                            p.world(), p.x(), p.y(), p.z(), data));
+        }
+
+        List<Entry>       written  = new ArrayList<>();
+        Map<String, Long> appended = new HashMap<>();
+
+        for (Map.Entry<String, List<Entry>> e : perWorld.entrySet()) {
+            File file = journal(e.getKey());
+            boolean fresh = !file.exists() || file.length() == 0;
+            long size = fresh ? 4L : 0L;
+
+            try (DataOutputStream out = open(file, true)) {
+                if (fresh) out.writeInt(MAGIC);
+                for (Entry entry : e.getValue()) {
+                    writeItem(out, entry);
+                    size += entry.size();
+                }
+            } catch (IOException ex) {
+                log.error("Could not write lost-and-found journal "
+                        + file.getName(), ex);
+                continue;
+            }
+
+            written.addAll(e.getValue());
+            appended.put(e.getKey(), size);
+        }
+
+        if (!written.isEmpty()) {
+            sync(writer, () -> publish(written, appended));
+        }
+    }
+
+    private void appendClaim(String world, long id) {
+        File file = journal(world);
+        if (!file.exists()) return;
+
+        try (DataOutputStream out = open(file, true)) {
+            out.writeByte(TYPE_CLAIM);
+            out.writeLong(id);
+        } catch (IOException e) {
+            log.error("Could not journal lost-and-found claim #"
+                    + id, e);
+        }
+    }
+
+    /**
+     * Rewrites a journal without claimed entries and without
+     * anything at or below the eviction watermark.
+     */
+    private void compact(String world, long evictedThrough) {
+        File file = journal(world);
+        File tmp  = new File(folder, world + ".bin.tmp");
+        if (!file.exists()) return;
+
+        List<Entry> live = new ArrayList<>();
+        for (Entry entry : read(file, world).values()) {
+            if (entry.id() > evictedThrough) live.add(entry);
+        }
+
+        try {
+            try (DataOutputStream out = open(tmp, false)) {
+                out.writeInt(MAGIC);
+                for (Entry entry : live) {
+                    writeItem(out, entry);
+                }
+            }
+            Files.move(tmp.toPath(), file.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            log.debug("Compacted lost-and-found journal " + world
+                    + ": " + live.size() + " entr(ies).");
+        } catch (IOException e) {
+            log.error("Could not compact lost-and-found journal "
+                    + file.getName(), e);
+        }
+    }
+
+    private Map<String, LinkedHashMap<Long, Entry>> readAll() {
+        Map<String, LinkedHashMap<Long, Entry>> out = new HashMap<>();
+        File[] files = folder.listFiles(
+                (dir, name) -> name.endsWith(".bin"));
+        if (files == null) return out;
+
+        for (File file : files) {
+            String world = file.getName().substring(
+                    0, file.getName().length() - 4);
+            out.put(world, read(file, world));
+        }
+        return out;
+    }
+
+    private LinkedHashMap<Long, Entry> read(File file, String world) {
+        LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>();
+
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                log.warn("Skipping " + file.getName()
+                        + ": not a lost-and-found journal.");
+                return entries;
+            }
+
+            while (true) {
+                byte type;
+                try {
+                    type = in.readByte();
+                } catch (EOFException end) {
+                    break;
+                }
+
+                if (type == TYPE_ITEM) {
+                    long id   = in.readLong();
+                    long time = in.readLong();
+                    long msb  = in.readLong();
+                    long lsb  = in.readLong();
+                    int  x    = in.readInt();
+                    int  y    = in.readInt();
+                    int  z    = in.readInt();
+                    byte[] data = new byte[in.readInt()];
+                    in.readFully(data);
+
+                    UUID owner = new UUID(msb, lsb);
+                    entries.put(id, new Entry(id, time,
+                            owner.equals(NO_OWNER) ? null : owner,
+                            world, x, y, z, data));
+                } else if (type == TYPE_CLAIM) {
+                    entries.remove(in.readLong());
+                } else {
+                    log.warn(file.getName() + ": unknown record type "
+                            + type + ", ignoring the rest.");
+                    break;
+                }
+            }
+        } catch (EOFException e) {
+            // Torn final write — keep what was complete
+            log.warn(file.getName() + ": truncated record at end, "
+                    + "ignored.");
+        } catch (IOException e) {
+            log.error("Could not read lost-and-found journal "
+                    + file.getName(), e);
+        }
+        return entries;
+    }
+
+    private static void writeItem(DataOutputStream out, Entry entry)
+            throws IOException {
+        UUID owner = entry.owner() != null ? entry.owner() : NO_OWNER;
+        out.writeByte(TYPE_ITEM);
+        out.writeLong(entry.id());
+        out.writeLong(entry.time());
+        out.writeLong(owner.getMostSignificantBits());
+        out.writeLong(owner.getLeastSignificantBits());
+        out.writeInt(entry.x());
+        out.writeInt(entry.y());
+        out.writeInt(entry.z());
+        out.writeInt(entry.data().length);
+        out.write(entry.data());
+    }
+
+    private DataOutputStream open(File file, boolean append)
+            throws IOException {
+        if (!folder.exists() && !folder.mkdirs()) {
+            throw new IOException("Could not create " + folder);
+        }
+        return new DataOutputStream(new BufferedOutputStream(
+                new FileOutputStream(file, append)));
+    }
+
+    private File journal(String world) {
+        return new File(folder, world + ".bin");
+    }
+
+    /**
+     * Runs on the main thread unless the plugin is shutting down or
+     * the writer has been replaced since — a draining writer's
+     * results belong to an index that no longer exists.
+     */
+    private void sync(ExecutorService writer, Runnable task) {
+        if (plugin.isEnabled()) {
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                if (io == writer) task.run();
+            });
+        }
+    }
+
+    /** Writer thread: waits for a stopped writer to drain. */
+    private void awaitRetired(ExecutorService previous) {
+        if (previous == null) return;
+        try {
+            if (!previous.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("Previous lost-and-found writer still busy; "
+                        + "replaying anyway.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package me.xiannn.addons.modules.cleanup;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Paginated chest view of {@link LostAndFound} entries.
+ * <p>
+ * 45 entries per page, navigation on the bottom row. Clicking an
+ * entry claims it into the viewer's inventory. Owners may only
+ * claim their own items; staff opening someone else's (or every)
+ * entry list may claim anything they see.
+ */
+public final class LostAndFoundMenu implements InventoryHolder {
+
+    private static final int PAGE_SIZE = 45;
+    private static final int SLOT_PREV = 45;
+    private static final int SLOT_INFO = 49;
+    private static final int SLOT_NEXT = 53;
+
+    private final LostAndFound vault;
+    private final UUID         filter;
+    private final boolean      staff;
+    private final Inventory    inventory;
+    private final long[]       slotIds = new long[PAGE_SIZE];
+
+    private int page = 0;
+
+    /**
+     * @param filter owner to show, or null for every entry
+     * @param label  shown in the title ("Your items", a name, "All")
+     * @param staff  viewer may claim entries they do not own
+     */
+    public LostAndFoundMenu(LostAndFound vault, UUID filter,
+                            String label, boolean staff) {
+        this.vault     = vault;
+        this.filter    = filter;
+        this.staff     = staff;
+        this.inventory = Bukkit.createInventory(this, 54,
+                Component.text("Lost & Found — " + label));
+    }
+
+    @Override
+    public @NotNull Inventory getInventory() {
+        return inventory;
+    }
+
+    public void open(Player player) {
+        render();
+        player.openInventory(inventory);
+    }
+
+    private void render() {
+        inventory.clear();
+
+        List<LostAndFound.Entry> entries = vault.entries(filter);
+        int pages = Math.max(1,
+                (entries.size() + PAGE_SIZE - 1) / PAGE_SIZE);
+        page = Math.max(0, Math.min(page, pages - 1));
+
+        int from = page * PAGE_SIZE;
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            int idx = from + i;
+            if (idx >= entries.size()) {
+                slotIds[i] = -1L;
+                continue;
+            }
+
+            LostAndFound.Entry entry = entries.get(idx);
+            ItemStack display = vault.peek(entry);
+            if (display == null) {
+                display = new ItemStack(Material.BARRIER);
+                display.editMeta(m -> m.displayName(
+                        Component.text("Unreadable entry",
+                                NamedTextColor.RED)));
+            }
+            slotIds[i] = entry.id();
+            inventory.setItem(i, decorate(display, entry));
+        }
+
+        if (page > 0) {
+            inventory.setItem(SLOT_PREV, button(Material.ARROW,
+                    "← Previous page", NamedTextColor.YELLOW));
+        }
+        if (page < pages - 1) {
+            inventory.setItem(SLOT_NEXT, button(Material.ARROW,
+                    "Next page →", NamedTextColor.YELLOW));
+        }
+        inventory.setItem(SLOT_INFO, button(Material.BOOK,
+                "Page " + (page + 1) + "/" + pages + " — "
+                        + entries.size() + " item(s)",
+                NamedTextColor.GOLD));
+    }
+
+    private ItemStack decorate(ItemStack display,
+                               LostAndFound.Entry entry) {
+        List<Component> lore = display.lore() != null
+                ? new ArrayList<>(display.lore()) : new ArrayList<>();
+
+        String when = new SimpleDateFormat("yyyy-MM-dd HH:mm")
+                .format(new Date(entry.time()));
+        lore.add(Component.empty());
+        lore.add(line("Removed: ", when));
+        lore.add(line("Where: ", entry.world() + " " + entry.x()
+                + ", " + entry.y() + ", " + entry.z()));
+        if (entry.owner() != null && filter == null) {
+            String name = Bukkit.getOfflinePlayer(entry.owner()).getName();
+            lore.add(line("Dropped by: ",
+                    name != null ? name : entry.owner().toString()));
+        }
+        lore.add(Component.text("Click to claim", NamedTextColor.GREEN)
+                .decoration(TextDecoration.ITALIC, false));
+
+        display.lore(lore);
+        return display;
+    }
+
+    private static Component line(String key, String value) {
+        return Component.text(key, NamedTextColor.GRAY)
+                .append(Component.text(value, NamedTextColor.WHITE))
+                .decoration(TextDecoration.ITALIC, false);
+    }
+
+    private static ItemStack button(Material material, String name,
+                                    NamedTextColor color) {
+        ItemStack stack = new ItemStack(material);
+        stack.editMeta(m -> m.displayName(Component.text(name, color)
+                .decoration(TextDecoration.ITALIC, false)));
+        return stack;
+    }
+
+    /* ================================================================== */
+    /*  Clicks                                                              */
+    /* ================================================================== */
+
+    public void handleClick(InventoryClickEvent event) {
+        event.setCancelled(true);
+        if (!(event.getWhoClicked() instanceof Player player)) return;
+        if (event.getClickedInventory() != inventory) return;
+
+        int slot = event.getSlot();
+        if (slot == SLOT_PREV) {
+            page--;
+            render();
+            return;
+        }
+        if (slot == SLOT_NEXT) {
+            page++;
+            render();
+            return;
+        }
+        if (slot < 0 || slot >= PAGE_SIZE || slotIds[slot] < 0) return;
+
+        claim(player, slotIds[slot]);
+    }
+
+    private void claim(Player player, long id) {
+        LostAndFound.Entry entry = vault.get(id);
+        if (entry == null) {
+            player.sendMessage(Component.text(
+                    "That item was already claimed.",
+                    NamedTextColor.YELLOW));
+            render();
+            return;
+        }
+
+        if (!staff && !player.getUniqueId().equals(entry.owner())) {
+            player.sendMessage(Component.text(
+                    "You can only claim your own items.",
+                    NamedTextColor.RED));
+            return;
+        }
+
+        if (player.getInventory().firstEmpty() == -1) {
+            player.sendMessage(Component.text(
+                    "Your inventory is full.", NamedTextColor.RED));
+            return;
+        }
+
+        ItemStack stack = vault.claim(id);
+        if (stack == null) {
+            player.sendMessage(Component.text(
+                    "That item could not be restored.",
+                    NamedTextColor.RED));
+            render();
+            return;
+        }
+
+        player.getInventory().addItem(stack);
+        player.sendMessage(Component.text("✔ ", NamedTextColor.GREEN)
+                .append(Component.text("Claimed ", NamedTextColor.GRAY))
+                .append(Component.text(stack.getAmount() + "x "
+                        + stack.getType().name(), NamedTextColor.AQUA))
+                .append(Component.text(".", NamedTextColor.GRAY)));
+        render();
+    }
+}
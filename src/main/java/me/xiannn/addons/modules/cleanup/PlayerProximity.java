@@ -0,0 +1,114 @@
+package me.xiannn.addons.modules.cleanup;
+
+import me.xiannn.addons.AddonLogger;
+import org.bukkit.Bukkit;
+import org.bukkit.GameMode;
+import org.bukkit.Location;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Player;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Chunks with an online player nearby, per world — items there are
+ * usually being picked up or sorted, so the sweep leaves them.
+ * <p>
+ * Rebuilt once per sweep from player positions; the sweep then
+ * tests each item's chunk key against the set, so there is no
+ * per-item distance check at all.
+ *
+ * <pre>
+ *   for each player:
+ *       mark every chunk overlapping the square
+ *       [x - radius, x + radius] × [z - radius, z + radius]
+ * </pre>
+ * Chunk granularity errs on the side of keeping: an item up to one
+ * chunk further than {@code radius} may be spared. The radius is
+ * capped at the server's view distance — the set grows with its
+ * square per player, and items further out aren't being handled by
+ * anyone anyway.
+ */
+public final class PlayerProximity implements CleanupSweep.BucketGuard {
+
+    private boolean enabled = false;
+    private int     radius  = 8;
+    private boolean spectators = false;
+
+    private final Map<UUID, Set<Long>> chunks = new HashMap<>();
+    private int marked = 0;
+
+    public void load(ConfigurationSection sec, AddonLogger log) {
+        enabled    = false;
+        radius     = 8;
+        spectators = false;
+        if (sec != null) {
+            enabled    = sec.getBoolean("enabled", false);
+            radius     = Math.max(0, sec.getInt("radius", 8));
+            spectators = sec.getBoolean("include-spectators", false);
+
+            int max = Bukkit.getViewDistance() * 16;
+            if (radius > max) {
+                log.warn("proximity.radius " + radius + " is beyond the "
+                        + "view distance, using " + max + ".");
+                radius = max;
+            }
+        }
+        chunks.clear();
+        marked = 0;
+    }
+
+    /**
+     * Takes another instance's settings, leaving its marked chunks
+     * alone — for a second set rebuilt on its own schedule.
+     */
+    public void copySettings(PlayerProximity from) {
+        enabled    = from.enabled;
+        radius     = from.radius;
+        spectators = from.spectators;
+    }
+
+    /** Re-marks chunks from current player positions. */
+    public void rebuild() {
+        chunks.clear();
+        marked = 0;
+        if (!enabled) return;
+
+        Location loc = new Location(null, 0, 0, 0);
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            if (!spectators && player.getGameMode() == GameMode.SPECTATOR) {
+                continue;
+            }
+
+            player.getLocation(loc);
+            int x = loc.getBlockX();
+            int z = loc.getBlockZ();
+            Set<Long> set = chunks.computeIfAbsent(
+                    player.getWorld().getUID(), w -> new HashSet<>());
+
+            for (int cx = (x - radius) >> 4; cx <= (x + radius) >> 4; cx++) {
+                for (int cz = (z - radius) >> 4;
+                     cz <= (z + radius) >> 4; cz++) {
+                    if (set.add(GroundItemIndex.chunkKey(cx, cz))) marked++;
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean keep(UUID worldId, long chunkKey) {
+        Set<Long> set = chunks.get(worldId);
+        return set != null && set.contains(chunkKey);
+    }
+
+    public boolean isEnabled()    { return enabled; }
+    public int     getRadius()    { return radius; }
+
+    /** @return chunks marked at the last rebuild */
+    public int getMarkedChunks() {
+        return marked;
+    }
+}
@@ -0,0 +1,186 @@
+package me.xiannn.addons.modules.cleanup;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Item;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Folds partial stacks of identical items lying in the same chunk
+ * into as few entities as possible.
+ * <p>
+ * No items are deleted: every merged amount ends up on another
+ * entity, only the emptied entities are removed. Buckets are walked
+ * oldest-first, so the oldest item of each kind is the one that
+ * grows.
+ *
+ * <h3>Per chunk</h3>
+ * <pre>
+ *   open = []                         partial stacks, one per kind
+ *   for item in bucket (oldest first):
+ *       target = open.find(isSimilar, same thrower)
+ *       none   → open += item
+ *       found  → move min(room, amount) into target
+ *                target takes the younger age
+ *                source empty → remove entity
+ *                target full  → target leaves open,
+ *                               source remainder takes its place
+ * </pre>
+ * Items with an owner or an infinite pickup delay (display items,
+ * other plugins' props) are never touched. Stacks only merge with
+ * stacks of the same thrower, so thrown items keep their owner
+ * record for the whitelist, the lost-and-found vault and per-owner
+ * counts.
+ */
+public final class StackConsolidator {
+
+    /** Pickup delay Bukkit treats as "never". */
+    private static final int INFINITE_PICKUP_DELAY = Short.MAX_VALUE;
+
+    /**
+     * Notified after each move into a target, before an emptied
+     * source entity is removed.
+     */
+    @FunctionalInterface
+    public interface AbsorbListener {
+        void absorbed(Item source, Item target, boolean emptied);
+    }
+
+    /** Outcome of one pass. */
+    public record Result(int chunks, int merges, int removed,
+                         long nanos) { }
+
+    /* ── Config ── */
+    private boolean enabled         = false;
+    private int     intervalSeconds = 60;
+    private int     minItems        = 4;
+
+    /**
+     * Reads the {@code consolidate} config section.
+     */
+    public void load(ConfigurationSection sec) {
+        if (sec == null) {
+            enabled = false;
+            return;
+        }
+
+        enabled         = sec.getBoolean("enabled", false);
+        intervalSeconds = Math.max(5, sec.getInt("interval", 60));
+        minItems        = Math.max(2, sec.getInt("min-items", 4));
+    }
+
+    /**
+     * Consolidates every bucket holding at least {@code min-items}.
+     */
+    public Result run(List<GroundItemIndex.ChunkBucket> buckets,
+                      AbsorbListener listener) {
+        long start = System.nanoTime();
+        int chunks = 0, merges = 0, removed = 0;
+
+        List<Item>      open         = new ArrayList<>();
+        List<ItemStack> openStacks   = new ArrayList<>();
+        List<UUID>      openThrowers = new ArrayList<>();
+
+        for (GroundItemIndex.ChunkBucket bucket : buckets) {
+            if (bucket.size() < minItems) continue;
+            chunks++;
+            open.clear();
+            openStacks.clear();
+            openThrowers.clear();
+
+            // Copy — removals fire events that edit the bucket
+            for (Item item : bucket.snapshot()) {
+                if (!isEligible(item)) continue;
+
+                ItemStack stack = item.getItemStack();
+                int max = stack.getMaxStackSize();
+                if (stack.getAmount() >= max) continue;
+
+                UUID thrower = item.getThrower();
+                int idx = indexOfSimilar(openStacks, openThrowers,
+                        stack, thrower);
+                if (idx < 0) {
+                    open.add(item);
+                    openStacks.add(stack);
+                    openThrowers.add(thrower);
+                    continue;
+                }
+
+                Item      target      = open.get(idx);
+                ItemStack targetStack = openStacks.get(idx);
+                int moved = Math.min(max - targetStack.getAmount(),
+                        stack.getAmount());
+
+                targetStack.setAmount(targetStack.getAmount() + moved);
+                target.setItemStack(targetStack);
+                inheritYounger(item, target);
+                merges++;
+
+                boolean emptied = moved == stack.getAmount();
+                listener.absorbed(item, target, emptied);
+                if (emptied) {
+                    item.remove();
+                    removed++;
+                } else {
+                    stack.setAmount(stack.getAmount() - moved);
+                    item.setItemStack(stack);
+                }
+
+                if (targetStack.getAmount() >= max) {
+                    open.remove(idx);
+                    openStacks.remove(idx);
+                    openThrowers.remove(idx);
+                    if (!emptied) {
+                        open.add(item);
+                        openStacks.add(stack);
+                        openThrowers.add(thrower);
+                    }
+                }
+            }
+        }
+
+        return new Result(chunks, merges, removed,
+                System.nanoTime() - start);
+    }
+
+    /**
+     * Gives the target the younger age and the longer pickup delay
+     * of the two, as vanilla merging does, so moved items neither
+     * despawn early nor become collectable sooner.
+     */
+    static void inheritYounger(Item source, Item target) {
+        if (source.getTicksLived() < target.getTicksLived()) {
+            target.setTicksLived(Math.max(1, source.getTicksLived()));
+        }
+        if (source.getPickupDelay() > target.getPickupDelay()) {
+            target.setPickupDelay(source.getPickupDelay());
+        }
+    }
+
+    private static boolean isEligible(Item item) {
+        return item.isValid()
+                && item.getOwner() == null
+                && item.getPickupDelay() < INFINITE_PICKUP_DELAY;
+    }
+
+    private static int indexOfSimilar(List<ItemStack> stacks,
+                                      List<UUID> throwers,
+                                      ItemStack stack, UUID thrower) {
+        for (int i = 0; i < stacks.size(); i++) {
+            if (Objects.equals(throwers.get(i), thrower)
+                    && stacks.get(i).isSimilar(stack)) return i;
+        }
+        return -1;
+    }
+
+    /* ================================================================== */
+    /*  Accessors                                                           */
+    /* ================================================================== */
+
+    public boolean isEnabled()          { return enabled; }
+    public int     getIntervalSeconds() { return intervalSeconds; }
+}
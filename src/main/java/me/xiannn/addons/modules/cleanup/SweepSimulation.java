@@ -0,0 +1,210 @@
+package me.xiannn.addons.modules.cleanup;
+
+import org.bukkit.Material;
+import org.bukkit.entity.EntityType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Results of a dry-run sweep ({@code /cleanup simulate}): what
+ * would be removed, and how long each stage of the selection took.
+ * <p>
+ * Breakdown counts are reset at the start of every run, so they
+ * describe the latest one; timings accumulate over all runs. Run
+ * durations are kept in a {@code long[]} sized to the run count for
+ * the average and nearest-rank percentiles.
+ * <p>
+ * Not modelled: vetoes from {@code ItemCleanupPreEvent} listeners
+ * (the event is never fired for a dry run, so other plugins don't
+ * mistake it for a real sweep).
+ */
+public final class SweepSimulation {
+
+    /** Stages of the selection pipeline, in order. */
+    public enum Stage {
+        SELECT("select"),
+        PROXIMITY("proximity"),
+        WHITELIST("whitelist"),
+        ZONES("zones"),
+        AGE("age"),
+        ENTITIES("entities"),
+        TALLY("tally");
+
+        private final String label;
+
+        Stage(String label) { this.label = label; }
+
+        public String label() { return label; }
+    }
+
+    /** Items of one material, would-be-removed only. */
+    public record MaterialCount(Material material, int items,
+                                long amount) { }
+
+    private static final Comparator<MaterialCount> MOST_FIRST =
+            Comparator.comparingInt(MaterialCount::items).reversed();
+
+    private final long[] runNanos;
+    private final long[] stageNanos = new long[Stage.values().length];
+    private int runs = 0;
+
+    /* ── Latest run ── */
+    private final Map<UUID, int[]> worlds = new HashMap<>();
+    private final Map<EntityType, Integer> entities =
+            new EnumMap<>(EntityType.class);
+    private final int[]  materialItems  = new int[Material.values().length];
+    private final long[] materialAmount = new long[Material.values().length];
+    private int checked       = 0;
+    private int removable     = 0;
+    private int keptWhitelist = 0;
+    private int keptZones     = 0;
+    private int keptNear      = 0;
+    private int pastTtl       = 0;
+    private int entityTotal   = 0;
+
+    /**
+     * @param runs runs to record (at least one)
+     */
+    public SweepSimulation(int runs) {
+        this.runNanos = new long[Math.max(1, runs)];
+    }
+
+    /* ================================================================== */
+    /*  Recording                                                           */
+    /* ================================================================== */
+
+    /** Clears the breakdown before a run. */
+    public void beginRun() {
+        worlds.clear();
+        entities.clear();
+        Arrays.fill(materialItems, 0);
+        Arrays.fill(materialAmount, 0L);
+        checked = removable = keptWhitelist = keptZones = keptNear = 0;
+        pastTtl = entityTotal = 0;
+    }
+
+    public void stage(Stage stage, long nanos) {
+        stageNanos[stage.ordinal()] += nanos;
+    }
+
+    public void endRun(long nanos) {
+        if (runs < runNanos.length) runNanos[runs++] = nanos;
+    }
+
+    /** A whole chunk spared by player proximity. */
+    public void keepNearPlayers(UUID worldId, int items) {
+        checked  += items;
+        keptNear += items;
+        worlds.computeIfAbsent(worldId, w -> new int[2])[1] += items;
+    }
+
+    public void keepWhitelisted() { keptWhitelist++; }
+    public void keepInZone()      { keptZones++; }
+
+    /**
+     * A would-be-removed item already past its lifetime, which
+     * rolling expiry or a chunk load would remove without a sweep.
+     */
+    public void pastTtl()         { pastTtl++; }
+
+    /** A non-item entity an entity policy would remove. */
+    public void countEntity(EntityType type) {
+        entities.merge(type, 1, Integer::sum);
+        entityTotal++;
+    }
+
+    /** Tallies one checked item. */
+    public void count(UUID worldId, Material material, int amount,
+                      boolean kept) {
+        checked++;
+        int[] world = worlds.computeIfAbsent(worldId, w -> new int[2]);
+        if (kept) {
+            world[1]++;
+            return;
+        }
+        world[0]++;
+        removable++;
+        materialItems[material.ordinal()]++;
+        materialAmount[material.ordinal()] += amount;
+    }
+
+    /* ================================================================== */
+    /*  Results                                                             */
+    /* ================================================================== */
+
+    public boolean isComplete() { return runs >= runNanos.length; }
+    public int     getRuns()    { return runs; }
+
+    public int getChecked()       { return checked; }
+    public int getRemovable()     { return removable; }
+    public int getKeptWhitelist() { return keptWhitelist; }
+    public int getKeptZones()     { return keptZones; }
+    public int getKeptNear()      { return keptNear; }
+    public int getPastTtl()       { return pastTtl; }
+    public int getEntityTotal()   { return entityTotal; }
+
+    /** @return entity type → would-be-removed count */
+    public Map<EntityType, Integer> getEntities() {
+        return entities;
+    }
+
+    /** @return world → {would remove, kept} */
+    public Map<UUID, int[]> getWorlds() {
+        return worlds;
+    }
+
+    /** @return up to {@code limit} materials, most items first */
+    public List<MaterialCount> topMaterials(int limit) {
+        Material[] all = Material.values();
+        List<MaterialCount> out = new ArrayList<>();
+        for (int i = 0; i < materialItems.length; i++) {
+            if (materialItems[i] > 0) {
+                out.add(new MaterialCount(all[i], materialItems[i],
+                        materialAmount[i]));
+            }
+        }
+        out.sort(MOST_FIRST);
+        return out.size() > limit ? out.subList(0, limit) : out;
+    }
+
+    /** @return distinct materials that would be removed */
+    public int materialCount() {
+        int n = 0;
+        for (int items : materialItems) {
+            if (items > 0) n++;
+        }
+        return n;
+    }
+
+    /** @return mean time of a stage per run */
+    public long stageAverage(Stage stage) {
+        return runs == 0 ? 0L : stageNanos[stage.ordinal()] / runs;
+    }
+
+    public long average() {
+        if (runs == 0) return 0L;
+        long total = 0L;
+        for (int i = 0; i < runs; i++) total += runNanos[i];
+        return total / runs;
+    }
+
+    /**
+     * Nearest-rank percentile of run durations.
+     *
+     * @param p percentile, 0–100
+     */
+    public long percentile(double p) {
+        if (runs == 0) return 0L;
+        long[] sorted = Arrays.copyOf(runNanos, runs);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(p / 100.0 * runs);
+        return sorted[Math.max(0, Math.min(runs, rank) - 1)];
+    }
+}
@@ -0,0 +1,284 @@
+package me.xiannn.addons.modules.cleanup;
+
+import io.papermc.paper.datacomponent.DataComponentTypes;
+import io.papermc.paper.datacomponent.item.CustomModelData;
+import io.papermc.paper.datacomponent.item.ItemEnchantments;
+import io.papermc.paper.datacomponent.item.ItemLore;
+import io.papermc.paper.persistence.PersistentDataContainerView;
+import me.xiannn.addons.AddonLogger;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.inventory.ItemRarity;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Whitelist compiled into a chain of rules, cheapest first.
+ * <p>
+ * Every check reads the stack's data components directly; item
+ * meta is never built or cloned. A rule that is not configured is
+ * not in the chain at all.
+ *
+ * <h3>Chain order</h3>
+ * <pre>
+ *   1. material          EnumSet lookup
+ *   2. thrown-by-player  entity field, no stack access
+ *   3. named             custom_name present
+ *   4. enchanted         enchantments component non-empty
+ *   5. rarity            EnumSet of ItemRarity
+ *   6. custom-model-data float / string match
+ *   7. pdc-keys          PDC view, key presence
+ *   8. lore-patterns     lore → plain text → regex (last: allocates)
+ * </pre>
+ */
+public final class WhitelistRules {
+
+    /** One compiled check. */
+    @FunctionalInterface
+    interface Check {
+        boolean test(ItemStack stack, UUID thrower);
+    }
+
+    /** A named rule in the chain. */
+    public record Rule(String name, String detail, Check check) {
+
+        boolean matches(ItemStack stack, UUID thrower) {
+            return check.test(stack, thrower);
+        }
+    }
+
+    /** Outcome of one rule for {@link #explain}. */
+    public record Verdict(Rule rule, boolean matched) { }
+
+    private final Rule[] chain;
+
+    private WhitelistRules(List<Rule> chain) {
+        this.chain = chain.toArray(new Rule[0]);
+    }
+
+    /**
+     * @param thrower the item entity's thrower, or null
+     * @return true if any rule preserves the item
+     */
+    public boolean test(ItemStack stack, UUID thrower) {
+        return match(stack, thrower) != null;
+    }
+
+    /**
+     * @return the first matching rule, or null
+     */
+    public Rule match(ItemStack stack, UUID thrower) {
+        if (stack == null) return null;
+        for (Rule rule : chain) {
+            if (rule.matches(stack, thrower)) return rule;
+        }
+        return null;
+    }
+
+    /**
+     * Runs every rule (no short-circuit) for diagnostics.
+     */
+    public List<Verdict> explain(ItemStack stack, UUID thrower) {
+        List<Verdict> out = new ArrayList<>(chain.length);
+        for (Rule rule : chain) {
+            out.add(new Verdict(rule,
+                    stack != null && rule.matches(stack, thrower)));
+        }
+        return out;
+    }
+
+    public int ruleCount() {
+        return chain.length;
+    }
+
+    /** @return the compiled chain, in evaluation order */
+    public List<Rule> rules() {
+        return List.of(chain);
+    }
+
+    /* ================================================================== */
+    /*  Compilation                                                         */
+    /* ================================================================== */
+
+    /**
+     * Compiles the {@code whitelist} config section.
+     *
+     * @param sec       the {@code whitelist} section (may be null)
+     * @param materials whitelisted materials (edited by command, so
+     *                  passed in rather than read from {@code sec})
+     */
+    public static WhitelistRules compile(ConfigurationSection sec,
+                                         Collection<Material> materials,
+                                         AddonLogger log) {
+        List<Rule> chain = new ArrayList<>();
+
+        // 1. Material
+        if (!materials.isEmpty()) {
+            EnumSet<Material> mats = EnumSet.copyOf(materials);
+            chain.add(new Rule("material", mats.size() + " material(s)",
+                    (stack, thrower) -> mats.contains(stack.getType())));
+        }
+
+        if (sec == null) return new WhitelistRules(chain);
+
+        // 2. Thrown by a player
+        if (sec.getBoolean("preserve-thrown-by-player", false)) {
+            chain.add(new Rule("thrown-by-player", "thrower set",
+                    (stack, thrower) -> thrower != null));
+        }
+
+        // 3. Named
+        if (sec.getBoolean("preserve-named", true)) {
+            chain.add(new Rule("named", "custom name",
+                    (stack, thrower) -> stack.hasData(
+                            DataComponentTypes.CUSTOM_NAME)));
+        }
+
+        // 4. Enchanted
+        if (sec.getBoolean("preserve-enchanted", true)) {
+            chain.add(new Rule("enchanted", "any enchantment",
+                    (stack, thrower) -> {
+                        ItemEnchantments ench = stack.getData(
+                                DataComponentTypes.ENCHANTMENTS);
+                        return ench != null
+                                && !ench.enchantments().isEmpty();
+                    }));
+        }
+
+        // 5. Rarity
+        EnumSet<ItemRarity> rarities = EnumSet.noneOf(ItemRarity.class);
+        for (String name : sec.getStringList("rarities")) {
+            try {
+                rarities.add(ItemRarity.valueOf(
+                        name.toUpperCase().trim()));
+            } catch (IllegalArgumentException e) {
+                log.warn("whitelist.rarities: unknown rarity " + name);
+            }
+        }
+        if (!rarities.isEmpty()) {
+            chain.add(new Rule("rarity", rarities.toString(),
+                    (stack, thrower) -> rarities.contains(
+                            stack.getData(DataComponentTypes.RARITY))));
+        }
+
+        // 6. Custom model data
+        List<String> cmdRaw = sec.getStringList("custom-model-data");
+        if (!cmdRaw.isEmpty()) {
+            chain.add(compileModelData(cmdRaw));
+        }
+
+        // 7. PDC keys
+        List<NamespacedKey> keys = new ArrayList<>();
+        for (String raw : sec.getStringList("pdc-keys")) {
+            NamespacedKey key = NamespacedKey.fromString(
+                    raw.toLowerCase().trim());
+            if (key == null) {
+                log.warn("whitelist.pdc-keys: invalid key " + raw);
+            } else {
+                keys.add(key);
+            }
+        }
+        if (!keys.isEmpty()) {
+            NamespacedKey[] arr = keys.toArray(new NamespacedKey[0]);
+            chain.add(new Rule("pdc-key", keys.toString(),
+                    (stack, thrower) -> {
+                        if (!stack.hasItemMeta()) return false;
+                        PersistentDataContainerView pdc =
+                                stack.getPersistentDataContainer();
+                        for (NamespacedKey key : arr) {
+                            if (pdc.has(key)) return true;
+                        }
+                        return false;
+                    }));
+        }
+
+        // 8. Lore patterns
+        List<Pattern> patterns = new ArrayList<>();
+        for (String raw : sec.getStringList("lore-patterns")) {
+            try {
+                patterns.add(Pattern.compile(raw));
+            } catch (PatternSyntaxException e) {
+                log.warn("whitelist.lore-patterns: bad regex "
+                        + raw + " (" + e.getDescription() + ")");
+            }
+        }
+        if (!patterns.isEmpty()) {
+            Pattern[] arr = patterns.toArray(new Pattern[0]);
+            chain.add(new Rule("lore", arr.length + " pattern(s)",
+                    (stack, thrower) -> loreMatches(stack, arr)));
+        }
+
+        return new WhitelistRules(chain);
+    }
+
+    /**
+     * Values are matched against the first float of the component
+     * (the classic integer model id) or any of its strings;
+     * {@code "*"} matches any item carrying custom model data.
+     */
+    private static Rule compileModelData(List<String> raw) {
+        boolean any = false;
+        Set<Float>  floats  = new HashSet<>();
+        Set<String> strings = new HashSet<>();
+
+        for (String value : raw) {
+            String v = value.trim();
+            if (v.equals("*")) {
+                any = true;
+                continue;
+            }
+            try {
+                floats.add(Float.parseFloat(v));
+            } catch (NumberFormatException e) {
+                strings.add(v);
+            }
+        }
+
+        boolean matchAny = any;
+        return new Rule("custom-model-data",
+                matchAny ? "any" : raw.toString(),
+                (stack, thrower) -> {
+                    CustomModelData cmd = stack.getData(
+                            DataComponentTypes.CUSTOM_MODEL_DATA);
+                    if (cmd == null) return false;
+                    if (matchAny) return true;
+
+                    List<Float> fs = cmd.floats();
+                    if (!fs.isEmpty() && floats.contains(fs.get(0))) {
+                        return true;
+                    }
+                    for (String s : cmd.strings()) {
+                        if (strings.contains(s)) return true;
+                    }
+                    return false;
+                });
+    }
+
+    private static boolean loreMatches(ItemStack stack,
+                                       Pattern[] patterns) {
+        ItemLore lore = stack.getData(DataComponentTypes.LORE);
+        if (lore == null) return false;
+
+        PlainTextComponentSerializer plain =
+                PlainTextComponentSerializer.plainText();
+        for (Component line : lore.lines()) {
+            String text = plain.serialize(line);
+            for (Pattern pattern : patterns) {
+                if (pattern.matcher(text).find()) return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,142 @@
+package me.xiannn.addons.modules.cleanup;
+
+import me.xiannn.addons.AddonLogger;
+import net.kyori.adventure.bossbar.BossBar;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * An independent cleanup cycle for one world, separate from the
+ * global countdown.
+ * <p>
+ * Holds the world's own interval, display thresholds and optional
+ * whitelist override, plus the live countdown and boss bar state.
+ * Display output for the schedule only reaches players in its world.
+ *
+ * <h3>Config ({@code schedules.worlds.<world>})</h3>
+ * <pre>
+ *   interval            seconds between sweeps of this world
+ *   bossbar-show-at     boss bar window     (default: global)
+ *   actionbar-show-at   action bar window   (default: global)
+ *   countdown-times     chat warning times  (default: global)
+ *   whitelist           full whitelist section replacing the
+ *                       global one for this world (optional)
+ * </pre>
+ */
+public final class WorldSchedule {
+
+    private final String              world;
+    private final int                 intervalSeconds;
+    private final int                 bossbarShowAt;
+    private final int                 actionbarShowAt;
+    private final List<Integer>       countdownTimes;
+    private final ConfigurationSection whitelistSection;
+
+    /* ── Pre-rendered display, built by the module ── */
+    private final CountdownFrames bossbarFrames   = new CountdownFrames();
+    private final CountdownFrames actionbarFrames = new CountdownFrames();
+    private final CountdownFrames chatFrames      = new CountdownFrames();
+
+    /* ── Live state ── */
+    private int countdown;
+    private BossBar bossBar;
+    private final Set<UUID> viewers = new HashSet<>();
+    private boolean showing = false;
+
+    private WorldSchedule(String world, int intervalSeconds,
+                          int bossbarShowAt, int actionbarShowAt,
+                          List<Integer> countdownTimes,
+                          ConfigurationSection whitelistSection) {
+        this.world            = world;
+        this.intervalSeconds  = intervalSeconds;
+        this.bossbarShowAt    = bossbarShowAt;
+        this.actionbarShowAt  = actionbarShowAt;
+        this.countdownTimes   = countdownTimes;
+        this.whitelistSection = whitelistSection;
+        this.countdown        = intervalSeconds;
+    }
+
+    /**
+     * Reads {@code schedules.worlds}. Unset display fields fall back
+     * to the global values passed in.
+     */
+    public static List<WorldSchedule> load(ConfigurationSection sec,
+                                           int bossbarShowAt,
+                                           int actionbarShowAt,
+                                           List<Integer> countdownTimes,
+                                           AddonLogger log) {
+        List<WorldSchedule> out = new ArrayList<>();
+        if (sec == null) return out;
+
+        for (String world : sec.getKeys(false)) {
+            ConfigurationSection ws = sec.getConfigurationSection(world);
+            if (ws == null) continue;
+
+            if (!ws.contains("interval")) {
+                log.warn("schedules.worlds." + world
+                        + ": missing interval, skipped.");
+                continue;
+            }
+
+            List<Integer> times = ws.contains("countdown-times")
+                    ? new ArrayList<>(ws.getIntegerList("countdown-times"))
+                    : new ArrayList<>(countdownTimes);
+            times.sort(Collections.reverseOrder());
+
+            out.add(new WorldSchedule(world,
+                    Math.max(30, ws.getInt("interval")),
+                    ws.getInt("bossbar-show-at", bossbarShowAt),
+                    ws.getInt("actionbar-show-at", actionbarShowAt),
+                    times,
+                    ws.getConfigurationSection("whitelist")));
+        }
+        return out;
+    }
+
+    /* ================================================================== */
+    /*  Countdown                                                           */
+    /* ================================================================== */
+
+    /** @return seconds left after this tick */
+    public int tick() {
+        return --countdown;
+    }
+
+    public int  getCountdown()          { return countdown; }
+    public void setCountdown(int value) { countdown = value; }
+
+    /* ================================================================== */
+    /*  Boss bar                                                            */
+    /* ================================================================== */
+
+    public BossBar   getBossBar()          { return bossBar; }
+    public void      setBossBar(BossBar b) { bossBar = b; }
+    public Set<UUID> getViewers()          { return viewers; }
+    public boolean   isShowing()           { return showing; }
+    public void      setShowing(boolean s) { showing = s; }
+
+    /* ================================================================== */
+    /*  Accessors                                                           */
+    /* ================================================================== */
+
+    public String        getWorld()            { return world; }
+    public int           getIntervalSeconds()  { return intervalSeconds; }
+    public int           getBossbarShowAt()    { return bossbarShowAt; }
+    public int           getActionbarShowAt()  { return actionbarShowAt; }
+    public List<Integer> getCountdownTimes()   { return countdownTimes; }
+
+    public CountdownFrames getBossbarFrames()   { return bossbarFrames; }
+    public CountdownFrames getActionbarFrames() { return actionbarFrames; }
+    public CountdownFrames getChatFrames()      { return chatFrames; }
+
+    /** @return the override section, or null to use the global one */
+    public ConfigurationSection getWhitelistSection() {
+        return whitelistSection;
+    }
+}
@@ -0,0 +1,144 @@
+package me.xiannn.addons.modules.cleanup.event;
+
+import me.xiannn.addons.modules.cleanup.GroundItemIndex;
+import org.bukkit.entity.Item;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * The items a cleanup sweep is about to visit, flattened into one
+ * array and grouped by chunk.
+ * <p>
+ * Listeners veto by index; a veto is one bit, so filtering tens of
+ * thousands of candidates allocates nothing. Whole chunks can be
+ * vetoed at once, which suits claim plugins that decide per chunk.
+ *
+ * <pre>
+ *   items:  [ c0 c0 c0 | c1 | c2 c2 | ... ]
+ *   ends:   [    3       4     6   ...  ]   chunk c covers
+ *                                          [start(c), end(c))
+ * </pre>
+ * Whitelist, zones and other rules are still applied when the sweep
+ * reaches an item; vetoing only adds protection.
+ */
+public final class CleanupCandidates {
+
+    private final Item[] items;
+    private final int[]  ends;
+    private final UUID[] worlds;
+    private final long[] keys;
+    private final BitSet vetoed;
+
+    private CleanupCandidates(Item[] items, int[] ends, UUID[] worlds,
+                              long[] keys) {
+        this.items  = items;
+        this.ends   = ends;
+        this.worlds = worlds;
+        this.keys   = keys;
+        this.vetoed = new BitSet(items.length);
+    }
+
+    /**
+     * Flattens a sweep snapshot; chunk {@code c} is
+     * {@code buckets.get(c)}.
+     */
+    public static CleanupCandidates of(
+            List<GroundItemIndex.ChunkBucket> buckets) {
+        int total = 0;
+        for (GroundItemIndex.ChunkBucket bucket : buckets) {
+            total += bucket.size();
+        }
+
+        Item[] items  = new Item[total];
+        int[]  ends   = new int[buckets.size()];
+        UUID[] worlds = new UUID[buckets.size()];
+        long[] keys   = new long[buckets.size()];
+
+        int n = 0;
+        for (int c = 0; c < ends.length; c++) {
+            GroundItemIndex.ChunkBucket bucket = buckets.get(c);
+            for (Item item : bucket.items()) {
+                items[n++] = item;
+            }
+            ends[c]   = n;
+            worlds[c] = bucket.getWorldId();
+            keys[c]   = bucket.getChunkKey();
+        }
+        return new CleanupCandidates(items, ends, worlds, keys);
+    }
+
+    /* ================================================================== */
+    /*  Items                                                               */
+    /* ================================================================== */
+
+    /** @return number of candidate items */
+    public int size() {
+        return items.length;
+    }
+
+    public Item get(int index) {
+        return items[index];
+    }
+
+    /** Keeps the item at {@code index}. */
+    public void veto(int index) {
+        vetoed.set(index);
+    }
+
+    public boolean isVetoed(int index) {
+        return vetoed.get(index);
+    }
+
+    /**
+     * Vetoes every not-yet-vetoed candidate matching the filter.
+     *
+     * @return number of items newly vetoed
+     */
+    public int vetoIf(Predicate<? super Item> filter) {
+        int count = 0;
+        for (int i = vetoed.nextClearBit(0); i < items.length;
+             i = vetoed.nextClearBit(i + 1)) {
+            if (filter.test(items[i])) {
+                vetoed.set(i);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /** @return number of vetoed items */
+    public int vetoedCount() {
+        return vetoed.cardinality();
+    }
+
+    /* ================================================================== */
+    /*  Chunks                                                              */
+    /* ================================================================== */
+
+    /** @return number of chunks with candidates */
+    public int chunkCount() {
+        return ends.length;
+    }
+
+    /** @return first item index of chunk {@code c} */
+    public int chunkStart(int c) {
+        return c == 0 ? 0 : ends[c - 1];
+    }
+
+    /** @return one past the last item index of chunk {@code c} */
+    public int chunkEnd(int c) {
+        return ends[c];
+    }
+
+    public UUID chunkWorldId(int c) { return worlds[c]; }
+    public int  chunkX(int c)       { return GroundItemIndex.chunkX(keys[c]); }
+    public int  chunkZ(int c)       { return GroundItemIndex.chunkZ(keys[c]); }
+
+    /** Keeps every item in chunk {@code c}. */
+    public void vetoChunk(int c) {
+        vetoed.set(chunkStart(c), chunkEnd(c));
+    }
+}
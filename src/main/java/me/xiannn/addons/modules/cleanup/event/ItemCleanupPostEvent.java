@@ -0,0 +1,60 @@
+package me.xiannn.addons.modules.cleanup.event;
+
+import me.xiannn.addons.modules.cleanup.CleanupHistory;
+import org.bukkit.entity.EntityType;
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+/**
+ * Fired once after each ItemCleanup sweep completes, with the same
+ * record that goes into the cleanup history.
+ */
+public final class ItemCleanupPostEvent extends Event {
+
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    private final CleanupHistory.Record    record;
+    private final Map<EntityType, Integer> removedByType;
+    private final int                      vetoed;
+
+    public ItemCleanupPostEvent(CleanupHistory.Record record,
+                                Map<EntityType, Integer> removedByType,
+                                int vetoed) {
+        this.record        = record;
+        this.removedByType = removedByType;
+        this.vetoed        = vetoed;
+    }
+
+    /**
+     * @return counts, timings, per-world totals and hotspot chunks
+     */
+    public CleanupHistory.Record getRecord() {
+        return record;
+    }
+
+    public int getRemoved()   { return record.removed(); }
+    public int getPreserved() { return record.preserved(); }
+    public boolean isForced() { return record.forced(); }
+
+    /** @return items kept by {@link ItemCleanupPreEvent} vetoes */
+    public int getVetoed() {
+        return vetoed;
+    }
+
+    /** @return non-item entities removed, by type */
+    public Map<EntityType, Integer> getRemovedByType() {
+        return removedByType;
+    }
+
+    @Override
+    public @NotNull HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+}
@@ -0,0 +1,65 @@
+package me.xiannn.addons.modules.cleanup.event;
+
+import org.bukkit.event.Cancellable;
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Fired once before each ItemCleanup sweep, after the ground items
+ * have been snapshotted.
+ * <p>
+ * Listeners filter {@link #getCandidates()} in bulk (veto items or
+ * whole chunks) or cancel the sweep outright. There is one dispatch
+ * per sweep regardless of item count. When nothing listens, the
+ * candidate array is never built.
+ */
+public final class ItemCleanupPreEvent extends Event
+        implements Cancellable {
+
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    private final CleanupCandidates candidates;
+    private final boolean           forced;
+    private boolean cancelled = false;
+
+    public ItemCleanupPreEvent(CleanupCandidates candidates,
+                               boolean forced) {
+        this.candidates = candidates;
+        this.forced     = forced;
+    }
+
+    /** @return the mutable candidate collection */
+    public CleanupCandidates getCandidates() {
+        return candidates;
+    }
+
+    /** @return true if started by {@code /cleanup now} */
+    public boolean isForced() {
+        return forced;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public void setCancelled(boolean cancel) {
+        this.cancelled = cancel;
+    }
+
+    /** @return true if any plugin listens for this event */
+    public static boolean hasListeners() {
+        return HANDLERS.getRegisteredListeners().length > 0;
+    }
+
+    @Override
+    public @NotNull HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+}
@@ -0,0 +1,224 @@
+package me.xiannn.addons.modules.reminder;
+
+import me.xiannn.addons.AddonLogger;
+import me.xiannn.addons.modules.staff.util.TimeUtil;
+import org.bukkit.Statistic;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+/**
+ * Audience conditions from tip files, compiled into numbered
+ * segments.
+ * <p>
+ * Each distinct {@code audience} section becomes one segment with a
+ * compiled predicate; tips with identical conditions share it. A
+ * player's membership in every segment is worked out once — on
+ * join, world change or permission change — and kept as a
+ * {@code long[]} bitset, so a broadcast only tests one bit per
+ * player.
+ *
+ * <h3>Conditions (all must hold)</h3>
+ * <pre>
+ *   worlds:         [world, world_nether]   any of
+ *   permission:     group.vip               any of (string or list)
+ *   not-permission: group.staff             none of
+ *   min-playtime:   10h                     at least this played
+ *   max-playtime:   2h                      at most this played
+ *   new-players:    true                    max-playtime = the
+ *                                           configured new-player time
+ * </pre>
+ * Playtime changes while a player is online, so segments that use it
+ * are flagged as timed and re-checked on their own schedule.
+ */
+public final class AudienceSegments {
+
+    /** Tips without conditions reach everyone. */
+    public static final int EVERYONE = -1;
+
+    private record Segment(Predicate<Player> test, boolean timed) { }
+
+    private final List<Segment> segments = new ArrayList<>();
+    private final Map<String, Integer> byKey = new HashMap<>();
+    private long newPlayerMinutes = 60;
+
+    /** Drops all segments before tips are reloaded. */
+    public void clear(long newPlayerMinutes) {
+        segments.clear();
+        byKey.clear();
+        this.newPlayerMinutes = newPlayerMinutes;
+    }
+
+    /**
+     * Compiles a tip's {@code audience} section.
+     *
+     * @return the segment id, or {@link #EVERYONE}
+     */
+    public int compile(ConfigurationSection sec, String source,
+                       AddonLogger log) {
+        if (sec == null) return EVERYONE;
+
+        List<Predicate<Player>> tests = new ArrayList<>();
+        StringBuilder key = new StringBuilder();
+        boolean timed = false;
+
+        Set<String> worlds = lowerSet(sec.getStringList("worlds"));
+        if (!worlds.isEmpty()) {
+            tests.add(p -> worlds.contains(
+                    p.getWorld().getName().toLowerCase(Locale.ROOT)));
+            key.append("w").append(worlds);
+        }
+
+        List<String> perms = stringOrList(sec, "permission");
+        if (!perms.isEmpty()) {
+            tests.add(p -> {
+                for (String perm : perms) {
+                    if (p.hasPermission(perm)) return true;
+                }
+                return false;
+            });
+            key.append("p").append(new TreeSet<>(perms));
+        }
+
+        List<String> notPerms = stringOrList(sec, "not-permission");
+        if (!notPerms.isEmpty()) {
+            tests.add(p -> {
+                for (String perm : notPerms) {
+                    if (p.hasPermission(perm)) return false;
+                }
+                return true;
+            });
+            key.append("n").append(new TreeSet<>(notPerms));
+        }
+
+        long min = minutes(sec.getString("min-playtime"));
+        long max = sec.getBoolean("new-players", false)
+                ? newPlayerMinutes
+                : minutes(sec.getString("max-playtime"));
+        if (min > 0 || max > 0) {
+            tests.add(p -> {
+                long played = playedMinutes(p);
+                return played >= min && (max <= 0 || played <= max);
+            });
+            key.append("t").append(min).append('-').append(max);
+            timed = true;
+        }
+
+        if (tests.isEmpty()) {
+            log.warn(source + ": audience has no known conditions "
+                    + "— sent to everyone.");
+            return EVERYONE;
+        }
+
+        String canonical = key.toString();
+        Integer existing = byKey.get(canonical);
+        if (existing != null) return existing;
+
+        Predicate<Player> all = tests.size() == 1 ? tests.get(0)
+                : p -> {
+                    for (Predicate<Player> t : tests) {
+                        if (!t.test(p)) return false;
+                    }
+                    return true;
+                };
+
+        int id = segments.size();
+        segments.add(new Segment(all, timed));
+        byKey.put(canonical, id);
+        return id;
+    }
+
+    /* ================================================================== */
+    /*  Membership                                                          */
+    /* ================================================================== */
+
+    /** @return the player's membership in every segment */
+    public long[] evaluate(Player player) {
+        long[] bits = new long[(segments.size() + 63) >>> 6];
+        for (int i = 0; i < segments.size(); i++) {
+            if (segments.get(i).test().test(player)) {
+                bits[i >>> 6] |= 1L << i;
+            }
+        }
+        return bits;
+    }
+
+    /** Re-checks only timed (playtime) segments in place. */
+    public void refreshTimed(Player player, long[] bits) {
+        for (int i = 0; i < segments.size(); i++) {
+            Segment segment = segments.get(i);
+            if (!segment.timed()) continue;
+
+            if (segment.test().test(player)) {
+                bits[i >>> 6] |= 1L << i;
+            } else {
+                bits[i >>> 6] &= ~(1L << i);
+            }
+        }
+    }
+
+    /**
+     * @return true if {@code segment} is {@link #EVERYONE} or its bit
+     *         is set
+     */
+    public static boolean contains(long[] bits, int segment) {
+        if (segment == EVERYONE) return true;
+        int word = segment >>> 6;
+        return bits != null && word < bits.length
+                && (bits[word] & (1L << segment)) != 0;
+    }
+
+    public boolean hasTimed() {
+        for (Segment segment : segments) {
+            if (segment.timed()) return true;
+        }
+        return false;
+    }
+
+    public int size() {
+        return segments.size();
+    }
+
+    /* ================================================================== */
+    /*  Parsing                                                             */
+    /* ================================================================== */
+
+    private static long playedMinutes(Player player) {
+        // PLAY_ONE_MINUTE is counted in ticks
+        return player.getStatistic(Statistic.PLAY_ONE_MINUTE) / 1200L;
+    }
+
+    /** "90" (minutes), "30m", "2h", "1d12h" → minutes; 0 if unset. */
+    public static long minutes(String raw) {
+        if (raw == null || raw.isBlank()) return 0;
+        try {
+            return Math.max(0, Long.parseLong(raw.trim()));
+        } catch (NumberFormatException e) {
+            return TimeUtil.parseDuration(raw) / 60_000L;
+        }
+    }
+
+    private static List<String> stringOrList(ConfigurationSection sec,
+                                             String path) {
+        if (sec.isList(path)) return sec.getStringList(path);
+        String single = sec.getString(path);
+        return single == null || single.isBlank()
+                ? List.of() : List.of(single);
+    }
+
+    private static Set<String> lowerSet(List<String> values) {
+        Set<String> out = new TreeSet<>();
+        for (String value : values) {
+            out.add(value.toLowerCase(Locale.ROOT));
+        }
+        return out;
+    }
+}
@@ -0,0 +1,364 @@
+package me.xiannn.addons.modules.reminder;
+
+import me.xiannn.addons.AddonLogger;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Which tips each player has already been sent, so a broadcast can
+ * give every player a tip they have not seen yet.
+ * <p>
+ * Online players hold a {@code long[]} bitmap indexed by tip
+ * position; picking is a few word operations against the mask of
+ * tips the player may receive. Once a player has seen all of those,
+ * their bits for them are cleared and a new cycle begins.
+ * <p>
+ * Only online players are kept in memory. Each player's seen tips
+ * are stored by file name in {@code seen/<uuid>.txt} (one per line,
+ * so saved state survives tips being added or re-sorted), read on
+ * join and written on quit and autosave. All file access runs on a
+ * single I/O thread, so a quit's save is always on disk before a
+ * quick rejoin reads it back. After a reload the new thread waits
+ * for the old one to drain before its first read, for the same
+ * reason.
+ */
+public final class SeenTips {
+
+    private final Plugin      plugin;
+    private final AddonLogger log;
+    private final File        folder;
+
+    /* ── Tips, by position ── */
+    private List<String> ids = List.of();
+    private final Map<String, Integer> positions = new HashMap<>();
+
+    /* ── Main-thread state ── */
+    private final Map<UUID, long[]> seen = new HashMap<>();
+    private final Map<UUID, Object> loading = new HashMap<>();
+    private final Set<UUID> dirty = new HashSet<>();
+
+    private ExecutorService io;
+
+    /** A stopped writer that may still be finishing its queue. */
+    private ExecutorService retired;
+
+    public SeenTips(Plugin plugin, AddonLogger log, File folder) {
+        this.plugin = plugin;
+        this.log    = log;
+        this.folder = folder;
+    }
+
+    /* ================================================================== */
+    /*  Lifecycle                                                           */
+    /* ================================================================== */
+
+    public void start() {
+        if (io != null) return;
+
+        ExecutorService previous = retired;
+        retired = null;
+        io = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "XiannnAddons-SeenTips");
+            t.setDaemon(true);
+            return t;
+        });
+        if (previous != null) io.execute(() -> awaitRetired(previous));
+    }
+
+    /**
+     * Queues every unsaved bitmap and stops the I/O thread. On a
+     * reload the writes drain in the background — the main thread
+     * only waits when the server itself is stopping.
+     */
+    public void stop() {
+        if (io == null) return;
+
+        saveDirty();
+        io.shutdown();
+        if (Bukkit.isStopping()) {
+            try {
+                if (!io.awaitTermination(5, TimeUnit.SECONDS)) {
+                    log.warn("Seen-tips writer did not finish in time; "
+                            + "some players may see tips again.");
+                    io.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                io.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        } else {
+            retired = io;
+        }
+        io = null;
+
+        seen.clear();
+        loading.clear();
+        dirty.clear();
+    }
+
+    /**
+     * Replaces the tip list, moving loaded bitmaps to the new
+     * positions by name. Tips that are gone drop out.
+     */
+    public void setTips(List<String> ids) {
+        List<String> previous = this.ids;
+        this.ids = List.copyOf(ids);
+        positions.clear();
+        for (int i = 0; i < ids.size(); i++) positions.put(ids.get(i), i);
+
+        for (Map.Entry<UUID, long[]> e : seen.entrySet()) {
+            e.setValue(toBits(toNames(e.getValue(), previous)));
+        }
+    }
+
+    /* ================================================================== */
+    /*  Players                                                             */
+    /* ================================================================== */
+
+    /**
+     * Reads a player's seen tips in the background. Until it lands
+     * the player simply gets the rotation's tip.
+     */
+    public void load(UUID uuid) {
+        if (io == null || seen.containsKey(uuid)
+                || loading.containsKey(uuid)) {
+            return;
+        }
+
+        // A quit and rejoin before the read lands must not install
+        // the first read, so each load carries its own token
+        Object token = new Object();
+        loading.put(uuid, token);
+
+        File file = file(uuid);
+        io.execute(() -> {
+            List<String> names = read(file);
+            sync(() -> {
+                if (loading.remove(uuid, token)) {
+                    seen.put(uuid, toBits(names));
+                }
+            });
+        });
+    }
+
+    /** Saves the player's bitmap if it changed, then forgets it. */
+    public void unload(UUID uuid) {
+        loading.remove(uuid);
+        long[] bits = seen.remove(uuid);
+        if (bits != null && dirty.remove(uuid)) {
+            write(uuid, toNames(bits, ids));
+        }
+    }
+
+    /** Saves and forgets every loaded player. */
+    public void unloadAll() {
+        saveDirty();
+        seen.clear();
+        loading.clear();
+    }
+
+    /** Queues a write for every bitmap changed since its last save. */
+    public void saveDirty() {
+        if (dirty.isEmpty()) return;
+
+        for (UUID uuid : dirty) {
+            long[] bits = seen.get(uuid);
+            if (bits != null) write(uuid, toNames(bits, ids));
+        }
+        log.debug("Seen tips: saving " + dirty.size() + " player(s).");
+        dirty.clear();
+    }
+
+    /* ================================================================== */
+    /*  Picking                                                             */
+    /* ================================================================== */
+
+    /**
+     * Picks the player's next tip — {@code preferred} if they have
+     * not seen it, otherwise the next unseen one after it — and
+     * marks it seen.
+     *
+     * @param allowed   tips the player may receive now, by bit
+     * @param preferred the rotation's pick
+     * @return a tip position, or -1 if {@code allowed} is empty
+     */
+    public int pick(UUID uuid, long[] allowed, int preferred) {
+        long[] bits = seen.get(uuid);
+        if (bits == null) {
+            // Not loaded yet — nothing to go on
+            return next(null, allowed, preferred);
+        }
+
+        int pick = next(bits, allowed, preferred);
+        if (pick < 0) {
+            // Everything allowed has been seen: new cycle
+            boolean any = false;
+            for (int w = 0; w < allowed.length; w++) {
+                if (allowed[w] == 0) continue;
+                any = true;
+                if (w < bits.length) bits[w] &= ~allowed[w];
+            }
+            if (!any) return -1;
+            pick = next(bits, allowed, preferred);
+        }
+
+        if (pick >>> 6 >= bits.length) {
+            bits = Arrays.copyOf(bits, (ids.size() + 63) >>> 6);
+            seen.put(uuid, bits);
+        }
+        bits[pick >>> 6] |= 1L << pick;
+        dirty.add(uuid);
+        return pick;
+    }
+
+    /**
+     * First allowed, unseen position at or after {@code from},
+     * wrapping around.
+     */
+    static int next(long[] bits, long[] allowed, int from) {
+        int words = allowed.length;
+        if (words == 0) return -1;
+
+        int start = Math.max(0, from) >>> 6;
+        if (start >= words) start = 0;
+        int w = start;
+        long candidates = unseen(bits, allowed, w) & (-1L << from);
+
+        // Start word from 'from' up, the other words, then the start
+        // word again in full for the positions before 'from'
+        for (int k = 0; k <= words; k++) {
+            if (candidates != 0) {
+                return (w << 6) + Long.numberOfTrailingZeros(candidates);
+            }
+            w = (w + 1) % words;
+            candidates = unseen(bits, allowed, w);
+        }
+        return -1;
+    }
+
+    private static long unseen(long[] bits, long[] allowed, int w) {
+        long seenWord = bits != null && w < bits.length ? bits[w] : 0L;
+        return allowed[w] & ~seenWord;
+    }
+
+    /* ================================================================== */
+    /*  Accessors                                                           */
+    /* ================================================================== */
+
+    /** @return tips the player has seen this cycle, or -1 if unloaded */
+    public int seenCount(UUID uuid) {
+        long[] bits = seen.get(uuid);
+        if (bits == null) return -1;
+        int n = 0;
+        for (long word : bits) n += Long.bitCount(word);
+        return n;
+    }
+
+    public int loadedCount() {
+        return seen.size();
+    }
+
+    /* ================================================================== */
+    /*  Storage                                                             */
+    /* ================================================================== */
+
+    private long[] toBits(List<String> names) {
+        long[] bits = new long[(ids.size() + 63) >>> 6];
+        for (String name : names) {
+            Integer i = positions.get(name);
+            if (i != null) bits[i >>> 6] |= 1L << i;
+        }
+        return bits;
+    }
+
+    private static List<String> toNames(long[] bits, List<String> ids) {
+        List<String> names = new ArrayList<>();
+        for (int w = 0; w < bits.length; w++) {
+            long word = bits[w];
+            while (word != 0) {
+                int i = (w << 6) + Long.numberOfTrailingZeros(word);
+                if (i < ids.size()) names.add(ids.get(i));
+                word &= word - 1;
+            }
+        }
+        return names;
+    }
+
+    private File file(UUID uuid) {
+        return new File(folder, uuid + ".txt");
+    }
+
+    /** I/O thread. */
+    private List<String> read(File file) {
+        if (!file.exists()) return List.of();
+        try {
+            return Files.readAllLines(file.toPath(),
+                    StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            log.warn("Could not read " + file.getName()
+                    + " — starting that player fresh.", e);
+            return List.of();
+        }
+    }
+
+    /** Snapshot taken on the main thread; written on the I/O thread. */
+    private void write(UUID uuid, List<String> names) {
+        if (io == null) return;
+
+        File file = file(uuid);
+        io.execute(() -> {
+            try {
+                if (names.isEmpty()) {
+                    Files.deleteIfExists(file.toPath());
+                    return;
+                }
+                if (!folder.exists()) {
+                    //noinspection ResultOfMethodCallIgnored
+                    folder.mkdirs();
+                }
+                File tmp = new File(folder, uuid + ".tmp");
+                Files.write(tmp.toPath(), names, StandardCharsets.UTF_8);
+                Files.move(tmp.toPath(), file.toPath(),
+                        StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                log.warn("Could not save " + file.getName(), e);
+            }
+        });
+    }
+
+    private void sync(Runnable task) {
+        if (plugin.isEnabled()) {
+            Bukkit.getScheduler().runTask(plugin, task);
+        }
+    }
+
+    /** I/O thread: waits for a stopped writer to drain. */
+    private void awaitRetired(ExecutorService previous) {
+        try {
+            if (!previous.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("Previous seen-tips writer still busy; "
+                        + "reading anyway.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
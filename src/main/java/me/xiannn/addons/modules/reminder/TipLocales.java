@@ -0,0 +1,160 @@
+package me.xiannn.addons.modules.reminder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Locales that tips are translated into, numbered so a tip's
+ * variants can sit in a list indexed by locale id.
+ * <p>
+ * Keys are normalized to lower case with underscores
+ * ({@code es_ES}, {@code es-es} → {@code es_es}). A player is mapped
+ * to an id once — on join and when their client changes language —
+ * trying their exact locale first, then any translated locale of the
+ * same language, so a {@code es_mx} client gets the {@code es_es}
+ * text rather than the default.
+ *
+ * <pre>
+ *   player locale → id      on join / locale change
+ *   tip × id      → lines   resolved at load, fallbacks included
+ * </pre>
+ */
+public final class TipLocales {
+
+    /** Players whose locale has no translation get the default. */
+    public static final int DEFAULT = -1;
+
+    private static final Pattern KEY =
+            Pattern.compile("[a-z]{2,3}(_[a-z0-9]{2,8})?");
+
+    /** ISO 639 codes, two- and three-letter. */
+    private static final Set<String> ISO_LANGUAGES = isoLanguages();
+
+    private final List<String> keys = new ArrayList<>();
+    private final Map<String, Integer> ids = new HashMap<>();
+    /** Language → first id of that language. */
+    private final Map<String, Integer> languages = new HashMap<>();
+
+    public void clear() {
+        keys.clear();
+        ids.clear();
+        languages.clear();
+    }
+
+    /**
+     * Registers a locale key.
+     *
+     * @return its id, or {@link #DEFAULT} if the key is not a locale
+     */
+    public int register(String raw) {
+        String key = normalize(raw);
+        if (key == null) return DEFAULT;
+
+        Integer id = ids.get(key);
+        if (id != null) return id;
+
+        id = keys.size();
+        keys.add(key);
+        ids.put(key, id);
+        languages.putIfAbsent(language(key), id);
+        return id;
+    }
+
+    /** @return the id for a player's locale, or {@link #DEFAULT} */
+    public int resolve(Locale locale) {
+        if (locale == null || keys.isEmpty()) return DEFAULT;
+
+        Integer id = ids.get(normalize(locale.toString()));
+        if (id != null) return id;
+
+        id = languages.get(locale.getLanguage().toLowerCase(Locale.ROOT));
+        return id != null ? id : DEFAULT;
+    }
+
+    /**
+     * Resolves one tip's variant for every locale: the exact
+     * translation, else one of the same language, else the default.
+     *
+     * @param variants this tip's translations by locale id
+     * @return lines for each locale id, in id order
+     */
+    public <T> List<T> resolveAll(Map<Integer, T> variants, T fallback) {
+        List<T> out = new ArrayList<>(keys.size());
+        for (int id = 0; id < keys.size(); id++) {
+            T exact = variants.get(id);
+            if (exact == null) {
+                String lang = language(keys.get(id));
+                for (Map.Entry<Integer, T> e : variants.entrySet()) {
+                    if (language(keys.get(e.getKey())).equals(lang)) {
+                        exact = e.getValue();
+                        break;
+                    }
+                }
+            }
+            out.add(exact != null ? exact : fallback);
+        }
+        return out;
+    }
+
+    /**
+     * @return true if the tip has text in this locale's language
+     *         (not just the default)
+     */
+    public boolean covers(Map<Integer, ?> variants, int id) {
+        if (variants.containsKey(id)) return true;
+        String lang = language(keys.get(id));
+        for (int other : variants.keySet()) {
+            if (language(keys.get(other)).equals(lang)) return true;
+        }
+        return false;
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    public String key(int id) {
+        return keys.get(id);
+    }
+
+    /** @return the lower-case key, or null if it isn't a locale */
+    public static String normalize(String raw) {
+        if (raw == null) return null;
+        String key = raw.trim().toLowerCase(Locale.ROOT).replace('-', '_');
+        return KEY.matcher(key).matches() ? key : null;
+    }
+
+    /**
+     * @return true if the key's language part is an ISO 639 code —
+     *         stricter than {@link #normalize}, for telling a
+     *         translation file from any other dotted name
+     */
+    public static boolean isIsoLanguage(String key) {
+        return ISO_LANGUAGES.contains(language(key));
+    }
+
+    private static Set<String> isoLanguages() {
+        Set<String> out = new HashSet<>();
+        for (String lang : Locale.getISOLanguages()) {
+            out.add(lang);
+            try {
+                out.add(Locale.of(lang).getISO3Language());
+            } catch (MissingResourceException ignored) {
+                // No three-letter code for this one
+            }
+        }
+        return out;
+    }
+
+    private static String language(String key) {
+        int underscore = key.indexOf('_');
+        return underscore < 0 ? key : key.substring(0, underscore);
+    }
+}
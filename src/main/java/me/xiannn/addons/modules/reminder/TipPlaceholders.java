@@ -0,0 +1,165 @@
+package me.xiannn.addons.modules.reminder;
+
+import me.xiannn.addons.AddonLogger;
+import me.xiannn.addons.modules.staff.util.TimeUtil;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.TextReplacementConfig;
+import org.bukkit.Bukkit;
+import org.bukkit.Statistic;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * {@code {slot}} placeholders in tips, filled in per recipient.
+ * <p>
+ * Tips are still parsed once at load; a {@code {slot}} survives the
+ * formatting pipeline as plain text. At send time only tips flagged
+ * as templates are touched: their pre-built lines go through one
+ * {@link TextReplacementConfig} that swaps each slot for its
+ * provider's value. Each provider runs at most once per recipient
+ * per tip, and the formatting pipeline never runs again.
+ *
+ * <h3>Built-in slots</h3>
+ * <pre>
+ *   {player}       name
+ *   {displayname}  display name, with its formatting
+ *   {world}        current world
+ *   {online}       players online
+ *   {playtime}     total playtime, e.g. "3d 4h"
+ * </pre>
+ * Other plugins and modules can add their own with
+ * {@link #register}. Slots with no provider are left as written, so
+ * a provider registered after tips load still works. A provider that
+ * throws leaves its slot as written too; the first failure of each
+ * slot is logged.
+ */
+public final class TipPlaceholders {
+
+    /** Supplies a slot's value for one recipient. */
+    @FunctionalInterface
+    public interface Provider {
+        ComponentLike value(Player player);
+    }
+
+    private static final Pattern SLOT =
+            Pattern.compile("\\{([A-Za-z0-9_-]+)}");
+
+    private final AddonLogger log;
+    private final Map<String, Provider> providers = new HashMap<>();
+    /** Slots whose provider has thrown, so it is logged once. */
+    private final Set<String> failed = new HashSet<>();
+
+    public TipPlaceholders(AddonLogger log) {
+        this.log = log;
+        register("player", p -> Component.text(p.getName()));
+        register("displayname", Player::displayName);
+        register("world", p -> Component.text(p.getWorld().getName()));
+        register("online", p -> Component.text(
+                Bukkit.getOnlinePlayers().size()));
+        register("playtime", p -> Component.text(TimeUtil.formatDuration(
+                // PLAY_ONE_MINUTE is counted in ticks
+                p.getStatistic(Statistic.PLAY_ONE_MINUTE) * 50L)));
+    }
+
+    /* ================================================================== */
+    /*  Providers                                                           */
+    /* ================================================================== */
+
+    /** Adds or replaces a slot. Names are case-insensitive. */
+    public void register(String slot, Provider provider) {
+        String key = slot.toLowerCase(Locale.ROOT);
+        providers.put(key, provider);
+        failed.remove(key);
+    }
+
+    public void unregister(String slot) {
+        String key = slot.toLowerCase(Locale.ROOT);
+        providers.remove(key);
+        failed.remove(key);
+    }
+
+    public Set<String> getSlots() {
+        return Collections.unmodifiableSet(new TreeSet<>(
+                providers.keySet()));
+    }
+
+    /* ================================================================== */
+    /*  Templates                                                           */
+    /* ================================================================== */
+
+    /**
+     * @return the slot names written in these raw lines, in order of
+     *         first use; empty if the tip is static
+     */
+    public static List<String> slotsIn(List<String> rawLines) {
+        List<String> slots = new ArrayList<>();
+        for (String line : rawLines) {
+            if (line == null || line.indexOf('{') < 0) continue;
+            Matcher m = SLOT.matcher(line);
+            while (m.find()) {
+                String slot = m.group(1).toLowerCase(Locale.ROOT);
+                if (!slots.contains(slot)) slots.add(slot);
+            }
+        }
+        return slots;
+    }
+
+    /** @return true if a provider exists for the slot */
+    public boolean isKnown(String slot) {
+        return providers.containsKey(slot);
+    }
+
+    /**
+     * Fills the slots in pre-built lines for one recipient.
+     */
+    public List<Component> render(List<Component> lines, Player player) {
+        Map<String, ComponentLike> values = new HashMap<>(4);
+        TextReplacementConfig fill = TextReplacementConfig.builder()
+                .match(SLOT)
+                .replacement((match, original) -> {
+                    String slot = match.group(1).toLowerCase(Locale.ROOT);
+                    ComponentLike value = values.get(slot);
+                    if (value == null) {
+                        Provider provider = providers.get(slot);
+                        if (provider == null) return original;
+                        value = value(slot, provider, player);
+                        if (value == null) return original;
+                        values.put(slot, value);
+                    }
+                    return value;
+                })
+                .build();
+
+        List<Component> out = new ArrayList<>(lines.size());
+        for (Component line : lines) {
+            out.add(line.replaceText(fill));
+        }
+        return out;
+    }
+
+    /** @return the provider's value, or null if it threw */
+    private ComponentLike value(String slot, Provider provider,
+                                Player player) {
+        try {
+            return provider.value(player);
+        } catch (RuntimeException e) {
+            if (failed.add(slot)) {
+                log.warn("Placeholder {" + slot + "} failed; leaving it "
+                        + "as written.", e);
+            }
+            return null;
+        }
+    }
+}
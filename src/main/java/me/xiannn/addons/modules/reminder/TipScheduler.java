@@ -0,0 +1,305 @@
+package me.xiannn.addons.modules.reminder;
+
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Decides which tip plays next.
+ *
+ * <h3>Orders</h3>
+ * <pre>
+ *   linear   file-name order, cursor carried across restarts
+ *   random   weighted random pick (may repeat)
+ *   shuffle  weighted shuffle bag — every tip is drawn 'weight'
+ *            times before any is drawn again
+ * </pre>
+ * Tips on cooldown are skipped in every order (left in the bag for
+ * shuffle). A cooldown is server-wide: it starts the first time a
+ * broadcast sends the tip to anyone — as the pick, or through
+ * {@link #markShown} as a player's unseen tip — and keeps it out of
+ * later broadcasts for everyone.
+ * <p>
+ * Tips are identified by file name rather than position, so saved
+ * state still lines up after tips are added, removed or re-sorted:
+ * unknown names are dropped, a cursor on a removed tip moves to the
+ * tip that now follows it in file-name order, and tips added by a
+ * reload join the current bag (tips added while the server was down
+ * join the next one).
+ *
+ * <h3>Saved state ({@code rotation.yml})</h3>
+ * <pre>
+ *   cursor:     tip_4.yml                 next linear tip
+ *   bag:        [tip_2.yml, tip_7.yml]    undrawn shuffle entries
+ *   last-shown: ["tip_1.yml 1700000000"] epoch seconds, cooldowns
+ * </pre>
+ */
+public final class TipScheduler {
+
+    public enum Order { LINEAR, RANDOM, SHUFFLE }
+
+    private final Random random = new Random();
+    /** The order tips are listed in, for placing a removed cursor. */
+    private final Comparator<String> naming;
+
+    private Order order = Order.LINEAR;
+
+    /* ── Tips, by position ── */
+    private List<String> ids = List.of();
+    private int[]  weights   = new int[0];
+    private long[] cooldowns = new long[0]; // seconds
+    private final Map<String, Integer> positions = new HashMap<>();
+
+    /* ── Rotation state ── */
+    private int cursor = 0;
+    private final List<Integer> bag = new ArrayList<>();
+    private final Map<String, Long> lastShown = new HashMap<>();
+    private int last = -1;
+    private boolean dirty = false;
+
+    /** @param naming the order {@link #setTips} lists tips in */
+    public TipScheduler(Comparator<String> naming) {
+        this.naming = naming;
+    }
+
+    public void setOrder(Order order) {
+        this.order = order;
+    }
+
+    /**
+     * Replaces the tip list, keeping rotation state for tips that
+     * are still present.
+     *
+     * @param cooldowns per-tip cooldown in seconds (0 = none)
+     */
+    public void setTips(List<String> ids, int[] weights,
+                        long[] cooldowns) {
+        String cursorId = cursor < this.ids.size()
+                ? this.ids.get(cursor) : null;
+        List<String> bagIds = new ArrayList<>(bag.size());
+        for (int i : bag) bagIds.add(this.ids.get(i));
+        String lastId = last >= 0 && last < this.ids.size()
+                ? this.ids.get(last) : null;
+        List<String> previous = this.ids;
+
+        this.ids = List.copyOf(ids);
+        this.weights = weights;
+        this.cooldowns = cooldowns;
+        positions.clear();
+        for (int i = 0; i < ids.size(); i++) positions.put(ids.get(i), i);
+
+        restore(cursorId, bagIds, lastId, previous);
+        lastShown.keySet().retainAll(positions.keySet());
+    }
+
+    /* ================================================================== */
+    /*  Picking                                                             */
+    /* ================================================================== */
+
+    /**
+     * Picks the next tip and records it as shown.
+     *
+     * @return the tip's position, or -1 if every tip is cooling down
+     */
+    public int next(long nowSeconds) {
+        if (ids.isEmpty()) return -1;
+
+        int pick = switch (order) {
+            case LINEAR  -> nextLinear(nowSeconds);
+            case RANDOM  -> nextWeighted(nowSeconds);
+            case SHUFFLE -> nextFromBag(nowSeconds);
+        };
+
+        if (pick >= 0) {
+            last = pick;
+            if (cooldowns[pick] > 0) {
+                lastShown.put(ids.get(pick), nowSeconds);
+            }
+            dirty = true;
+        }
+        return pick;
+    }
+
+    /**
+     * Starts a tip's cooldown without picking it, for a tip a
+     * broadcast sent in place of its pick.
+     */
+    public void markShown(int i, long nowSeconds) {
+        if (i < 0 || i >= ids.size() || cooldowns[i] <= 0) return;
+        lastShown.put(ids.get(i), nowSeconds);
+        dirty = true;
+    }
+
+    private int nextLinear(long now) {
+        for (int step = 0; step < ids.size(); step++) {
+            int i = cursor;
+            cursor = (cursor + 1) % ids.size();
+            if (!isCooling(i, now)) return i;
+        }
+        return -1;
+    }
+
+    private int nextWeighted(long now) {
+        long total = 0;
+        for (int i = 0; i < ids.size(); i++) {
+            if (!isCooling(i, now)) total += weights[i];
+        }
+        if (total == 0) return -1;
+
+        long roll = (long) (random.nextDouble() * total);
+        for (int i = 0; i < ids.size(); i++) {
+            if (isCooling(i, now)) continue;
+            roll -= weights[i];
+            if (roll < 0) return i;
+        }
+        return -1;
+    }
+
+    private int nextFromBag(long now) {
+        if (bag.isEmpty()) refillBag();
+
+        for (int k = 0; k < bag.size(); k++) {
+            int i = bag.get(k);
+            if (!isCooling(i, now)) {
+                bag.remove(k);
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Fills the bag with each tip 'weight' times, shuffled, never
+     * starting with the tip that was just shown.
+     */
+    private void refillBag() {
+        for (int i = 0; i < ids.size(); i++) {
+            for (int w = 0; w < weights[i]; w++) bag.add(i);
+        }
+        Collections.shuffle(bag, random);
+
+        if (bag.size() > 1 && bag.get(0) == last) {
+            for (int k = 1; k < bag.size(); k++) {
+                if (bag.get(k) != last) {
+                    Collections.swap(bag, 0, k);
+                    break;
+                }
+            }
+        }
+    }
+
+    /** @return a bit per tip that is not cooling down */
+    public long[] available(long nowSeconds) {
+        long[] bits = new long[(ids.size() + 63) >>> 6];
+        for (int i = 0; i < ids.size(); i++) {
+            if (!isCooling(i, nowSeconds)) bits[i >>> 6] |= 1L << i;
+        }
+        return bits;
+    }
+
+    private boolean isCooling(int i, long now) {
+        if (cooldowns[i] <= 0) return false;
+        Long shown = lastShown.get(ids.get(i));
+        return shown != null && now - shown < cooldowns[i];
+    }
+
+    /* ================================================================== */
+    /*  Persistence                                                         */
+    /* ================================================================== */
+
+    /**
+     * Reads state saved by {@link #save}. Call after
+     * {@link #setTips}.
+     */
+    public void load(YamlConfiguration cfg) {
+        // "name seconds" — file names contain dots, which YAML
+        // paths would split on
+        lastShown.clear();
+        for (String entry : cfg.getStringList("last-shown")) {
+            int space = entry.lastIndexOf(' ');
+            if (space <= 0) continue;
+            String id = entry.substring(0, space);
+            if (!positions.containsKey(id)) continue;
+            try {
+                lastShown.put(id,
+                        Long.parseLong(entry.substring(space + 1)));
+            } catch (NumberFormatException ignored) {
+                // Hand-edited; the tip is simply off cooldown
+            }
+        }
+
+        bag.clear();
+        restore(cfg.getString("cursor"), cfg.getStringList("bag"),
+                cfg.getString("last"), null);
+        dirty = false;
+    }
+
+    public void save(YamlConfiguration cfg) {
+        cfg.set("cursor", cursor < ids.size() ? ids.get(cursor) : null);
+        cfg.set("last", last >= 0 ? ids.get(last) : null);
+
+        List<String> bagIds = new ArrayList<>(bag.size());
+        for (int i : bag) bagIds.add(ids.get(i));
+        cfg.set("bag", bagIds);
+
+        List<String> shown = new ArrayList<>(lastShown.size());
+        for (Map.Entry<String, Long> e : lastShown.entrySet()) {
+            shown.add(e.getKey() + " " + e.getValue());
+        }
+        cfg.set("last-shown", shown);
+        dirty = false;
+    }
+
+    /**
+     * Maps saved names back onto current positions.
+     *
+     * @param previous tip names before a reload, or null
+     */
+    private void restore(String cursorId, List<String> bagIds,
+                         String lastId, List<String> previous) {
+        cursor = cursorId == null ? 0 : cursorAt(cursorId);
+
+        Integer l = lastId == null ? null : positions.get(lastId);
+        last = l != null ? l : -1;
+
+        bag.clear();
+        if (bagIds.isEmpty()) return;
+
+        // Remaining entries keep their order; tips added by the
+        // reload are mixed in so they are not held back a whole bag
+        for (String id : bagIds) {
+            Integer i = positions.get(id);
+            if (i != null) bag.add(i);
+        }
+        if (previous == null) return;
+        for (int i = 0; i < ids.size(); i++) {
+            if (previous.contains(ids.get(i))) continue;
+            for (int w = 0; w < weights[i]; w++) {
+                bag.add(random.nextInt(bag.size() + 1), i);
+            }
+        }
+    }
+
+    /**
+     * @return the tip's position, or if it is gone, the position of
+     *         the first tip listed after it (wrapping to 0)
+     */
+    private int cursorAt(String id) {
+        Integer i = positions.get(id);
+        if (i != null) return i;
+        for (int k = 0; k < ids.size(); k++) {
+            if (naming.compare(ids.get(k), id) > 0) return k;
+        }
+        return 0;
+    }
+
+    public boolean isDirty()   { return dirty; }
+    public Order   getOrder()  { return order; }
+    public int     bagSize()   { return bag.size(); }
+}
@@ -0,0 +1,87 @@
+package me.xiannn.addons.modules.cleanup;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveSchedulerTest {
+
+    private static final long MINUTE = 60_000L;
+
+    /** Defaults: 60–900 s, high growth 600/min, clean-items 200. */
+    private AdaptiveScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new AdaptiveScheduler();
+        scheduler.load(null);
+    }
+
+    @Test
+    void fastGrowthShortensTheInterval() {
+        evaluate(100, 0);
+        AdaptiveScheduler.Decision d = evaluate(1_000, 1);
+
+        assertEquals(900.0, scheduler.getGrowthPerMin(), 1e-9);
+        assertEquals(200, d.intervalSeconds()); // 300 × 600 / 900
+    }
+
+    @Test
+    void flatSampleDecaysGrowthInsteadOfWipingIt() {
+        evaluate(100, 0);
+        evaluate(1_000, 1);
+        AdaptiveScheduler.Decision d = evaluate(1_000, 2);
+
+        assertEquals(630.0, scheduler.getGrowthPerMin(), 1e-9);
+        assertTrue(d.reason().startsWith("items growing"), d.reason());
+    }
+
+    @Test
+    void sweepPullsGrowthDownWithoutResettingIt() {
+        evaluate(100, 0);
+        evaluate(1_000, 1);
+        evaluate(1_000, 2);
+        evaluate(0, 3);
+
+        // 0.3 × -1000 + 0.7 × 630
+        assertEquals(141.0, scheduler.getGrowthPerMin(), 1e-9);
+    }
+
+    @Test
+    void growthIsClampedAtZero() {
+        evaluate(1_000, 0);
+        evaluate(0, 1);
+
+        assertEquals(0.0, scheduler.getGrowthPerMin(), 0.0);
+    }
+
+    @Test
+    void sustainedQuietReachesTheIdleInterval() {
+        evaluate(0, 0);
+        evaluate(150, 1);
+
+        AdaptiveScheduler.Decision d = null;
+        for (int minute = 2; minute < 30; minute++) {
+            d = evaluate(150, minute);
+        }
+
+        assertTrue(scheduler.getGrowthPerMin() < 1.0);
+        assertEquals(900, d.intervalSeconds());
+        assertTrue(d.reason().startsWith("idle"), d.reason());
+    }
+
+    @Test
+    void pressureTriggersAnEarlyCleanup() {
+        AdaptiveScheduler.Decision d =
+                scheduler.evaluate(300, 5_000, 25.0, 20.0, 0L);
+
+        assertTrue(d.earlyCleanup());
+    }
+
+    private AdaptiveScheduler.Decision evaluate(int items, int minute) {
+        return scheduler.evaluate(300, items, 10.0, 20.0,
+                minute * MINUTE);
+    }
+}
@@ -0,0 +1,93 @@
+package me.xiannn.addons.modules.cleanup;
+
+import com.sun.management.ThreadMXBean;
+import net.kyori.adventure.text.Component;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class CountdownFramesTest {
+
+    @Test
+    void rendersOnlyIncludedSeconds() {
+        CountdownFrames frames = new CountdownFrames();
+        frames.build(60, s -> s % 10 == 0,
+                s -> Component.text(s + "s"));
+
+        assertEquals(6, frames.size());
+        assertNotNull(frames.get(30));
+        assertNull(frames.get(31));
+        assertNull(frames.get(0));
+        assertNull(frames.get(61));
+    }
+
+    @Test
+    void zeroMaxClearsTheCache() {
+        CountdownFrames frames = new CountdownFrames();
+        frames.build(10, s -> true, s -> Component.text(s));
+        frames.build(0, s -> true, s -> Component.text(s));
+
+        assertEquals(0, frames.size());
+        assertNull(frames.get(5));
+    }
+
+    @Test
+    void lookupReturnsTheSameComponent() {
+        CountdownFrames frames = new CountdownFrames();
+        frames.build(300, s -> true, s -> Component.text(s + "s"));
+
+        assertSame(frames.get(42), frames.get(42));
+    }
+
+    /**
+     * The per-second path (one lookup per display channel) must not
+     * allocate: a whole countdown's worth of lookups, many times
+     * over, stays under what a single allocation per call would
+     * cost.
+     * <p>
+     * Relies on the JVM's per-thread allocation counter and on the
+     * JIT, so it is tagged {@code allocation} and left out of the
+     * default run; run it with
+     * {@code mvn test -DexcludedGroups= -Dgroups=allocation}.
+     */
+    @Test
+    @Tag("allocation")
+    void perSecondLookupDoesNotAllocate() {
+        ThreadMXBean mx = (ThreadMXBean)
+                ManagementFactory.getThreadMXBean();
+        assumeTrue(mx.isThreadAllocatedMemorySupported(),
+                "thread allocation counter not supported");
+        mx.setThreadAllocatedMemoryEnabled(true);
+
+        CountdownFrames frames = new CountdownFrames();
+        frames.build(300, s -> true, s -> Component.text(s + "s"));
+
+        int iterations = 100_000;
+        long sink = lookups(frames, iterations); // warm-up / JIT
+        long tid = Thread.currentThread().threadId();
+
+        long before = mx.getThreadAllocatedBytes(tid);
+        sink += lookups(frames, iterations);
+        long allocated = mx.getThreadAllocatedBytes(tid) - before;
+
+        assertTrue(sink > 0);
+        assertTrue(allocated < iterations,
+                allocated + " bytes for " + iterations + " lookups");
+    }
+
+    private static long lookups(CountdownFrames frames, int n) {
+        long found = 0;
+        for (int i = 0; i < n; i++) {
+            if (frames.get(300 - i % 300) != null) found++;
+        }
+        return found;
+    }
+}
@@ -0,0 +1,126 @@
+package me.xiannn.addons.modules.cleanup;
+
+import org.bukkit.configuration.MemoryConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DropRateLimiterTest {
+
+    private static final UUID WORLD  = UUID.randomUUID();
+    private static final UUID PLAYER = UUID.randomUUID();
+
+    private final List<String> alerts = new ArrayList<>();
+    private DropRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        // Player: 10/s, burst 4. Chunk: 100/s, burst 2 for dispensers.
+        MemoryConfiguration cfg = new MemoryConfiguration();
+        cfg.set("enabled", true);
+        cfg.set("player.rate", 10);
+        cfg.set("player.burst", 4);
+        cfg.set("chunk.rate", 100);
+        cfg.set("chunk.burst", 100);
+        cfg.set("alert-cooldown", 30);
+
+        limiter = new DropRateLimiter(alerts::add);
+        limiter.load(cfg);
+    }
+
+    @Test
+    void burstThenDeny() {
+        for (int i = 0; i < 4; i++) {
+            assertFalse(drop(0, 0), "drop " + i);
+        }
+        assertTrue(drop(0, 0));
+        assertEquals(1, limiter.getTotalDenied());
+    }
+
+    @Test
+    void refillsPerTickIncludingAcrossDenials() {
+        for (int i = 0; i < 4; i++) drop(0, 0);
+
+        // 10/s = half a token per tick
+        assertTrue(drop(1, 0));
+        assertFalse(drop(2, 0));
+        assertTrue(drop(2, 0));
+    }
+
+    @Test
+    void refillIsCappedAtBurst() {
+        for (int i = 0; i < 4; i++) drop(0, 0);
+
+        int allowed = 0;
+        for (int i = 0; i < 10; i++) {
+            if (!drop(100_000, 0)) allowed++;
+        }
+        assertEquals(4, allowed);
+    }
+
+    @Test
+    void dispensersDrawOnlyFromTheChunk() {
+        MemoryConfiguration cfg = new MemoryConfiguration();
+        cfg.set("enabled", true);
+        cfg.set("chunk.burst", 2);
+        limiter.load(cfg);
+
+        assertFalse(limiter.onDispense("world", WORLD, 0, 64, 0, 0));
+        assertFalse(limiter.onDispense("world", WORLD, 1, 64, 1, 0));
+        assertTrue(limiter.onDispense("world", WORLD, 2, 64, 2, 0));
+
+        // The chunk is empty, so the player's drop is denied there
+        // but the player's own bucket was not charged
+        assertTrue(drop(0, 0));
+        assertFalse(drop(0, 1));
+    }
+
+    @Test
+    void alertsAreThrottledPerBucket() {
+        for (int i = 0; i < 4; i++) drop(0, 0);
+        drop(0, 0);
+        drop(0, 0);
+
+        assertEquals(1, alerts.size());
+
+        // Past the 30 s cooldown — one line, counting the blocked drops
+        for (int i = 0; i < 4; i++) drop(1_000, 0);
+        drop(1_000, 0);
+        assertEquals(2, alerts.size());
+        assertTrue(alerts.get(1).contains("drops blocked"));
+    }
+
+    @Test
+    void idleChunkBucketsArePruned() {
+        for (int i = 0; i < 4096; i++) {
+            limiter.onDispense("world", WORLD, i << 4, 64, 0, 0);
+        }
+        assertEquals(4096, limiter.getTrackedChunks());
+
+        // Long after: the next new chunk prunes every idle bucket
+        limiter.onDispense("world", WORLD, 5000 << 4, 64, 0, 10_000);
+        assertEquals(1, limiter.getTrackedChunks());
+    }
+
+    @Test
+    void busyChunkBucketsSurviveAPrune() {
+        for (int i = 0; i < 4096; i++) {
+            limiter.onDispense("world", WORLD, i << 4, 64, 0, 0);
+        }
+        limiter.onDispense("world", WORLD, 5000 << 4, 64, 0, 1);
+        assertEquals(4097, limiter.getTrackedChunks());
+    }
+
+    /** A drop by the test player in chunk (chunkX, 0). */
+    private boolean drop(int tick, int chunkX) {
+        return limiter.onPlayerDrop(PLAYER, "Steve", "world", WORLD,
+                chunkX, 0, tick);
+    }
+}
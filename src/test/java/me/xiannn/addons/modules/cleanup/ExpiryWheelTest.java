@@ -0,0 +1,91 @@
+package me.xiannn.addons.modules.cleanup;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExpiryWheelTest {
+
+    @Test
+    void firesOnlyDueEntries() {
+        ExpiryWheel<String> wheel = new ExpiryWheel<>(20, 8, 0L);
+        wheel.schedule("a", 10L);
+        wheel.schedule("b", 50L);
+
+        assertEquals(List.of("a"), advance(wheel, 10L, 100));
+        assertEquals(List.of(), advance(wheel, 49L, 100));
+        assertEquals(List.of("b"), advance(wheel, 50L, 100));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void pastDeadlineFiresOnNextAdvance() {
+        ExpiryWheel<String> wheel = new ExpiryWheel<>(20, 8, 100L);
+        wheel.schedule("late", 40L);
+
+        assertEquals(List.of("late"), advance(wheel, 100L, 100));
+    }
+
+    @Test
+    void capCarriesOverToNextCall() {
+        ExpiryWheel<Integer> wheel = new ExpiryWheel<>(20, 8, 0L);
+        for (int i = 0; i < 5; i++) wheel.schedule(i, i);
+
+        assertEquals(List.of(0, 1), advance(wheel, 4L, 2));
+        assertEquals(3, wheel.size());
+        assertEquals(List.of(2, 3), advance(wheel, 4L, 2));
+        assertEquals(List.of(4), advance(wheel, 4L, 2));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void entryBeyondOneRotationWaitsForItsDeadline() {
+        ExpiryWheel<String> wheel = new ExpiryWheel<>(1, 4, 0L);
+        wheel.schedule("far", 10L);
+
+        assertEquals(List.of(), advance(wheel, 2L, 100));
+        assertEquals(List.of(), advance(wheel, 9L, 100));
+        assertEquals(List.of("far"), advance(wheel, 10L, 100));
+    }
+
+    /**
+     * A value rescheduled for a later tick from inside the sink must
+     * not fire again in the same advance.
+     */
+    @Test
+    void rescheduleFromSinkWaitsForLaterTick() {
+        ExpiryWheel<String> wheel = new ExpiryWheel<>(20, 8, 0L);
+        wheel.schedule("zone", 5L);
+
+        List<String> fired = new ArrayList<>();
+        int count = wheel.advance(5L, 100, v -> {
+            fired.add(v);
+            wheel.schedule(v, 6L);
+        });
+
+        assertEquals(1, count);
+        assertEquals(List.of("zone"), fired);
+        assertEquals(List.of("zone"), advance(wheel, 6L, 100));
+    }
+
+    @Test
+    void clearEmptiesTheWheel() {
+        ExpiryWheel<String> wheel = new ExpiryWheel<>(20, 8, 0L);
+        wheel.schedule("a", 10L);
+        wheel.clear();
+
+        assertEquals(0, wheel.size());
+        assertTrue(advance(wheel, 1_000L, 100).isEmpty());
+    }
+
+    private static <T> List<T> advance(ExpiryWheel<T> wheel, long now,
+                                       int max) {
+        List<T> fired = new ArrayList<>();
+        wheel.advance(now, max, fired::add);
+        return fired;
+    }
+}
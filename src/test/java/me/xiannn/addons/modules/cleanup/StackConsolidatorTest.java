@@ -0,0 +1,57 @@
+package me.xiannn.addons.modules.cleanup;
+
+import org.bukkit.entity.Item;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StackConsolidatorTest {
+
+    @Test
+    void oldTargetTakesTheYoungAge() {
+        Item old   = item(6000, 0);
+        Item young = item(20, 10);
+
+        StackConsolidator.inheritYounger(young, old);
+
+        assertEquals(20, old.getTicksLived());
+        assertEquals(10, old.getPickupDelay());
+    }
+
+    @Test
+    void youngTargetKeepsItsAge() {
+        Item old   = item(6000, 0);
+        Item young = item(20, 10);
+
+        StackConsolidator.inheritYounger(old, young);
+
+        assertEquals(20, young.getTicksLived());
+        assertEquals(10, young.getPickupDelay());
+    }
+
+    /** An {@link Item} holding only an age and a pickup delay. */
+    private static Item item(int ticksLived, int pickupDelay) {
+        Map<String, Integer> state = new HashMap<>();
+        state.put("TicksLived", ticksLived);
+        state.put("PickupDelay", pickupDelay);
+
+        return (Item) Proxy.newProxyInstance(
+                Item.class.getClassLoader(),
+                new Class<?>[] { Item.class },
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.startsWith("get")) {
+                        return state.get(name.substring(3));
+                    }
+                    if (name.startsWith("set")) {
+                        state.put(name.substring(3), (Integer) args[0]);
+                        return null;
+                    }
+                    throw new UnsupportedOperationException(name);
+                });
+    }
+}
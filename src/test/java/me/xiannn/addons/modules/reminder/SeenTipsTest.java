@@ -0,0 +1,65 @@
+package me.xiannn.addons.modules.reminder;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SeenTipsTest {
+
+    @Test
+    void preferredUnseenTipIsKept() {
+        assertEquals(2, SeenTips.next(null, new long[] { 0b1111 }, 2));
+    }
+
+    @Test
+    void seenPreferredMovesToTheNextUnseen() {
+        assertEquals(3, SeenTips.next(new long[] { 0b0100 },
+                new long[] { 0b1111 }, 2));
+    }
+
+    @Test
+    void wrapsWithinASingleWord() {
+        assertEquals(0, SeenTips.next(new long[] { 0b1100 },
+                new long[] { 0b1111 }, 2));
+        assertEquals(0, SeenTips.next(null, new long[] { 0b01 }, 1));
+    }
+
+    @Test
+    void crossesIntoTheNextWord() {
+        assertEquals(69, SeenTips.next(null,
+                new long[] { 0L, 1L << 5 }, 10));
+    }
+
+    @Test
+    void wrapsFromTheLastWordToTheFirst() {
+        long[] allowed = { 1L << 3, 1L << 1 };
+        long[] seen    = { 0L, 1L << 1 };
+
+        assertEquals(3, SeenTips.next(seen, allowed, 65));
+    }
+
+    @Test
+    void highestBitOfAWordIsReachable() {
+        assertEquals(63, SeenTips.next(null,
+                new long[] { 1L << 63, 1L }, 40));
+    }
+
+    @Test
+    void preferredPastTheEndStartsFromZero() {
+        assertEquals(7, SeenTips.next(null, new long[] { 1L << 7 }, 200));
+    }
+
+    @Test
+    void seenBitmapShorterThanAllowedCountsAsUnseen() {
+        assertEquals(70, SeenTips.next(new long[] { -1L },
+                new long[] { -1L, 1L << 6 }, 0));
+    }
+
+    @Test
+    void nothingAllowedOrEverythingSeen() {
+        assertEquals(-1, SeenTips.next(null, new long[0], 0));
+        assertEquals(-1, SeenTips.next(null, new long[] { 0L, 0L }, 5));
+        assertEquals(-1, SeenTips.next(new long[] { 0b111 },
+                new long[] { 0b111 }, 1));
+    }
+}
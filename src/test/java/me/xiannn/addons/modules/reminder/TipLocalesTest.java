@@ -0,0 +1,84 @@
+package me.xiannn.addons.modules.reminder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TipLocalesTest {
+
+    private TipLocales locales;
+    private int enUs, esEs, esMx, frFr;
+
+    @BeforeEach
+    void setUp() {
+        locales = new TipLocales();
+        enUs = locales.register("en_US");
+        esEs = locales.register("es-ES");
+        esMx = locales.register("es_mx");
+        frFr = locales.register("fr_fr");
+    }
+
+    @Test
+    void keysAreNormalizedAndNumbered() {
+        assertEquals(esEs, locales.register("ES_es"));
+        assertEquals(4, locales.size());
+        assertEquals("es_es", locales.key(esEs));
+        assertEquals(TipLocales.DEFAULT, locales.register("not a locale"));
+        assertNull(TipLocales.normalize("english"));
+    }
+
+    @Test
+    void playerLocaleFallsBackToTheLanguage() {
+        assertEquals(enUs, locales.resolve(Locale.US));
+        assertEquals(enUs, locales.resolve(Locale.UK));
+        assertEquals(TipLocales.DEFAULT,
+                locales.resolve(Locale.GERMANY));
+        assertEquals(TipLocales.DEFAULT, locales.resolve(null));
+    }
+
+    @Test
+    void resolveAllUsesExactThenLanguageThenDefault() {
+        assertEquals(Arrays.asList("hi", "hola", "hola", "hi"),
+                locales.resolveAll(Map.of(esEs, "hola"), "hi"));
+    }
+
+    @Test
+    void resolveAllPrefersTheExactVariant() {
+        assertEquals(Arrays.asList("hi", "es", "mx", "salut"),
+                locales.resolveAll(
+                        Map.of(esEs, "es", esMx, "mx", frFr, "salut"),
+                        "hi"));
+    }
+
+    @Test
+    void resolveAllWithNoLocalesIsEmpty() {
+        assertTrue(new TipLocales()
+                .resolveAll(Map.of(), "hi").isEmpty());
+    }
+
+    @Test
+    void coversOnlyTranslatedLanguages() {
+        Map<Integer, String> spanish = Map.of(esMx, "hola");
+
+        assertTrue(locales.covers(spanish, esEs));
+        assertTrue(locales.covers(spanish, esMx));
+        assertFalse(locales.covers(spanish, enUs));
+    }
+
+    @Test
+    void onlyIsoLanguagesCountAsTranslations() {
+        assertTrue(TipLocales.isIsoLanguage("de"));
+        assertTrue(TipLocales.isIsoLanguage("pt_br"));
+        assertTrue(TipLocales.isIsoLanguage("deu"));
+        assertFalse(TipLocales.isIsoLanguage("zz"));
+        assertFalse(TipLocales.isIsoLanguage("qq_up"));
+    }
+}
@@ -0,0 +1,163 @@
+package me.xiannn.addons.modules.reminder;
+
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TipSchedulerTest {
+
+    private static final List<String> FOUR =
+            List.of("tip_1.yml", "tip_2.yml", "tip_3.yml", "tip_4.yml");
+
+    @Test
+    void linearCyclesInOrder() {
+        TipScheduler scheduler = scheduler(List.of("a", "b", "c"));
+
+        assertEquals(0, scheduler.next(0));
+        assertEquals(1, scheduler.next(0));
+        assertEquals(2, scheduler.next(0));
+        assertEquals(0, scheduler.next(0));
+    }
+
+    @Test
+    void removedCursorMovesToTheTipAfterIt() {
+        TipScheduler scheduler = scheduler(FOUR);
+        scheduler.next(0);
+        scheduler.next(0); // cursor now on tip_3
+
+        scheduler.setTips(List.of("tip_1.yml", "tip_2.yml", "tip_4.yml"),
+                ones(3), zeros(3));
+
+        assertEquals(2, scheduler.next(0)); // tip_4, not tip_1
+    }
+
+    @Test
+    void removedLastCursorWrapsToTheFirstTip() {
+        TipScheduler scheduler = scheduler(List.of("a", "b", "c"));
+        scheduler.next(0);
+        scheduler.next(0); // cursor now on c
+
+        scheduler.setTips(List.of("a", "b"), ones(2), zeros(2));
+
+        assertEquals(0, scheduler.next(0));
+    }
+
+    @Test
+    void removedCursorIsPlacedAfterRestart() throws Exception {
+        TipScheduler before = scheduler(FOUR);
+        before.next(0);
+        before.next(0); // cursor now on tip_3
+        YamlConfiguration saved = roundTrip(before);
+
+        TipScheduler after = scheduler(
+                List.of("tip_1.yml", "tip_2.yml", "tip_4.yml"));
+        after.load(saved);
+
+        assertEquals(2, after.next(0));
+    }
+
+    @Test
+    void coolingTipsAreSkipped() {
+        TipScheduler scheduler = new TipScheduler(Comparator.naturalOrder());
+        scheduler.setTips(List.of("a", "b", "c"), ones(3),
+                new long[] { 0, 100, 0 });
+
+        assertEquals(0, scheduler.next(0));
+        assertEquals(1, scheduler.next(1));
+        assertEquals(2, scheduler.next(2));
+        assertEquals(0, scheduler.next(3));
+        assertEquals(2, scheduler.next(4)); // b cools until 101
+    }
+
+    @Test
+    void markShownStartsTheCooldown() {
+        TipScheduler scheduler = new TipScheduler(Comparator.naturalOrder());
+        scheduler.setTips(List.of("a", "b"), ones(2),
+                new long[] { 50, 0 });
+        scheduler.markShown(0, 0);
+
+        assertArrayEquals(new long[] { 0b10 }, scheduler.available(1));
+        assertEquals(1, scheduler.next(1));
+        assertEquals(1, scheduler.next(2));
+        assertEquals(0, scheduler.next(50));
+    }
+
+    @Test
+    void shuffleBagDrawsEachTipWeightTimes() {
+        TipScheduler scheduler = new TipScheduler(Comparator.naturalOrder());
+        scheduler.setOrder(TipScheduler.Order.SHUFFLE);
+        scheduler.setTips(List.of("a", "b", "c"), new int[] { 1, 2, 3 },
+                zeros(3));
+
+        int[] drawn = new int[3];
+        for (int i = 0; i < 6; i++) drawn[scheduler.next(0)]++;
+
+        assertArrayEquals(new int[] { 1, 2, 3 }, drawn);
+        assertEquals(0, scheduler.bagSize());
+    }
+
+    @Test
+    void bagSurvivesSaveAndLoad() throws Exception {
+        TipScheduler before = new TipScheduler(Comparator.naturalOrder());
+        before.setOrder(TipScheduler.Order.SHUFFLE);
+        before.setTips(FOUR, new int[] { 2, 2, 2, 2 }, zeros(4));
+        before.next(0);
+        before.next(0);
+        YamlConfiguration saved = roundTrip(before);
+
+        TipScheduler after = new TipScheduler(Comparator.naturalOrder());
+        after.setOrder(TipScheduler.Order.SHUFFLE);
+        after.setTips(FOUR, new int[] { 2, 2, 2, 2 }, zeros(4));
+        after.load(saved);
+
+        assertEquals(before.bagSize(), after.bagSize());
+        for (int i = before.bagSize(); i > 0; i--) {
+            assertEquals(before.next(0), after.next(0));
+        }
+    }
+
+    @Test
+    void tipAddedByReloadJoinsTheCurrentBag() {
+        TipScheduler scheduler = new TipScheduler(Comparator.naturalOrder());
+        scheduler.setOrder(TipScheduler.Order.SHUFFLE);
+        scheduler.setTips(List.of("a", "b"), ones(2), zeros(2));
+        scheduler.next(0);
+
+        scheduler.setTips(List.of("a", "b", "c"), new int[] { 1, 1, 2 },
+                zeros(3));
+
+        assertEquals(3, scheduler.bagSize());
+    }
+
+    private static TipScheduler scheduler(List<String> ids) {
+        TipScheduler scheduler = new TipScheduler(Comparator.naturalOrder());
+        scheduler.setTips(ids, ones(ids.size()), zeros(ids.size()));
+        return scheduler;
+    }
+
+    private static YamlConfiguration roundTrip(TipScheduler scheduler)
+            throws InvalidConfigurationException {
+        YamlConfiguration out = new YamlConfiguration();
+        scheduler.save(out);
+        YamlConfiguration in = new YamlConfiguration();
+        in.loadFromString(out.saveToString());
+        return in;
+    }
+
+    private static int[] ones(int n) {
+        int[] out = new int[n];
+        Arrays.fill(out, 1);
+        return out;
+    }
+
+    private static long[] zeros(int n) {
+        return new long[n];
+    }
+}